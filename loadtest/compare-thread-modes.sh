@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Roda pets-mixed.js contra o servidor nos dois modos de execução, com o mesmo banco,
+# e grava o resumo do k6 de cada rodada em loadtest/results/<modo>.json.
+#
+# Pré-requisitos: PostgreSQL acessível pelas propriedades spring.datasource.* (variáveis
+# SPRING_DATASOURCE_URL/USERNAME/PASSWORD) e k6 no PATH.
+#
+#   ./loadtest/compare-thread-modes.sh            # RATE=400 DURATION=2m
+#   RATE=800 DURATION=5m ./loadtest/compare-thread-modes.sh
+#
+# O que comparar entre platform.json e virtual-threads.json:
+#   - http_req_duration p(95)/p(99) por endpoint (tag name)
+#   - http_req_failed e dropped_iterations (servidor saturado)
+#   - /actuator/metrics/bichomania.db.concurrency.waiting e hikaricp.connections.pending
+#     durante a rodada: com threads virtuais a fila deve aparecer no limitador, não no Tomcat
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+RESULTS="$ROOT/loadtest/results"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:$PORT"
+mkdir -p "$RESULTS"
+
+"$ROOT/gradlew" -p "$ROOT" :modules:app:bootJar -q
+JAR="$(ls "$ROOT"/modules/app/build/libs/*.jar | grep -v plain | head -n 1)"
+
+run_mode() {
+    local mode="$1" profiles="$2"
+    echo ">> modo: $mode"
+    java -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profiles" \
+        > "$RESULTS/$mode.log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until curl -fs "$BASE_URL/actuator/health" > /dev/null; do sleep 1; done
+
+    k6 run --quiet \
+        -e BASE_URL="$BASE_URL" -e RATE="${RATE:-400}" -e DURATION="${DURATION:-2m}" \
+        --summary-export "$RESULTS/$mode.json" \
+        "$ROOT/loadtest/pets-mixed.js"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform default
+run_mode virtual-threads virtual-threads
+
+echo ">> resumos em $RESULTS"
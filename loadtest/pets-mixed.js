@@ -0,0 +1,79 @@
+// Carga mista sobre /api/pets, usada para comparar os modos de execução
+// (threads de plataforma x threads virtuais). Ver compare-thread-modes.sh.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e RATE=400 pets-mixed.js
+import http from 'k6/http';
+import { check } from 'k6';
+import exec from 'k6/execution';
+import { uuidv4 } from 'https://jslib.k6.io/k6-utils/1.4.0/index.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = Number(__ENV.RATE || 400);
+const DURATION = __ENV.DURATION || '2m';
+const PETS = Number(__ENV.PETS || 200);
+const GUARDIANS = Number(__ENV.GUARDIANS || 40);
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export const options = {
+    scenarios: {
+        mixed: {
+            // Taxa de chegada fixa: se o servidor satura, a latência sobe em vez de a carga cair
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const guardians = Array.from({ length: GUARDIANS }, () => uuidv4());
+    const pets = [];
+    for (let i = 0; i < PETS; i++) {
+        const res = http.post(`${BASE_URL}/api/pets`, JSON.stringify({
+            guardianId: guardians[i % GUARDIANS],
+            name: `Carga ${i}`,
+            birthDate: '2020-01-01',
+            breed: 'SRD',
+            sex: i % 2 === 0 ? 'MALE' : 'FEMALE',
+            isCastrated: true,
+            history: 'Histórico gerado pelo teste de carga.',
+        }), { headers: JSON_HEADERS });
+        check(res, { 'setup: pet criado': (r) => r.status === 201 });
+        pets.push(res.json('id'));
+    }
+    return { guardians, pets };
+}
+
+export default function (data) {
+    const n = exec.scenario.iterationInTest;
+    const petId = data.pets[n % data.pets.length];
+    const roll = n % 10;
+
+    let res;
+    if (roll < 4) {
+        res = http.get(`${BASE_URL}/api/pets/${petId}`, { tags: { name: 'GET /api/pets/{id}' } });
+    } else if (roll < 6) {
+        const guardianId = data.guardians[n % data.guardians.length];
+        res = http.get(`${BASE_URL}/api/pets/guardian/${guardianId}`, { tags: { name: 'GET /api/pets/guardian/{id}' } });
+    } else if (roll < 8) {
+        res = http.get(`${BASE_URL}/api/pets?limit=50`, { tags: { name: 'GET /api/pets' } });
+    } else {
+        res = http.post(`${BASE_URL}/api/pets/${petId}/vaccines`, JSON.stringify({
+            vaccineId: uuidv4(),
+            applicationDate: '2024-03-10',
+        }), {
+            headers: Object.assign({ Prefer: 'return=minimal' }, JSON_HEADERS),
+            tags: { name: 'POST /api/pets/{id}/vaccines' },
+        });
+    }
+    // 409 é esperado em appends concorrentes no mesmo pet (lock otimista)
+    check(res, { 'status 2xx/409': (r) => (r.status >= 200 && r.status < 300) || r.status === 409 });
+}
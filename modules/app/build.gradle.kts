@@ -7,7 +7,12 @@ plugins {
 dependencies {
     implementation(project(":modules:application"))
     implementation(project(":modules:infrastructure"))
+    implementation(project(":modules:presentation"))
     implementation(project(":modules:domain"))
     implementation(project(":modules:common"))
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    // ObservedAspect (@Observed nos serviços) e estatísticas do Hibernate no Micrometer
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("org.hibernate.orm:hibernate-micrometer")
 }
@@ -0,0 +1,35 @@
+package com.bichomania.clinicavet.command;
+
+import com.bichomania.clinicavet.application.pet.services.PetSearchService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Comando offline de reindexação completa da busca de pets:
+ * java -jar app.jar --spring.profiles.active=reindex
+ * Sobe sem servidor web nem tarefas agendadas (application-reindex.properties),
+ * reconstrói os índices e encerra o processo.
+ */
+@Component
+@Profile("reindex")
+public class SearchReindexCommand implements ApplicationRunner {
+
+    private final PetSearchService searchService;
+    private final ConfigurableApplicationContext context;
+
+    public SearchReindexCommand(PetSearchService searchService, ConfigurableApplicationContext context) {
+        this.searchService = searchService;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        searchService.reindex();
+        // O agendador mantém threads vivas: o encerramento precisa ser explícito
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
@@ -0,0 +1,17 @@
+package com.bichomania.clinicavet.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita @Async e @Scheduled.
+ * Os executores são os do Spring Boot (applicationTaskExecutor e taskScheduler): com
+ * spring.threads.virtual.enabled=true eles passam a criar threads virtuais, assim como o
+ * Tomcat e o executor das respostas assíncronas (StreamingResponseBody).
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ExecutionConfig {
+}
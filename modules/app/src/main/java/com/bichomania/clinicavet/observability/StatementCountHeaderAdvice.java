@@ -0,0 +1,36 @@
+package com.bichomania.clinicavet.observability;
+
+import com.bichomania.clinicavet.infrastructure.config.SqlStatementCounter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Modo dev: cabeçalho X-Query-Count com os comandos SQL emitidos pela requisição até a
+ * escrita do corpo. O corpo ainda não foi enviado nesse ponto, então o cabeçalho vai
+ * junto. Respostas em streaming (StreamingResponseBody) e sem corpo não o recebem.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "bichomania.observability.query-count-header", havingValue = "true")
+public class StatementCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Query-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        response.getHeaders().set(HEADER, Long.toString(SqlStatementCounter.current()));
+        return body;
+    }
+}
@@ -1,5 +1,7 @@
 plugins {
     java
+    id("org.springframework.boot")
+    id("io.spring.dependency-management")
 }
 
 group = "com.bichomania.clinicavet"
@@ -12,6 +14,16 @@ dependencies {
     implementation(project(":modules:domain"))
     implementation(project(":modules:common"))
 
+    implementation("org.springframework:spring-context")
+    implementation("org.springframework:spring-tx")
+    implementation("jakarta.validation:jakarta.validation-api")
+    implementation("jakarta.annotation:jakarta.annotation-api")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("io.micrometer:micrometer-core")
+
     implementation("org.mapstruct:mapstruct:1.5.5.Final")
     annotationProcessor("org.mapstruct:mapstruct-processor:1.5.5.Final")
+
+    testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
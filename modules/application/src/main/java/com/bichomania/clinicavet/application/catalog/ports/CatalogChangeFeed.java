@@ -0,0 +1,15 @@
+package com.bichomania.clinicavet.application.catalog.ports;
+
+/**
+ * Porta de notificação de mudanças nos catálogos de referência.
+ * A notificação não diz o que mudou: quem assina relê o catálogo inteiro.
+ * Implementada na camada de infraestrutura (LISTEN/NOTIFY do PostgreSQL).
+ */
+public interface CatalogChangeFeed {
+
+    /**
+     * Registra um listener chamado a cada mudança, fora da thread de quem alterou o catálogo.
+     * Também é chamado quando notificações podem ter sido perdidas (ex.: reconexão).
+     */
+    void subscribe(Runnable listener);
+}
@@ -0,0 +1,17 @@
+package com.bichomania.clinicavet.application.catalog.ports;
+
+import com.bichomania.clinicavet.domain.dewormer.Dewormer;
+import com.bichomania.clinicavet.domain.vaccine.Vaccine;
+
+import java.util.List;
+
+/**
+ * Porta de leitura completa dos catálogos de referência (vacinas e vermífugos).
+ * Implementada na camada de infraestrutura.
+ */
+public interface CatalogSourcePort {
+
+    List<Vaccine> findAllVaccines();
+
+    List<Dewormer> findAllDewormers();
+}
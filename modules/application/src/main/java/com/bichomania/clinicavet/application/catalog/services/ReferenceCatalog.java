@@ -0,0 +1,92 @@
+package com.bichomania.clinicavet.application.catalog.services;
+
+import com.bichomania.clinicavet.application.catalog.ports.CatalogChangeFeed;
+import com.bichomania.clinicavet.application.catalog.ports.CatalogSourcePort;
+import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.common.exception.dewormer.DewormerNotFoundException;
+import com.bichomania.clinicavet.common.exception.vaccine.VaccineNotFoundException;
+import com.bichomania.clinicavet.domain.dewormer.Dewormer;
+import com.bichomania.clinicavet.domain.vaccine.Vaccine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Catálogos de vacinas e vermífugos em memória.
+ *
+ * Os catálogos quase nunca mudam e são consultados a cada aplicação registrada; aqui
+ * eles ficam num snapshot imutável, lido sem lock nem round-trip ao banco.
+ * Uma mudança no banco gera uma notificação (CatalogChangeFeed) e o catálogo inteiro é
+ * relido num snapshot novo, trocado de uma vez (copy-on-write): quem está lendo continua
+ * com o anterior, consistente.
+ */
+@Service
+public class ReferenceCatalog {
+
+    private final CatalogSourcePort source;
+    private final CatalogChangeFeed changes;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public ReferenceCatalog(CatalogSourcePort source, CatalogChangeFeed changes) {
+        this.source = source;
+        this.changes = changes;
+    }
+
+    /**
+     * Assina as mudanças antes da primeira carga: uma alteração feita durante a carga
+     * gera uma nova releitura em vez de se perder.
+     */
+    @PostConstruct
+    public void load() {
+        changes.subscribe(this::refresh);
+        refresh();
+    }
+
+    /**
+     * Relê os dois catálogos e publica o novo snapshot.
+     * Sincronizado para que uma releitura mais antiga não sobrescreva uma mais nova.
+     */
+    public synchronized void refresh() {
+        snapshot = new Snapshot(
+                index(source.findAllVaccines(), Vaccine::getId),
+                index(source.findAllDewormers(), Dewormer::getId)
+        );
+    }
+
+    public Optional<Vaccine> findVaccine(UUID id) {
+        return Optional.ofNullable(snapshot.vaccines().get(id));
+    }
+
+    public Optional<Dewormer> findDewormer(UUID id) {
+        return Optional.ofNullable(snapshot.dewormers().get(id));
+    }
+
+    public Vaccine requireVaccine(UUID id) {
+        return findVaccine(id)
+                .orElseThrow(() -> new VaccineNotFoundException(ExceptionMessages.VACCINE_NOT_FOUND));
+    }
+
+    public Dewormer requireDewormer(UUID id) {
+        return findDewormer(id)
+                .orElseThrow(() -> new DewormerNotFoundException(ExceptionMessages.DEWORMER_NOT_FOUND));
+    }
+
+    private static <T> Map<UUID, T> index(List<T> entries, Function<T, UUID> id) {
+        Map<UUID, T> byId = new HashMap<>(entries.size() * 2);
+        for (T entry : entries) {
+            byId.put(id.apply(entry), entry);
+        }
+        return Map.copyOf(byId);
+    }
+
+    private record Snapshot(Map<UUID, Vaccine> vaccines, Map<UUID, Dewormer> dewormers) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+    }
+}
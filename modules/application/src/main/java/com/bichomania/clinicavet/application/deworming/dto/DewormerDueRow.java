@@ -0,0 +1,19 @@
+package com.bichomania.clinicavet.application.deworming.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Linha do export de vermifugação: próxima dose de um vermífugo para um pet.
+ */
+public record DewormerDueRow(
+        UUID petId,
+        UUID guardianId,
+        String petName,
+        UUID dewormerId,
+        String dewormerName,
+        LocalDate lastApplicationDate,
+        LocalDate nextDueDate,
+        boolean overdue
+) {
+}
@@ -0,0 +1,27 @@
+package com.bichomania.clinicavet.application.deworming.ports;
+
+import com.bichomania.clinicavet.application.deworming.dto.DewormerDueRow;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Porta do índice de próximas doses por (pet, vermífugo).
+ * Implementada na camada de infraestrutura.
+ */
+public interface DewormerDueIndexPort {
+
+    /**
+     * Grava a próxima dose do par (pet, vermífugo), na transação de quem chama.
+     * Uma aplicação retroativa não substitui uma entrada mais recente.
+     */
+    void record(UUID petId, UUID dewormerId, LocalDate lastApplicationDate, LocalDate nextDueDate);
+
+    /**
+     * Percorre as entradas com vencimento até {@code until} (inclusive), em ordem de vencimento,
+     * de um tutor ou da clínica inteira ({@code guardianId} nulo), sem acumular o resultado
+     * em memória. Deve ser chamado dentro de uma transação.
+     */
+    void streamDue(LocalDate until, LocalDate today, UUID guardianId, Consumer<DewormerDueRow> consumer);
+}
@@ -0,0 +1,69 @@
+package com.bichomania.clinicavet.application.deworming.services;
+
+import com.bichomania.clinicavet.application.deworming.dto.DewormerDueRow;
+import com.bichomania.clinicavet.application.deworming.ports.DewormerDueIndexPort;
+import com.bichomania.clinicavet.domain.dewormer.Dewormer;
+import com.bichomania.clinicavet.domain.dewormerapplication.DewormerApplication;
+import com.bichomania.clinicavet.domain.pet.Pet;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Agenda de vermifugação.
+ * A próxima dose é calculada na hora do registro, pela regra do vermífugo aplicada à
+ * idade do pet na data da aplicação, e gravada em dewormer_due_index; os exports leem só esse índice.
+ */
+@Service
+public class DewormerScheduleService {
+
+    public static final int DEFAULT_DAYS = 7;
+    public static final int MAX_DAYS = 90;
+
+    private final DewormerDueIndexPort dueIndex;
+
+    public DewormerScheduleService(DewormerDueIndexPort dueIndex) {
+        this.dueIndex = dueIndex;
+    }
+
+    /**
+     * Atualiza a próxima dose após uma aplicação, com o vermífugo já resolvido
+     * pelo catálogo em memória (ReferenceCatalog).
+     */
+    public void recordApplication(Pet pet, Dewormer dewormer, DewormerApplication application) {
+        LocalDate applicationDate = application.getApplicationDate();
+        dueIndex.record(
+                pet.getId(),
+                dewormer.getId(),
+                applicationDate,
+                // Faixa etária de quando a dose foi dada: um registro retroativo não usa a idade de hoje
+                dewormer.nextDueAfter(applicationDate, pet.calculateAgeInYears(applicationDate))
+        );
+    }
+
+    /**
+     * Doses vencidas ou a vencer nos próximos {@code days} dias dos pets de um tutor.
+     */
+    @Transactional(readOnly = true)
+    public void streamDueForGuardian(UUID guardianId, Integer days, Consumer<DewormerDueRow> consumer) {
+        LocalDate today = LocalDate.now();
+        dueIndex.streamDue(today.plusDays(window(days)), today, guardianId, consumer);
+    }
+
+    /**
+     * Doses vencidas ou a vencer nos próximos {@code days} dias de todos os pets da clínica.
+     * A transação somente leitura mantém o cursor JDBC aberto enquanto o consumer escreve.
+     */
+    @Transactional(readOnly = true)
+    public void streamDueForClinic(Integer days, Consumer<DewormerDueRow> consumer) {
+        LocalDate today = LocalDate.now();
+        dueIndex.streamDue(today.plusDays(window(days)), today, null, consumer);
+    }
+
+    private static int window(Integer days) {
+        return (days == null || days < 0) ? DEFAULT_DAYS : Math.min(days, MAX_DAYS);
+    }
+}
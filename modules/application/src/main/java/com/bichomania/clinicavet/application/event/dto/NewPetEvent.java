@@ -0,0 +1,18 @@
+package com.bichomania.clinicavet.application.event.dto;
+
+import java.util.UUID;
+
+/**
+ * Evento a gravar no outbox, na transação da escrita que o gerou.
+ */
+public record NewPetEvent(
+        PetEventType type,
+        UUID petId,
+        UUID guardianId,
+        UUID subjectId
+) {
+
+    public static NewPetEvent of(PetEventType type, UUID petId, UUID guardianId) {
+        return new NewPetEvent(type, petId, guardianId, null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.bichomania.clinicavet.application.event.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento do outbox já numerado pelo relay.
+ * position é o cursor do stream (crescente, sem lacunas); eventId identifica o evento
+ * para deduplicação, já que a entrega ao publicador é pelo menos uma vez.
+ * O evento só avisa o que mudou: o estado atual é lido da API.
+ */
+public record PetEvent(
+        long position,
+        long eventId,
+        PetEventType type,
+        UUID petId,
+        UUID guardianId,
+        UUID subjectId,
+        LocalDateTime occurredAt
+) {
+}
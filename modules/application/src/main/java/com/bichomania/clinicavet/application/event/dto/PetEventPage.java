@@ -0,0 +1,13 @@
+package com.bichomania.clinicavet.application.event.dto;
+
+import java.util.List;
+
+/**
+ * Página do stream de eventos. next é a posição do último item (ou o próprio after,
+ * quando a página vem vazia): o próximo poll usa after=next.
+ */
+public record PetEventPage(
+        List<PetEvent> items,
+        long next
+) {
+}
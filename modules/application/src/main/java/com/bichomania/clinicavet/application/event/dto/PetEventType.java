@@ -0,0 +1,14 @@
+package com.bichomania.clinicavet.application.event.dto;
+
+/**
+ * Tipos de evento do agregado Pet. Nos eventos de filhos, subjectId é o ID da aplicação
+ * ou do lembrete criado.
+ */
+public enum PetEventType {
+    PET_CREATED,
+    PET_UPDATED,
+    PET_DELETED,
+    VACCINE_APPLIED,
+    DEWORMER_APPLIED,
+    REMINDER_ADDED
+}
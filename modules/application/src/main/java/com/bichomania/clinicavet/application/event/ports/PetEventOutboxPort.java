@@ -0,0 +1,47 @@
+package com.bichomania.clinicavet.application.event.ports;
+
+import com.bichomania.clinicavet.application.event.dto.NewPetEvent;
+import com.bichomania.clinicavet.application.event.dto.PetEvent;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Porta do outbox de eventos do agregado Pet.
+ * Implementada na camada de infraestrutura.
+ */
+public interface PetEventOutboxPort {
+
+    /**
+     * Grava os eventos na transação de quem chama. Para manter a ordem por pet, quem chama
+     * já deve ter travado a linha do pet na mesma transação (lockForUpdate ou appendPending).
+     */
+    void appendAll(Collection<NewPetEvent> events);
+
+    /**
+     * Tenta o lock do relay até o fim da transação atual; false se outro nó o tem.
+     */
+    boolean tryLockRelay();
+
+    /**
+     * Numera até {@code limit} eventos confirmados ainda sem posição, em ordem de event_id,
+     * seguindo a última posição atribuída. Exige o lock do relay. Devolve quantos numerou.
+     */
+    int assignPositions(int limit);
+
+    /**
+     * Até {@code limit} eventos numerados e ainda não publicados, em ordem de position.
+     */
+    List<PetEvent> findUnpublished(int limit);
+
+    /**
+     * Marca como publicados os eventos até {@code throughPosition} (inclusive).
+     */
+    void markPublished(long throughPosition, LocalDateTime publishedAt);
+
+    /**
+     * Até {@code limit} eventos numerados com position maior que {@code after}, em ordem.
+     */
+    List<PetEvent> findAfter(long after, int limit);
+}
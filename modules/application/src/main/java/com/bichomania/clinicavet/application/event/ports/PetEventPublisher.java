@@ -0,0 +1,15 @@
+package com.bichomania.clinicavet.application.event.ports;
+
+import com.bichomania.clinicavet.application.event.dto.PetEvent;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos do outbox (fila, webhook de parceiros, analytics...).
+ * Recebe lotes em ordem de position. Uma exceção mantém o lote inteiro como não publicado,
+ * e ele é reenviado no próximo ciclo do relay: o destino deve deduplicar por eventId.
+ */
+public interface PetEventPublisher {
+
+    void publish(List<PetEvent> events);
+}
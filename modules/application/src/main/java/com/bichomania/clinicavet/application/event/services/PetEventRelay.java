@@ -0,0 +1,95 @@
+package com.bichomania.clinicavet.application.event.services;
+
+import com.bichomania.clinicavet.application.event.dto.PetEvent;
+import com.bichomania.clinicavet.application.event.ports.PetEventOutboxPort;
+import com.bichomania.clinicavet.application.event.ports.PetEventPublisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repassa o outbox de eventos ao PetEventPublisher, em lotes.
+ *
+ * Cada ciclo tem duas transações, ambas sob o lock do relay (um nó por vez):
+ * a primeira numera os eventos já confirmados, em ordem de event_id; a segunda publica
+ * os numerados e ainda não publicados, em ordem de position, e os marca.
+ * Uma falha do publicador desfaz só a marcação: o lote volta no próximo ciclo, e o stream
+ * de GET /api/events segue independente dele.
+ *
+ * Ordem por pet: toda escrita trava a linha do pet antes de gravar o evento (lockForUpdate
+ * no PATCH e no delete, o update de versão imediato do appendPending nos appends). A escrita
+ * seguinte de um pet espera o commit da anterior para gravar o seu evento, que então ganha
+ * event_id maior e nunca é numerado antes dele.
+ */
+@Service
+public class PetEventRelay {
+
+    private final PetEventOutboxPort outbox;
+    private final PetEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int batchSize;
+
+    @Autowired
+    public PetEventRelay(PetEventOutboxPort outbox, PetEventPublisher publisher,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${bichomania.events.relay.enabled:true}") boolean enabled,
+                         @Value("${bichomania.events.relay.batch-size:500}") int batchSize) {
+        this(outbox, publisher, transactionManager, Clock.systemDefaultZone(), enabled, batchSize);
+    }
+
+    PetEventRelay(PetEventOutboxPort outbox, PetEventPublisher publisher,
+                  PlatformTransactionManager transactionManager, Clock clock,
+                  boolean enabled, int batchSize) {
+        this.outbox = outbox;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Repete os lotes enquanto vierem cheios; para quando o outbox esvazia ou outro nó
+     * está com o lock.
+     */
+    @Scheduled(fixedDelayString = "${bichomania.events.relay.interval:PT1S}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        while (relayBatch() == batchSize) {
+            // próximo lote
+        }
+    }
+
+    // Devolve o tamanho do maior dos dois passos (0 quando não há nada ou sem o lock)
+    int relayBatch() {
+        Integer positioned = transactionTemplate.execute(status ->
+                outbox.tryLockRelay() ? outbox.assignPositions(batchSize) : null);
+        if (positioned == null) {
+            return 0;
+        }
+        Integer published = transactionTemplate.execute(status -> {
+            if (!outbox.tryLockRelay()) {
+                return 0;
+            }
+            List<PetEvent> events = outbox.findUnpublished(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            publisher.publish(events);
+            outbox.markPublished(events.get(events.size() - 1).position(), LocalDateTime.now(clock));
+            return events.size();
+        });
+        return Math.max(positioned, published == null ? 0 : published);
+    }
+}
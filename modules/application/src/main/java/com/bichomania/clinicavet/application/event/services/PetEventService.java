@@ -0,0 +1,36 @@
+package com.bichomania.clinicavet.application.event.services;
+
+import com.bichomania.clinicavet.application.event.dto.PetEvent;
+import com.bichomania.clinicavet.application.event.dto.PetEventPage;
+import com.bichomania.clinicavet.application.event.ports.PetEventOutboxPort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Stream de eventos para consumidores que puxam (GET /api/events?after=).
+ * Só eventos já numerados pelo PetEventRelay aparecem: uma posição, uma vez visível,
+ * nunca ganha um evento anterior a ela, então o cursor não pula nada.
+ */
+@Service
+public class PetEventService {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final PetEventOutboxPort outbox;
+
+    public PetEventService(PetEventOutboxPort outbox) {
+        this.outbox = outbox;
+    }
+
+    @Transactional(readOnly = true)
+    public PetEventPage findAfter(Long after, Integer limit) {
+        long from = (after == null || after < 0) ? 0 : after;
+        int pageSize = (limit == null || limit <= 0) ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        List<PetEvent> events = outbox.findAfter(from, pageSize);
+        long next = events.isEmpty() ? from : events.get(events.size() - 1).position();
+        return new PetEventPage(events, next);
+    }
+}
@@ -0,0 +1,92 @@
+package com.bichomania.clinicavet.application.pet.cache;
+
+import com.bichomania.clinicavet.application.pet.dto.GuardianPetList;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.bichomania.clinicavet.application.pet.ports.PetCacheInvalidationPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Cache em processo da listagem de pets por tutor (GET /api/pets/guardian/{guardianId}).
+ * Limitado por tamanho e TTL; hits/misses/evictions publicados como métricas "cache.*"
+ * com a tag cache=pets.by-guardian.
+ *
+ * A invalidação é por tutor e acontece após o commit da escrita. Como o carregamento
+ * de uma chave é atômico no Caffeine, uma invalidação concorrente espera o carregamento
+ * em andamento terminar e o remove, então uma leitura antiga não sobrevive à escrita.
+ * A invalidação também é anunciada aos demais nós (PetCacheInvalidationPort), na transação
+ * da escrita: nenhum nó segue servindo a lista antiga, com o tag antigo, até o TTL.
+ */
+@Component
+public class GuardianPetsCache {
+
+    public static final String CACHE_NAME = "pets.by-guardian";
+
+    private final Cache<UUID, GuardianPetList> cache;
+    private final PetCacheInvalidationPort invalidations;
+
+    public GuardianPetsCache(@Value("${bichomania.cache.guardian-pets.max-size:10000}") long maxSize,
+                             @Value("${bichomania.cache.guardian-pets.ttl:PT5M}") Duration ttl,
+                             ObjectProvider<MeterRegistry> meterRegistry,
+                             ObjectProvider<PetCacheInvalidationPort> invalidations) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+        this.invalidations = invalidations.getIfAvailable();
+        if (this.invalidations != null) {
+            this.invalidations.subscribe(CACHE_NAME, new PetCacheInvalidationPort.Listener() {
+                @Override
+                public void invalidate(Collection<String> keys) {
+                    cache.invalidateAll(keys.stream().map(UUID::fromString).toList());
+                }
+
+                @Override
+                public void invalidateAll() {
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+
+    public GuardianPetList get(UUID guardianId, Function<UUID, GuardianPetList> loader) {
+        return cache.get(guardianId, loader);
+    }
+
+    /**
+     * Remove a entrada do tutor quando a transação atual confirmar
+     * (ou imediatamente, fora de transação), neste nó e nos demais.
+     */
+    public void invalidateAfterCommit(UUID guardianId) {
+        if (guardianId == null) {
+            return;
+        }
+        if (invalidations != null) {
+            invalidations.publish(CACHE_NAME, List.of(guardianId.toString()));
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(guardianId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(guardianId);
+            }
+        });
+    }
+}
@@ -0,0 +1,114 @@
+package com.bichomania.clinicavet.application.pet.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.bichomania.clinicavet.application.pet.ports.PetCacheInvalidationPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Cache negativo da busca por microchip (GET /api/pets/by-microchip/{number}).
+ * Guarda só os chips sem pet (a maioria das leituras dos scanners), por TTL e com
+ * tamanho limitado; enquanto a entrada vale, o miss não chega ao banco.
+ * Métricas "cache.*" com a tag cache=pets.microchip-misses.
+ *
+ * O cadastro de um chip invalida a entrada após o commit. Como em GuardianPetsCache,
+ * o carregamento de uma chave é atômico no Caffeine: uma invalidação concorrente espera
+ * a consulta em andamento terminar e a remove, então um miss antigo não sobrevive ao cadastro.
+ * A invalidação também é anunciada aos demais nós (PetCacheInvalidationPort), na transação
+ * do cadastro: o chip recém-cadastrado deixa de dar 404 em todos eles, não só no que escreveu.
+ */
+@Component
+public class MicrochipMissCache {
+
+    public static final String CACHE_NAME = "pets.microchip-misses";
+
+    private final Cache<String, Boolean> misses;
+    private final PetCacheInvalidationPort invalidations;
+
+    public MicrochipMissCache(@Value("${bichomania.cache.microchip-misses.max-size:100000}") long maxSize,
+                              @Value("${bichomania.cache.microchip-misses.ttl:PT10M}") Duration ttl,
+                              ObjectProvider<MeterRegistry> meterRegistry,
+                              ObjectProvider<PetCacheInvalidationPort> invalidations) {
+        this.misses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, misses, CACHE_NAME));
+        this.invalidations = invalidations.getIfAvailable();
+        if (this.invalidations != null) {
+            this.invalidations.subscribe(CACHE_NAME, new PetCacheInvalidationPort.Listener() {
+                @Override
+                public void invalidate(Collection<String> keys) {
+                    misses.invalidateAll(keys);
+                }
+
+                @Override
+                public void invalidateAll() {
+                    misses.invalidateAll();
+                }
+            });
+        }
+    }
+
+    /**
+     * Consulta o loader só se o chip não estiver marcado como ausente.
+     * Resultado vazio marca o chip; resultado encontrado não é guardado.
+     */
+    public <T> Optional<T> lookup(String canonicalNumber, Function<String, Optional<T>> loader) {
+        AtomicReference<Optional<T>> loaded = new AtomicReference<>();
+        misses.get(canonicalNumber, number -> {
+            Optional<T> result = loader.apply(number);
+            loaded.set(result);
+            // null: o Caffeine não cria a entrada
+            return result.isEmpty() ? Boolean.TRUE : null;
+        });
+        // Loader não chamado: o chip já estava marcado como ausente
+        Optional<T> result = loaded.get();
+        return result != null ? result : Optional.empty();
+    }
+
+    public void invalidateAfterCommit(String canonicalNumber) {
+        if (canonicalNumber != null) {
+            invalidateAllAfterCommit(List.of(canonicalNumber));
+        }
+    }
+
+    /**
+     * Remove as marcas dos chips quando a transação atual confirmar
+     * (ou imediatamente, fora de transação), neste nó e nos demais.
+     */
+    public void invalidateAllAfterCommit(Collection<String> canonicalNumbers) {
+        List<String> numbers = canonicalNumbers.stream().filter(Objects::nonNull).toList();
+        if (numbers.isEmpty()) {
+            return;
+        }
+        if (invalidations != null) {
+            invalidations.publish(CACHE_NAME, numbers);
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            misses.invalidateAll(numbers);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                misses.invalidateAll(numbers);
+            }
+        });
+    }
+}
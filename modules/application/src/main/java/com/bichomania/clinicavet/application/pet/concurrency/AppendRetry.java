@@ -0,0 +1,97 @@
+package com.bichomania.clinicavet.application.pet.concurrency;
+
+import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.common.exception.pet.PetConcurrentUpdateException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Repetição limitada, no servidor, dos appends que perderam a corrida do lock otimista.
+ *
+ * Um append (vacina, vermífugo, lembrete) só insere uma linha filha e incrementa a versão
+ * do pet; não depende do estado que leu, então refazê-lo numa transação nova dá o mesmo
+ * resultado que teria dado sem a disputa. Cada tentativa é uma transação inteira
+ * (quem chama passa o trabalho já envolvido no TransactionTemplate). Entre tentativas,
+ * espera aleatória em [0, min(teto, base * 2^n)] ("full jitter"), para que os perdedores
+ * não colidam de novo no mesmo instante.
+ *
+ * Esgotadas as tentativas, a falha vira PetConcurrentUpdateException (409).
+ * Métricas, com a tag operation:
+ * bichomania.pets.append.retries (tentativas repetidas) e
+ * bichomania.pets.append.exhausted (appends que desistiram).
+ */
+@Component
+public class AppendRetry {
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final MeterRegistry registry;
+
+    @Autowired
+    public AppendRetry(@Value("${bichomania.pets.append-retry.max-attempts:4}") int maxAttempts,
+                       @Value("${bichomania.pets.append-retry.initial-backoff:PT0.01S}") Duration initialBackoff,
+                       @Value("${bichomania.pets.append-retry.max-backoff:PT0.2S}") Duration maxBackoff,
+                       ObjectProvider<MeterRegistry> meterRegistry) {
+        this(maxAttempts, initialBackoff, maxBackoff, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    AppendRetry(int maxAttempts, Duration initialBackoff, Duration maxBackoff, MeterRegistry registry) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts >= 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.registry = registry;
+    }
+
+    /**
+     * Executa a tentativa, repetindo-a enquanto falhar por lock otimista.
+     * Outras exceções passam direto, sem nova tentativa.
+     */
+    public <T> T execute(String operation, Supplier<T> attempt) {
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return attempt.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attemptNumber >= maxAttempts) {
+                    counter("bichomania.pets.append.exhausted", operation).increment();
+                    throw new PetConcurrentUpdateException(ExceptionMessages.PET_CONCURRENT_UPDATE, e);
+                }
+                counter("bichomania.pets.append.retries", operation).increment();
+                backOff(attemptNumber, e);
+            }
+        }
+    }
+
+    private void backOff(int attemptNumber, OptimisticLockingFailureException cause) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attemptNumber - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        if (delay == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PetConcurrentUpdateException(ExceptionMessages.PET_CONCURRENT_UPDATE, cause);
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
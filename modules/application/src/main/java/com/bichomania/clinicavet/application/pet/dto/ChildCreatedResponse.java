@@ -0,0 +1,13 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import java.util.UUID;
+
+/**
+ * Resposta mínima de um append (vacina, vermífugo ou lembrete):
+ * ID do filho criado e a versão do agregado Pet após a gravação.
+ */
+public record ChildCreatedResponse(
+        UUID id,
+        long version
+) {
+}
@@ -0,0 +1,16 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Payload de registro de aplicação de vermífugo.
+ */
+public record DewormerApplicationRequest(
+        @NotNull UUID dewormerId,
+        @NotNull @PastOrPresent LocalDate applicationDate
+) {
+}
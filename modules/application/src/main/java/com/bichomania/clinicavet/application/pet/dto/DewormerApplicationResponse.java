@@ -0,0 +1,24 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import com.bichomania.clinicavet.domain.dewormerapplication.DewormerApplication;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record DewormerApplicationResponse(
+        UUID id,
+        UUID dewormerId,
+        LocalDate applicationDate,
+        LocalDateTime createdAt
+) {
+
+    public static DewormerApplicationResponse from(DewormerApplication application) {
+        return new DewormerApplicationResponse(
+                application.getId(),
+                application.getDewormerId(),
+                application.getApplicationDate(),
+                application.getCreatedAt()
+        );
+    }
+}
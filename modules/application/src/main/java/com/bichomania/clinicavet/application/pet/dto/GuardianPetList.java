@@ -0,0 +1,13 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import java.util.List;
+
+/**
+ * Resumos dos pets de um tutor junto com o versionTag (PetRepositoryPort.findGuardianVersionTag)
+ * lido antes deles: a lista é no mínimo tão nova quanto o tag.
+ */
+public record GuardianPetList(
+        String versionTag,
+        List<PetSummaryResponse> pets
+) {
+}
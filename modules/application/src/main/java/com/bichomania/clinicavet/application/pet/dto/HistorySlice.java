@@ -0,0 +1,13 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import java.io.OutputStream;
+
+/**
+ * Trecho do histórico clínico a copiar ([offset, offset + length)) e o stream de destino.
+ */
+public record HistorySlice(
+        long offset,
+        long length,
+        OutputStream out
+) {
+}
@@ -0,0 +1,7 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+public record PetImportError(
+        int line,
+        String message
+) {
+}
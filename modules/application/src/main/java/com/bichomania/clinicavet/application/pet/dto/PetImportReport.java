@@ -0,0 +1,14 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import java.util.List;
+
+/**
+ * Resultado da importação em massa: totais e erros por linha.
+ * Linhas com erro não interrompem a importação das demais.
+ */
+public record PetImportReport(
+        int totalRows,
+        int imported,
+        List<PetImportError> errors
+) {
+}
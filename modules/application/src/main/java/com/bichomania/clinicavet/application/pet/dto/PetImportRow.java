@@ -0,0 +1,20 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+/**
+ * Linha lida do arquivo de importação em massa.
+ * Quando a linha não pôde ser interpretada, request é nulo e parseError descreve o problema.
+ */
+public record PetImportRow(
+        int line,
+        PetRequest request,
+        String parseError
+) {
+
+    public static PetImportRow parsed(int line, PetRequest request) {
+        return new PetImportRow(line, request, null);
+    }
+
+    public static PetImportRow failed(int line, String parseError) {
+        return new PetImportRow(line, null, parseError);
+    }
+}
@@ -0,0 +1,13 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import java.util.List;
+
+/**
+ * Página de resumos de pets paginada por cursor (keyset).
+ * nextCursor é nulo quando não há mais páginas.
+ */
+public record PetPage(
+        List<PetSummaryResponse> items,
+        String nextCursor
+) {
+}
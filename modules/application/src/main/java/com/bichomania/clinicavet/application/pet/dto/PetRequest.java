@@ -0,0 +1,25 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import com.bichomania.clinicavet.domain.pet.Sex;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Payload de criação de pet (POST /api/pets).
+ */
+public record PetRequest(
+        @NotNull UUID guardianId,
+        @NotBlank @Size(max = 100) String name,
+        @NotNull @PastOrPresent LocalDate birthDate,
+        @NotBlank @Size(max = 50) String breed,
+        @NotNull Sex sex,
+        @NotNull Boolean isCastrated,
+        @Size(max = 30) String microchipNumber,
+        String history
+) {
+}
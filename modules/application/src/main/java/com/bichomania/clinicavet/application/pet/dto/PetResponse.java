@@ -0,0 +1,48 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.domain.pet.Sex;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Representação completa do agregado Pet devolvida pela API.
+ * O histórico clínico não entra aqui: é servido à parte por GET /api/pets/{id}/history.
+ */
+public record PetResponse(
+        UUID id,
+        UUID guardianId,
+        String name,
+        LocalDate birthDate,
+        String breed,
+        Sex sex,
+        Boolean isCastrated,
+        String microchipNumber,
+        List<VaccineApplicationResponse> vaccineApplications,
+        List<DewormerApplicationResponse> dewormerApplications,
+        List<ReminderResponse> reminders,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static PetResponse from(Pet pet) {
+        return new PetResponse(
+                pet.getId(),
+                pet.getGuardianId(),
+                pet.getName(),
+                pet.getBirthDate(),
+                pet.getBreed(),
+                pet.getSex(),
+                pet.getIsCastrated(),
+                pet.getMicrochipNumber(),
+                pet.getVaccineApplications().stream().map(VaccineApplicationResponse::from).toList(),
+                pet.getDewormerApplications().stream().map(DewormerApplicationResponse::from).toList(),
+                pet.getReminders().stream().map(ReminderResponse::from).toList(),
+                pet.getCreatedAt(),
+                pet.getUpdatedAt()
+        );
+    }
+}
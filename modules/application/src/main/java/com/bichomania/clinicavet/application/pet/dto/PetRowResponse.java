@@ -0,0 +1,26 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import com.bichomania.clinicavet.domain.pet.Sex;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Linha plana da tabela de pets, sem coleções nem histórico clínico.
+ * Usada no export em streaming (NDJSON), onde cada linha é escrita
+ * na resposta assim que sai do cursor JDBC.
+ */
+public record PetRowResponse(
+        UUID id,
+        UUID guardianId,
+        String name,
+        LocalDate birthDate,
+        String breed,
+        Sex sex,
+        Boolean isCastrated,
+        String microchipNumber,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
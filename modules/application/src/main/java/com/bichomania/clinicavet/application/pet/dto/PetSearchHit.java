@@ -0,0 +1,19 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import com.bichomania.clinicavet.domain.pet.Sex;
+
+import java.util.UUID;
+
+/**
+ * Resultado da busca de pets: dados de identificação e a relevância (maior primeiro).
+ */
+public record PetSearchHit(
+        UUID id,
+        UUID guardianId,
+        String name,
+        String breed,
+        Sex sex,
+        String microchipNumber,
+        float rank
+) {
+}
@@ -0,0 +1,12 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import java.util.List;
+
+/**
+ * Página da busca de pets, em ordem de relevância. nextCursor é nulo na última página.
+ */
+public record PetSearchPage(
+        List<PetSearchHit> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,25 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import com.bichomania.clinicavet.domain.pet.Sex;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Resumo do pet para as listagens, lido do modelo de leitura (PetSummaryPort).
+ * ageYears é calculada na leitura; lastVaccineDate é nula enquanto o pet não tiver vacina.
+ */
+public record PetSummaryResponse(
+        UUID id,
+        UUID guardianId,
+        String name,
+        String breed,
+        Sex sex,
+        LocalDate birthDate,
+        int ageYears,
+        LocalDate lastVaccineDate,
+        int pendingReminders,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import jakarta.validation.constraints.Size;
+
+/**
+ * Payload de atualização parcial de pet (PATCH /api/pets/{id}).
+ * Campos nulos são ignorados.
+ */
+public record PetUpdateRequest(
+        @Size(max = 50) String breed,
+        @Size(max = 30) String microchipNumber,
+        String history
+) {
+}
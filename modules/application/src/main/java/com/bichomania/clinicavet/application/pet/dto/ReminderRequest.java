@@ -0,0 +1,15 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payload de criação de lembrete.
+ */
+public record ReminderRequest(
+        @NotBlank String description,
+        @NotNull LocalDateTime dueAt
+) {
+}
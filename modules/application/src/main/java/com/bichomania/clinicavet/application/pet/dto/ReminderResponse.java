@@ -0,0 +1,23 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import com.bichomania.clinicavet.domain.pet.Reminder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ReminderResponse(
+        UUID id,
+        String description,
+        LocalDateTime dueAt,
+        boolean completed
+) {
+
+    public static ReminderResponse from(Reminder reminder) {
+        return new ReminderResponse(
+                reminder.getId(),
+                reminder.getDescription(),
+                reminder.getDueAt(),
+                reminder.isCompleted()
+        );
+    }
+}
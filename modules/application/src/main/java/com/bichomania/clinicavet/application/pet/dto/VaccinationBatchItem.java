@@ -0,0 +1,16 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Uma dose aplicada em campanha: (pet, vacina, data).
+ */
+public record VaccinationBatchItem(
+        @NotNull UUID petId,
+        @NotNull UUID vaccineId,
+        @NotNull LocalDate applicationDate
+) {
+}
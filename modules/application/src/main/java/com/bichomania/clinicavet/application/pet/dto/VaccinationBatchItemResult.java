@@ -0,0 +1,29 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import java.util.UUID;
+
+/**
+ * Resultado de um item do lote, na mesma posição (index) do item enviado.
+ * applicationId só é preenchido quando a dose foi registrada.
+ */
+public record VaccinationBatchItemResult(
+        int index,
+        UUID petId,
+        UUID applicationId,
+        Status status,
+        String error
+) {
+
+    public enum Status {
+        RECORDED,
+        FAILED
+    }
+
+    public static VaccinationBatchItemResult recorded(int index, UUID petId, UUID applicationId) {
+        return new VaccinationBatchItemResult(index, petId, applicationId, Status.RECORDED, null);
+    }
+
+    public static VaccinationBatchItemResult failed(int index, UUID petId, String error) {
+        return new VaccinationBatchItemResult(index, petId, null, Status.FAILED, error);
+    }
+}
@@ -0,0 +1,15 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Payload de registro de vacinas em lote (POST /api/pets/vaccines/batch).
+ */
+public record VaccinationBatchRequest(
+        @NotEmpty @Size(max = 10_000) List<@Valid VaccinationBatchItem> items
+) {
+}
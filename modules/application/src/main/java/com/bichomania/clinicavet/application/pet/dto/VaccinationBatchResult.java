@@ -0,0 +1,10 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import java.util.List;
+
+public record VaccinationBatchResult(
+        int recorded,
+        int failed,
+        List<VaccinationBatchItemResult> items
+) {
+}
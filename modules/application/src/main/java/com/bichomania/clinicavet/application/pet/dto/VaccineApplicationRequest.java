@@ -0,0 +1,16 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Payload de registro de aplicação de vacina.
+ */
+public record VaccineApplicationRequest(
+        @NotNull UUID vaccineId,
+        @NotNull @PastOrPresent LocalDate applicationDate
+) {
+}
@@ -0,0 +1,24 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+import com.bichomania.clinicavet.domain.vaccineapplication.VaccineApplication;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record VaccineApplicationResponse(
+        UUID id,
+        UUID vaccineId,
+        LocalDate applicationDate,
+        LocalDateTime createdAt
+) {
+
+    public static VaccineApplicationResponse from(VaccineApplication application) {
+        return new VaccineApplicationResponse(
+                application.getId(),
+                application.getVaccineId(),
+                application.getApplicationDate(),
+                application.getCreatedAt()
+        );
+    }
+}
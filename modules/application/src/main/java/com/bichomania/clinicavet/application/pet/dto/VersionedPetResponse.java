@@ -0,0 +1,11 @@
+package com.bichomania.clinicavet.application.pet.dto;
+
+/**
+ * Pet junto com a versão do agregado gravada (PetEntity.version),
+ * para o ETag da resposta de uma escrita.
+ */
+public record VersionedPetResponse(
+        PetResponse pet,
+        long version
+) {
+}
@@ -0,0 +1,37 @@
+package com.bichomania.clinicavet.application.pet.pagination;
+
+import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.common.exception.pagination.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de paginação keyset sobre (created_at, pet_id).
+ * O cliente recebe o cursor opaco (Base64 URL-safe) e o devolve para buscar a próxima página;
+ * o banco continua a varredura do índice a partir dessa tupla, sem OFFSET.
+ */
+public record PetCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new PetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(ExceptionMessages.INVALID_CURSOR, e);
+        }
+    }
+}
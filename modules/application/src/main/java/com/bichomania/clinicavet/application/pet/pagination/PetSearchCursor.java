@@ -0,0 +1,36 @@
+package com.bichomania.clinicavet.application.pet.pagination;
+
+import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.common.exception.pagination.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de paginação keyset da busca, sobre (rank desc, pet_id).
+ * O rank vai no cursor com todos os bits (Float.toString faz o round-trip exato),
+ * para que a comparação no banco continue exatamente do último item.
+ */
+public record PetSearchCursor(float rank, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PetSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new PetSearchCursor(
+                    Float.parseFloat(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(ExceptionMessages.INVALID_CURSOR, e);
+        }
+    }
+}
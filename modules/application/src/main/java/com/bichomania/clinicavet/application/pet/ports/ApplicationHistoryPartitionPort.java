@@ -0,0 +1,29 @@
+package com.bichomania.clinicavet.application.pet.ports;
+
+import java.util.List;
+
+/**
+ * Porta das partições anuais do histórico de aplicações (vaccine_applications e
+ * dewormer_applications, particionadas por application_date).
+ * Implementada na camada de infraestrutura; cada método roda na transação de quem chama.
+ */
+public interface ApplicationHistoryPartitionPort {
+
+    /**
+     * Garante uma partição por ano até {@code lastYear} (inclusive) nas duas tabelas.
+     */
+    void createPartitionsThrough(int lastYear);
+
+    /**
+     * Anos até {@code lastYear} (inclusive) com partição ainda quente em alguma das tabelas,
+     * em ordem crescente.
+     */
+    List<Integer> findHotYearsThrough(int lastYear);
+
+    /**
+     * Regrava as partições do ano como partições frias (compactas, ordenadas por pet) e as
+     * troca pelas quentes na mesma tabela-mãe: leituras pelo histórico do pet não mudam.
+     * Devolve false, sem fazer nada, se outro nó já estiver arquivando.
+     */
+    boolean archiveYear(int year);
+}
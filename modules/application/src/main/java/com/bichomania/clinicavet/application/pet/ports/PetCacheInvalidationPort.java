@@ -0,0 +1,32 @@
+package com.bichomania.clinicavet.application.pet.ports;
+
+import java.util.Collection;
+
+/**
+ * Porta que propaga as invalidações dos caches em processo de pets para todos os nós.
+ * Implementada na camada de infraestrutura.
+ */
+public interface PetCacheInvalidationPort {
+
+    /**
+     * Anuncia as chaves a invalidar no cache {@code cacheName}, na transação de quem chama:
+     * os nós só recebem o aviso se ela confirmar (fora de transação, na hora).
+     */
+    void publish(String cacheName, Collection<String> keys);
+
+    /**
+     * Registra quem aplica, neste nó, as invalidações recebidas para {@code cacheName},
+     * inclusive as publicadas pelo próprio nó.
+     */
+    void subscribe(String cacheName, Listener listener);
+
+    interface Listener {
+
+        void invalidate(Collection<String> keys);
+
+        /**
+         * Avisos podem ter se perdido (ex.: reconexão): descarta o cache inteiro.
+         */
+        void invalidateAll();
+    }
+}
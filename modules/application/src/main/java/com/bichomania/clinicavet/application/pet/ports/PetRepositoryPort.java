@@ -0,0 +1,102 @@
+package com.bichomania.clinicavet.application.pet.ports;
+
+import com.bichomania.clinicavet.application.pet.dto.PetRowResponse;
+import com.bichomania.clinicavet.domain.pet.Pet;
+
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Porta de persistência do agregado Pet.
+ * Implementada na camada de infraestrutura.
+ */
+public interface PetRepositoryPort {
+
+    /**
+     * Grava os campos do pet e apenas as adições pendentes (Pet.hasPendingAdditions),
+     * sem carregar nem comparar as coleções filhas existentes.
+     */
+    Pet save(Pet pet);
+
+    /**
+     * Insere pets novos (sem filhos) em lotes JDBC.
+     * Todo o lote falha junto; quem chama decide como isolar a linha problemática.
+     */
+    void insertAll(List<Pet> pets);
+
+    Optional<Pet> findById(UUID id);
+
+    /**
+     * Carrega apenas os dados do próprio pet, com as coleções filhas vazias.
+     * Usado pelos appends, que não dependem do histórico existente.
+     * Só as adições pendentes desse Pet podem ser gravadas (appendPending).
+     */
+    Optional<Pet> findWithoutChildren(UUID id);
+
+    List<Pet> findAllWithoutChildren(Collection<UUID> ids);
+
+    /**
+     * Insere somente as linhas filhas pendentes do pet e incrementa sua versão, sem
+     * carregar as coleções existentes: o custo não cresce com o histórico do pet.
+     * O incremento trava a linha do pet antes das demais escritas da transação e falha
+     * por lock otimista se a versão mudou desde a leitura. Devolve a nova versão do agregado.
+     */
+    long appendPending(Pet pet);
+
+    /**
+     * Igual a appendPending(Pet) para vários pets, com os inserts agrupados em lotes JDBC.
+     */
+    void appendPendingAll(Collection<Pet> pets);
+
+    /**
+     * Versão atual do pet (PetEntity.version), sem carregar o agregado.
+     */
+    OptionalLong findVersion(UUID id);
+
+    /**
+     * Trava a linha do pet até o fim da transação (SELECT ... FOR UPDATE) e devolve a
+     * versão travada. Usado por escritas que não são comutativas (PATCH): com a linha
+     * presa, a versão conferida contra o If-Match não muda até o commit.
+     */
+    OptionalLong lockForUpdate(UUID id);
+
+    /**
+     * Envia ao banco as mudanças pendentes do pet e devolve a versão resultante.
+     */
+    long flushVersion(UUID id);
+
+    /**
+     * Identificador do estado de todos os pets do tutor: muda quando qualquer pet dele
+     * é alterado, incluído ou excluído. Lido só das versões, sem carregar os pets.
+     */
+    String findGuardianVersionTag(UUID guardianId);
+
+    /**
+     * Linha do pet com o microchip na forma canônica (MicrochipNumber), sem as coleções filhas.
+     */
+    Optional<PetRowResponse> findRowByMicrochip(String canonicalMicrochipNumber);
+
+    void deleteById(UUID id);
+
+    /**
+     * Percorre todos os pets em um cursor JDBC, entregando cada linha ao consumer
+     * sem acumular a tabela em memória. Deve ser chamado dentro de uma transação.
+     */
+    void streamRows(Consumer<PetRowResponse> consumer);
+
+    /**
+     * Tamanho do histórico clínico em bytes (UTF-8); vazio quando o pet não existe.
+     */
+    OptionalLong findHistorySize(UUID petId);
+
+    /**
+     * Copia para {@code out} o trecho [offset, offset + length) do histórico, em bytes UTF-8,
+     * sem montar o texto como String. Não exige transação aberta.
+     */
+    void copyHistory(UUID petId, long offset, long length, OutputStream out);
+}
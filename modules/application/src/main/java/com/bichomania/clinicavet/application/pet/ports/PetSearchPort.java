@@ -0,0 +1,26 @@
+package com.bichomania.clinicavet.application.pet.ports;
+
+import com.bichomania.clinicavet.application.pet.dto.PetSearchHit;
+import com.bichomania.clinicavet.application.pet.pagination.PetSearchCursor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Porta do índice de busca de pets (nome e raça).
+ * Implementada na camada de infraestrutura.
+ */
+public interface PetSearchPort {
+
+    /**
+     * Até {@code limit} pets que casam com {@code term} (palavra inteira, prefixo ou
+     * aproximação), em ordem de (relevância desc, pet_id), logo após o cursor (ou do início).
+     * {@code guardianId} nulo busca em todos os tutores.
+     */
+    List<PetSearchHit> search(String term, UUID guardianId, PetSearchCursor after, int limit);
+
+    /**
+     * Reconstrói do zero os índices de busca, sem bloquear escritas.
+     */
+    void reindex();
+}
@@ -0,0 +1,46 @@
+package com.bichomania.clinicavet.application.pet.ports;
+
+import com.bichomania.clinicavet.application.pet.dto.PetSummaryResponse;
+import com.bichomania.clinicavet.application.pet.pagination.PetCursor;
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineApplied;
+import com.bichomania.clinicavet.domain.pet.Pet;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Porta do modelo de leitura das listagens de pets (uma linha desnormalizada por pet).
+ * Toda escrita que muda um campo do resumo o atualiza na própria transação; a exclusão
+ * do pet remove o resumo junto. Implementada na camada de infraestrutura.
+ */
+public interface PetSummaryPort {
+
+    /**
+     * Cria o resumo de pets recém-gravados (sem vacinas nem lembretes).
+     */
+    void insertAll(Collection<UUID> petIds);
+
+    /**
+     * Regrava os campos do próprio pet (nome, raça, sexo, nascimento, tutor).
+     */
+    void update(Pet pet);
+
+    /**
+     * Avança a data da última vacina dos pets; uma aplicação retroativa não a recua.
+     */
+    void recordVaccinations(Collection<VaccineApplied> applications);
+
+    /**
+     * Soma {@code count} aos lembretes pendentes do pet.
+     */
+    void addPendingReminders(UUID petId, int count);
+
+    /**
+     * Busca até {@code limit} resumos ordenados por (created_at, pet_id),
+     * começando logo após o cursor informado (ou do início, quando nulo).
+     */
+    List<PetSummaryResponse> findPage(PetCursor after, int limit);
+
+    List<PetSummaryResponse> findByGuardianId(UUID guardianId);
+}
@@ -0,0 +1,70 @@
+package com.bichomania.clinicavet.application.pet.services;
+
+import com.bichomania.clinicavet.application.pet.ports.ApplicationHistoryPartitionPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Manutenção das partições anuais do histórico de vacinas e vermífugos.
+ *
+ * Cria as partições dos próximos anos antes de serem necessárias (a migração só cria até o
+ * ano seguinte ao da instalação) e arquiva os anos fechados. Ficam quentes os últimos
+ * hot-years anos, o corrente incluso: margem para aplicações registradas com data retroativa.
+ * Cada ano arquivado é uma transação; um ano que falhar é tentado de novo na próxima rodada.
+ */
+@Service
+public class ApplicationHistoryPartitionJob {
+
+    private final ApplicationHistoryPartitionPort partitions;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int createAheadYears;
+    private final int hotYears;
+
+    @Autowired
+    public ApplicationHistoryPartitionJob(ApplicationHistoryPartitionPort partitions,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${bichomania.history.partitions.enabled:true}") boolean enabled,
+                                          @Value("${bichomania.history.partitions.create-ahead-years:1}") int createAheadYears,
+                                          @Value("${bichomania.history.partitions.hot-years:2}") int hotYears) {
+        this(partitions, transactionManager, Clock.systemDefaultZone(), enabled, createAheadYears, hotYears);
+    }
+
+    ApplicationHistoryPartitionJob(ApplicationHistoryPartitionPort partitions,
+                                   PlatformTransactionManager transactionManager, Clock clock,
+                                   boolean enabled, int createAheadYears, int hotYears) {
+        if (hotYears < 1) {
+            throw new IllegalArgumentException("hotYears >= 1");
+        }
+        this.partitions = partitions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.enabled = enabled;
+        this.createAheadYears = createAheadYears;
+        this.hotYears = hotYears;
+    }
+
+    @Scheduled(cron = "${bichomania.history.partitions.cron:0 30 3 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        int currentYear = LocalDate.now(clock).getYear();
+        transactionTemplate.executeWithoutResult(status -> partitions.createPartitionsThrough(currentYear + createAheadYears));
+
+        for (int year : partitions.findHotYearsThrough(currentYear - hotYears)) {
+            Boolean archived = transactionTemplate.execute(status -> partitions.archiveYear(year));
+            if (!Boolean.TRUE.equals(archived)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.bichomania.clinicavet.application.pet.services;
+
+import com.bichomania.clinicavet.application.event.dto.NewPetEvent;
+import com.bichomania.clinicavet.application.event.dto.PetEventType;
+import com.bichomania.clinicavet.application.event.ports.PetEventOutboxPort;
+import com.bichomania.clinicavet.application.pet.cache.GuardianPetsCache;
+import com.bichomania.clinicavet.application.pet.cache.MicrochipMissCache;
+import com.bichomania.clinicavet.application.pet.dto.PetImportError;
+import com.bichomania.clinicavet.application.pet.dto.PetImportReport;
+import com.bichomania.clinicavet.application.pet.dto.PetImportRow;
+import com.bichomania.clinicavet.application.pet.dto.PetRequest;
+import com.bichomania.clinicavet.application.pet.ports.PetRepositoryPort;
+import com.bichomania.clinicavet.application.pet.ports.PetSummaryPort;
+import com.bichomania.clinicavet.common.exception.BaseException;
+import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.domain.pet.Pet;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Importação em massa de pets (onboarding de clínicas).
+ * Cada linha passa pelas mesmas validações do POST (Bean Validation + Pet.create) e as
+ * válidas são gravadas em lotes JDBC, um lote por transação. Se um lote falha no banco,
+ * suas linhas são regravadas uma a uma para isolar a(s) rejeitada(s); o restante do
+ * arquivo segue normalmente.
+ */
+@Service
+public class PetImportService {
+
+    private final PetRepositoryPort repository;
+    private final PetSummaryPort summaries;
+    private final PetEventOutboxPort events;
+    private final GuardianPetsCache guardianPetsCache;
+    private final MicrochipMissCache microchipMissCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final int batchSize;
+
+    public PetImportService(PetRepositoryPort repository,
+                            PetSummaryPort summaries,
+                            PetEventOutboxPort events,
+                            GuardianPetsCache guardianPetsCache,
+                            MicrochipMissCache microchipMissCache,
+                            PlatformTransactionManager transactionManager,
+                            Validator validator,
+                            @Value("${bichomania.import.batch-size:500}") int batchSize) {
+        this.repository = repository;
+        this.summaries = summaries;
+        this.events = events;
+        this.guardianPetsCache = guardianPetsCache;
+        this.microchipMissCache = microchipMissCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Consome as linhas à medida que chegam; no máximo um lote fica em memória.
+     */
+    public PetImportReport importPets(Iterator<PetImportRow> rows) {
+        List<PetImportError> errors = new ArrayList<>();
+        List<PendingPet> batch = new ArrayList<>(batchSize);
+        int total = 0;
+        int imported = 0;
+
+        while (rows.hasNext()) {
+            PetImportRow row = rows.next();
+            total++;
+
+            Pet pet = toPet(row, errors);
+            if (pet == null) {
+                continue;
+            }
+            batch.add(new PendingPet(row.line(), pet));
+            if (batch.size() == batchSize) {
+                imported += flush(batch, errors);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += flush(batch, errors);
+        }
+        return new PetImportReport(total, imported, errors);
+    }
+
+    private Pet toPet(PetImportRow row, List<PetImportError> errors) {
+        if (row.parseError() != null) {
+            errors.add(new PetImportError(row.line(), row.parseError()));
+            return null;
+        }
+
+        PetRequest request = row.request();
+        Set<ConstraintViolation<PetRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            errors.add(new PetImportError(row.line(), violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "))));
+            return null;
+        }
+
+        try {
+            return Pet.create(
+                    request.guardianId(),
+                    request.name(),
+                    request.birthDate(),
+                    request.breed(),
+                    request.sex(),
+                    request.isCastrated(),
+                    request.microchipNumber(),
+                    request.history()
+            );
+        } catch (BaseException e) {
+            errors.add(new PetImportError(row.line(), e.getMessage()));
+            return null;
+        }
+    }
+
+    private int flush(List<PendingPet> batch, List<PetImportError> errors) {
+        List<Pet> pets = new ArrayList<>(batch.size());
+        for (PendingPet pending : batch) {
+            pets.add(pending.pet());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.insertAll(pets);
+                summaries.insertAll(pets.stream().map(Pet::getId).toList());
+                events.appendAll(createdEvents(pets));
+                invalidateCaches(pets);
+            });
+            return pets.size();
+        } catch (DataAccessException batchFailure) {
+            return insertOneByOne(batch, errors);
+        }
+    }
+
+    private int insertOneByOne(List<PendingPet> batch, List<PetImportError> errors) {
+        int imported = 0;
+        for (PendingPet pending : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    repository.insertAll(List.of(pending.pet()));
+                    summaries.insertAll(List.of(pending.pet().getId()));
+                    events.appendAll(createdEvents(List.of(pending.pet())));
+                    invalidateCaches(List.of(pending.pet()));
+                });
+                imported++;
+            } catch (DataAccessException rowFailure) {
+                errors.add(new PetImportError(pending.line(), ExceptionMessages.PET_IMPORT_ROW_REJECTED));
+            }
+        }
+        return imported;
+    }
+
+    private void invalidateCaches(List<Pet> pets) {
+        pets.stream().map(Pet::getGuardianId).distinct().forEach(guardianPetsCache::invalidateAfterCommit);
+        microchipMissCache.invalidateAllAfterCommit(pets.stream().map(Pet::getCanonicalMicrochipNumber).toList());
+    }
+
+    private static List<NewPetEvent> createdEvents(List<Pet> pets) {
+        return pets.stream()
+                .map(pet -> NewPetEvent.of(PetEventType.PET_CREATED, pet.getId(), pet.getGuardianId()))
+                .toList();
+    }
+
+    private record PendingPet(int line, Pet pet) {
+    }
+}
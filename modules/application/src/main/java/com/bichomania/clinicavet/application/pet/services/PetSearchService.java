@@ -0,0 +1,61 @@
+package com.bichomania.clinicavet.application.pet.services;
+
+import com.bichomania.clinicavet.application.pet.dto.PetSearchHit;
+import com.bichomania.clinicavet.application.pet.dto.PetSearchPage;
+import com.bichomania.clinicavet.application.pet.pagination.PetSearchCursor;
+import com.bichomania.clinicavet.application.pet.ports.PetSearchPort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Busca de pets do balcão: nome ou raça, inteiros, parciais ou com erro de digitação.
+ * Servida pelos índices tsvector e trigram de pets; nenhum agregado é carregado.
+ */
+@Service
+public class PetSearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Abaixo disso trigramas não discriminam e o prefixo casa com meia tabela
+    public static final int MIN_TERM_LENGTH = 2;
+
+    private final PetSearchPort searchIndex;
+
+    public PetSearchService(PetSearchPort searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @Transactional(readOnly = true)
+    public PetSearchPage search(String query, UUID guardianId, String cursor, Integer limit) {
+        String term = query == null ? "" : query.strip();
+        if (term.length() < MIN_TERM_LENGTH) {
+            return new PetSearchPage(List.of(), null);
+        }
+        int pageSize = (limit == null || limit <= 0) ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        PetSearchCursor after = (cursor == null || cursor.isBlank()) ? null : PetSearchCursor.decode(cursor);
+
+        // Busca um item a mais para saber se existe próxima página
+        List<PetSearchHit> hits = searchIndex.search(term, guardianId, after, pageSize + 1);
+        boolean hasNext = hits.size() > pageSize;
+        List<PetSearchHit> page = hasNext ? hits.subList(0, pageSize) : hits;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PetSearchHit last = page.get(page.size() - 1);
+            nextCursor = new PetSearchCursor(last.rank(), last.id()).encode();
+        }
+        return new PetSearchPage(page, nextCursor);
+    }
+
+    /**
+     * Reindexação completa (comando offline, ver SearchReindexCommand).
+     * Sem transação: REINDEX CONCURRENTLY não roda dentro de uma.
+     */
+    public void reindex() {
+        searchIndex.reindex();
+    }
+}
@@ -1,5 +1,363 @@
 package com.bichomania.clinicavet.application.pet.services;
 
+import com.bichomania.clinicavet.application.catalog.services.ReferenceCatalog;
+import com.bichomania.clinicavet.application.deworming.services.DewormerScheduleService;
+import com.bichomania.clinicavet.application.event.dto.NewPetEvent;
+import com.bichomania.clinicavet.application.event.dto.PetEventType;
+import com.bichomania.clinicavet.application.event.ports.PetEventOutboxPort;
+import com.bichomania.clinicavet.application.pet.cache.GuardianPetsCache;
+import com.bichomania.clinicavet.application.pet.cache.MicrochipMissCache;
+import com.bichomania.clinicavet.application.pet.concurrency.AppendRetry;
+import com.bichomania.clinicavet.application.pet.dto.ChildCreatedResponse;
+import com.bichomania.clinicavet.application.pet.dto.DewormerApplicationRequest;
+import com.bichomania.clinicavet.application.pet.dto.GuardianPetList;
+import com.bichomania.clinicavet.application.pet.dto.HistorySlice;
+import com.bichomania.clinicavet.application.pet.dto.PetPage;
+import com.bichomania.clinicavet.application.pet.dto.PetRequest;
+import com.bichomania.clinicavet.application.pet.dto.PetResponse;
+import com.bichomania.clinicavet.application.pet.dto.PetRowResponse;
+import com.bichomania.clinicavet.application.pet.dto.PetSummaryResponse;
+import com.bichomania.clinicavet.application.pet.dto.PetUpdateRequest;
+import com.bichomania.clinicavet.application.pet.dto.ReminderRequest;
+import com.bichomania.clinicavet.application.pet.dto.VaccineApplicationRequest;
+import com.bichomania.clinicavet.application.pet.dto.VersionedPetResponse;
+import com.bichomania.clinicavet.application.pet.pagination.PetCursor;
+import com.bichomania.clinicavet.application.pet.ports.PetRepositoryPort;
+import com.bichomania.clinicavet.application.pet.ports.PetSummaryPort;
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineApplied;
+import com.bichomania.clinicavet.application.vaccination.ports.VaccineDueIndexPort;
+import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.common.exception.pet.PetNotFoundException;
+import com.bichomania.clinicavet.common.exception.pet.PetVersionMismatchException;
+import com.bichomania.clinicavet.domain.dewormer.Dewormer;
+import com.bichomania.clinicavet.domain.dewormerapplication.DewormerApplication;
+import com.bichomania.clinicavet.domain.pet.MicrochipNumber;
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.domain.pet.Reminder;
+import com.bichomania.clinicavet.domain.vaccine.Vaccine;
+import com.bichomania.clinicavet.domain.vaccineapplication.VaccineApplication;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Casos de uso do agregado Pet.
+ * Orquestra domínio e persistência; não conhece HTTP nem JPA.
+ * Toda escrita grava seus eventos no outbox (PetEventOutboxPort) na própria transação.
+ * Cada método público é uma observação (timer bichomania.pet.service, tags class e method;
+ * span quando houver tracing), via ObservedAspect.
+ */
 @Service
+@Observed(name = "bichomania.pet.service")
 public class PetService {
+
+    // Limites de página para a listagem paginada por cursor
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final PetRepositoryPort repository;
+    private final PetSummaryPort summaries;
+    private final PetEventOutboxPort events;
+    private final GuardianPetsCache guardianPetsCache;
+    private final MicrochipMissCache microchipMissCache;
+    private final ReferenceCatalog catalog;
+    private final VaccineDueIndexPort vaccineDueIndex;
+    private final DewormerScheduleService dewormerSchedule;
+    private final AppendRetry appendRetry;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public PetService(PetRepositoryPort repository, PetSummaryPort summaries, PetEventOutboxPort events,
+                      GuardianPetsCache guardianPetsCache,
+                      MicrochipMissCache microchipMissCache, ReferenceCatalog catalog,
+                      VaccineDueIndexPort vaccineDueIndex, DewormerScheduleService dewormerSchedule,
+                      AppendRetry appendRetry, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.summaries = summaries;
+        this.events = events;
+        this.guardianPetsCache = guardianPetsCache;
+        this.microchipMissCache = microchipMissCache;
+        this.catalog = catalog;
+        this.vaccineDueIndex = vaccineDueIndex;
+        this.dewormerSchedule = dewormerSchedule;
+        this.appendRetry = appendRetry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @Transactional
+    public PetResponse createPet(PetRequest request) {
+        Pet pet = Pet.create(
+                request.guardianId(),
+                request.name(),
+                request.birthDate(),
+                request.breed(),
+                request.sex(),
+                request.isCastrated(),
+                request.microchipNumber(),
+                request.history()
+        );
+        Pet saved = repository.save(pet);
+        summaries.insertAll(List.of(saved.getId()));
+        events.appendAll(List.of(NewPetEvent.of(PetEventType.PET_CREATED, saved.getId(), saved.getGuardianId())));
+        guardianPetsCache.invalidateAfterCommit(saved.getGuardianId());
+        microchipMissCache.invalidateAfterCommit(saved.getCanonicalMicrochipNumber());
+        return PetResponse.from(saved);
+    }
+
+    /**
+     * Atualização parcial com a linha do pet travada do início ao commit: a escrita não
+     * perde para um append concorrente (que é quem repete) e, com If-Match, a versão
+     * conferida é a que será sobrescrita.
+     *
+     * @param expectedVersions versões aceitas pelo If-Match; null quando não há
+     *                         precondição (cabeçalho ausente ou "*")
+     */
+    @Transactional
+    public VersionedPetResponse updatePet(UUID id, PetUpdateRequest request, Collection<Long> expectedVersions) {
+        long current = repository.lockForUpdate(id)
+                .orElseThrow(() -> new PetNotFoundException(ExceptionMessages.PET_NOT_FOUND));
+        if (expectedVersions != null && !expectedVersions.contains(current)) {
+            throw new PetVersionMismatchException(ExceptionMessages.PET_VERSION_MISMATCH);
+        }
+        Pet pet = loadPet(id);
+        pet.updateBreed(request.breed());
+        if (request.microchipNumber() != null) {
+            pet.updateMicrochipNumber(request.microchipNumber());
+            microchipMissCache.invalidateAfterCommit(pet.getCanonicalMicrochipNumber());
+        }
+        if (request.history() != null) {
+            pet.updateHistory(request.history());
+        }
+        guardianPetsCache.invalidateAfterCommit(pet.getGuardianId());
+        PetResponse saved = PetResponse.from(repository.save(pet));
+        summaries.update(pet);
+        events.appendAll(List.of(NewPetEvent.of(PetEventType.PET_UPDATED, id, pet.getGuardianId())));
+        return new VersionedPetResponse(saved, repository.flushVersion(id));
+    }
+
+    /**
+     * A linha é travada antes do evento, como nas demais escritas: o PET_DELETED nunca
+     * fica à frente de um append concorrente no stream.
+     */
+    @Transactional
+    public void deletePet(UUID id) {
+        repository.lockForUpdate(id)
+                .orElseThrow(() -> new PetNotFoundException(ExceptionMessages.PET_NOT_FOUND));
+        Pet pet = loadPet(id);
+        repository.deleteById(id);
+        events.appendAll(List.of(NewPetEvent.of(PetEventType.PET_DELETED, id, pet.getGuardianId())));
+        guardianPetsCache.invalidateAfterCommit(pet.getGuardianId());
+    }
+
+    /**
+     * Lista resumos de pets por página (keyset sobre created_at, pet_id), lidos só do
+     * modelo de leitura (PetSummaryPort), sem carregar os agregados.
+     * O tamanho é limitado a MAX_PAGE_SIZE para que nenhuma chamada carregue a tabela inteira.
+     */
+    @Transactional(readOnly = true)
+    public PetPage findPage(String cursor, Integer limit) {
+        int pageSize = (limit == null || limit <= 0) ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        PetCursor after = (cursor == null || cursor.isBlank()) ? null : PetCursor.decode(cursor);
+
+        // Busca um item a mais para saber se existe próxima página
+        List<PetSummaryResponse> pets = summaries.findPage(after, pageSize + 1);
+        boolean hasNext = pets.size() > pageSize;
+        List<PetSummaryResponse> page = hasNext ? pets.subList(0, pageSize) : pets;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PetSummaryResponse last = page.get(page.size() - 1);
+            nextCursor = new PetCursor(last.createdAt(), last.id()).encode();
+        }
+        return new PetPage(List.copyOf(page), nextCursor);
+    }
+
+    /**
+     * Percorre todos os pets linha a linha (export NDJSON).
+     * A transação somente leitura mantém o cursor JDBC aberto enquanto o consumer escreve.
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<PetRowResponse> consumer) {
+        repository.streamRows(consumer);
+    }
+
+    /**
+     * Pet com a versão lida na mesma transação, para o ETag da resposta completa.
+     * A transação pode ir a uma réplica, possivelmente atrás da versão que o findVersion
+     * viu no primário: o ETag acompanha o corpo entregue, nunca o contrário.
+     */
+    @Transactional(readOnly = true)
+    public VersionedPetResponse findVersionedById(UUID id) {
+        long version = findVersion(id);
+        return new VersionedPetResponse(PetResponse.from(loadPet(id)), version);
+    }
+
+    /**
+     * Versão atual do pet, para o ETag. Uma consulta só, sem transação nem agregado:
+     * é o caminho do 304 nos polls dos tablets.
+     */
+    public long findVersion(UUID id) {
+        return repository.findVersion(id)
+                .orElseThrow(() -> new PetNotFoundException(ExceptionMessages.PET_NOT_FOUND));
+    }
+
+    /**
+     * Tag de versão da listagem do tutor, para o ETag composto (ver findVersion).
+     */
+    public String guardianVersionTag(UUID guardianId) {
+        return repository.findGuardianVersionTag(guardianId);
+    }
+
+    /**
+     * Busca por microchip, em qualquer grafia aceita por MicrochipNumber.
+     * Sem transação: chips marcados no MicrochipMissCache respondem sem tocar o banco.
+     */
+    public Optional<PetRowResponse> findByMicrochip(String number) {
+        String canonical = MicrochipNumber.canonicalize(number);
+        if (canonical == null) {
+            return Optional.empty();
+        }
+        return microchipMissCache.lookup(canonical, repository::findRowByMicrochip);
+    }
+
+    /**
+     * Lista os resumos dos pets do tutor (PetSummaryPort), servida pelo GuardianPetsCache.
+     * Toda escrita que toca um pet do tutor invalida a entrada após o commit.
+     * O tag é lido antes dos pets e guardado com eles: quem recebe a lista nunca
+     * recebe um tag mais novo que ela.
+     * Sem readOnly de propósito: a carga vai para o cache compartilhado, e uma leitura de
+     * réplica atrasada ficaria nele até o TTL mesmo depois da invalidação do commit.
+     */
+    @Transactional
+    public GuardianPetList findByGuardianId(UUID guardianId) {
+        return guardianPetsCache.get(guardianId, id -> {
+            String versionTag = repository.findGuardianVersionTag(id);
+            return new GuardianPetList(versionTag, summaries.findByGuardianId(id));
+        });
+    }
+
+    /**
+     * Lê o tamanho do histórico clínico e copia o trecho escolhido a partir dele na mesma
+     * transação (REPEATABLE READ: um único snapshot), para que os cabeçalhos calculados
+     * com o tamanho batam com os bytes enviados mesmo com um PATCH concorrente.
+     * {@code target} recebe o tamanho e devolve o trecho a copiar, ou null para não copiar nada.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void writeHistory(UUID id, HistoryTarget target) {
+        long size = repository.findHistorySize(id)
+                .orElseThrow(() -> new PetNotFoundException(ExceptionMessages.PET_NOT_FOUND));
+        HistorySlice slice;
+        try {
+            slice = target.slice(size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (slice != null && slice.length() > 0) {
+            repository.copyHistory(id, slice.offset(), slice.length(), slice.out());
+        }
+    }
+
+    /**
+     * Escolhe, a partir do tamanho do histórico, o trecho a copiar (ver writeHistory).
+     */
+    @FunctionalInterface
+    public interface HistoryTarget {
+        HistorySlice slice(long size) throws IOException;
+    }
+
+    // Appends: só o pet é lido (sem coleções) e só a linha nova é gravada, com
+    // incremento de versão. O custo de escrita não cresce com o histórico do pet.
+    // O resumo das listagens (PetSummaryPort) e o outbox de eventos são gravados na
+    // mesma transação, depois do appendPending: o incremento de versão roda na hora
+    // (update em pets) e segura a linha do pet até o commit, como o lockForUpdate do PATCH.
+    // As variantes add* devolvem o agregado completo, lido depois da gravação.
+    //
+    // Appends são comutativos: cada um roda em transação própria e, se perder o lock
+    // otimista para outra escrita no pet, é refeito do zero (AppendRetry), sem que o
+    // cliente precise reenviar. Por isso não levam @Transactional.
+
+    public PetResponse addVaccineApplication(UUID id, VaccineApplicationRequest request) {
+        appendVaccineApplication(id, request);
+        return readOnlyTransactionTemplate.execute(status -> PetResponse.from(loadPet(id)));
+    }
+
+    public PetResponse addDewormerApplication(UUID id, DewormerApplicationRequest request) {
+        appendDewormerApplication(id, request);
+        return readOnlyTransactionTemplate.execute(status -> PetResponse.from(loadPet(id)));
+    }
+
+    public PetResponse addReminder(UUID id, ReminderRequest request) {
+        appendReminder(id, request);
+        return readOnlyTransactionTemplate.execute(status -> PetResponse.from(loadPet(id)));
+    }
+
+    public ChildCreatedResponse appendVaccineApplication(UUID id, VaccineApplicationRequest request) {
+        return appendRetry.execute("vaccine", () -> transactionTemplate.execute(status -> {
+            Pet pet = loadPetWithoutChildren(id);
+            VaccineApplication application = VaccineApplication.create(request.vaccineId(), request.applicationDate());
+            Vaccine vaccine = catalog.requireVaccine(application.getVaccineId());
+            pet.addVaccineApplication(application);
+            long version = repository.appendPending(pet);
+            List<VaccineApplied> applied = List.of(new VaccineApplied(pet.getId(), vaccine.getId(),
+                    application.getApplicationDate(), vaccine.nextDueAfter(application.getApplicationDate())));
+            vaccineDueIndex.recordAll(applied);
+            summaries.recordVaccinations(applied);
+            events.appendAll(List.of(new NewPetEvent(PetEventType.VACCINE_APPLIED, pet.getId(),
+                    pet.getGuardianId(), application.getId())));
+            guardianPetsCache.invalidateAfterCommit(pet.getGuardianId());
+            return new ChildCreatedResponse(application.getId(), version);
+        }));
+    }
+
+    public ChildCreatedResponse appendDewormerApplication(UUID id, DewormerApplicationRequest request) {
+        return appendRetry.execute("dewormer", () -> transactionTemplate.execute(status -> {
+            Pet pet = loadPetWithoutChildren(id);
+            DewormerApplication application = DewormerApplication.create(request.dewormerId(), request.applicationDate());
+            Dewormer dewormer = catalog.requireDewormer(application.getDewormerId());
+            pet.addDewormerApplication(application);
+            long version = repository.appendPending(pet);
+            dewormerSchedule.recordApplication(pet, dewormer, application);
+            events.appendAll(List.of(new NewPetEvent(PetEventType.DEWORMER_APPLIED, pet.getId(),
+                    pet.getGuardianId(), application.getId())));
+            guardianPetsCache.invalidateAfterCommit(pet.getGuardianId());
+            return new ChildCreatedResponse(application.getId(), version);
+        }));
+    }
+
+    public ChildCreatedResponse appendReminder(UUID id, ReminderRequest request) {
+        return appendRetry.execute("reminder", () -> transactionTemplate.execute(status -> {
+            Pet pet = loadPetWithoutChildren(id);
+            Reminder reminder = Reminder.create(request.description(), request.dueAt());
+            pet.addReminder(reminder);
+            long version = repository.appendPending(pet);
+            summaries.addPendingReminders(pet.getId(), 1);
+            events.appendAll(List.of(new NewPetEvent(PetEventType.REMINDER_ADDED, pet.getId(),
+                    pet.getGuardianId(), reminder.getId())));
+            guardianPetsCache.invalidateAfterCommit(pet.getGuardianId());
+            return new ChildCreatedResponse(reminder.getId(), version);
+        }));
+    }
+
+    private Pet loadPetWithoutChildren(UUID id) {
+        return repository.findWithoutChildren(id)
+                .orElseThrow(() -> new PetNotFoundException(ExceptionMessages.PET_NOT_FOUND));
+    }
+
+    private Pet loadPet(UUID id) {
+        return repository.findById(id)
+                .orElseThrow(() -> new PetNotFoundException(ExceptionMessages.PET_NOT_FOUND));
+    }
 }
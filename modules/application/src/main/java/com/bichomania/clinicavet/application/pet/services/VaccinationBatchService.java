@@ -0,0 +1,180 @@
+package com.bichomania.clinicavet.application.pet.services;
+
+import com.bichomania.clinicavet.application.catalog.services.ReferenceCatalog;
+import com.bichomania.clinicavet.application.event.dto.NewPetEvent;
+import com.bichomania.clinicavet.application.event.dto.PetEventType;
+import com.bichomania.clinicavet.application.event.ports.PetEventOutboxPort;
+import com.bichomania.clinicavet.application.pet.cache.GuardianPetsCache;
+import com.bichomania.clinicavet.application.pet.concurrency.AppendRetry;
+import com.bichomania.clinicavet.application.pet.dto.VaccinationBatchItem;
+import com.bichomania.clinicavet.application.pet.dto.VaccinationBatchItemResult;
+import com.bichomania.clinicavet.application.pet.dto.VaccinationBatchResult;
+import com.bichomania.clinicavet.application.pet.ports.PetRepositoryPort;
+import com.bichomania.clinicavet.application.pet.ports.PetSummaryPort;
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineApplied;
+import com.bichomania.clinicavet.application.vaccination.ports.VaccineDueIndexPort;
+import com.bichomania.clinicavet.common.exception.BaseException;
+import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.common.exception.pet.PetConcurrentUpdateException;
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.domain.vaccine.Vaccine;
+import com.bichomania.clinicavet.domain.vaccineapplication.VaccineApplication;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Registro de vacinas em lote (campanhas de vacinação).
+ * Os itens são agrupados por pet; cada pet afetado é carregado uma única vez (sem o
+ * histórico), as doses passam por Pet.addVaccineApplication e só as linhas novas são
+ * gravadas, em lotes JDBC.
+ * Os pets são processados em blocos, um bloco por transação, para limitar memória e
+ * o tamanho de cada transação.
+ *
+ * Um bloco que perde o lock otimista para outra escrita em algum dos seus pets é refeito
+ * inteiro (AppendRetry: as doses são comutativas). Se ainda assim falhar, é dividido ao
+ * meio e cada metade é tentada de novo, até isolar o pet disputado: só os itens dele
+ * ficam como falha, não os do bloco todo.
+ */
+@Service
+public class VaccinationBatchService {
+
+    private final PetRepositoryPort repository;
+    private final PetSummaryPort summaries;
+    private final PetEventOutboxPort events;
+    private final GuardianPetsCache guardianPetsCache;
+    private final ReferenceCatalog catalog;
+    private final VaccineDueIndexPort vaccineDueIndex;
+    private final AppendRetry appendRetry;
+    private final TransactionTemplate transactionTemplate;
+    private final int petsPerTransaction;
+
+    public VaccinationBatchService(PetRepositoryPort repository,
+                                   PetSummaryPort summaries,
+                                   PetEventOutboxPort events,
+                                   GuardianPetsCache guardianPetsCache,
+                                   ReferenceCatalog catalog,
+                                   VaccineDueIndexPort vaccineDueIndex,
+                                   AppendRetry appendRetry,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${bichomania.vaccination-batch.pets-per-transaction:500}") int petsPerTransaction) {
+        this.repository = repository;
+        this.summaries = summaries;
+        this.events = events;
+        this.guardianPetsCache = guardianPetsCache;
+        this.catalog = catalog;
+        this.vaccineDueIndex = vaccineDueIndex;
+        this.appendRetry = appendRetry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.petsPerTransaction = petsPerTransaction;
+    }
+
+    public VaccinationBatchResult record(List<VaccinationBatchItem> items) {
+        VaccinationBatchItemResult[] results = new VaccinationBatchItemResult[items.size()];
+
+        // Índices dos itens agrupados por pet, na ordem de chegada
+        Map<UUID, List<Integer>> indicesByPet = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            indicesByPet.computeIfAbsent(items.get(i).petId(), id -> new ArrayList<>()).add(i);
+        }
+
+        List<UUID> petIds = new ArrayList<>(indicesByPet.keySet());
+        for (int from = 0; from < petIds.size(); from += petsPerTransaction) {
+            List<UUID> chunk = petIds.subList(from, Math.min(from + petsPerTransaction, petIds.size()));
+            recordOrSplit(chunk, items, indicesByPet, results);
+        }
+
+        int recorded = 0;
+        for (VaccinationBatchItemResult result : results) {
+            if (result.status() == VaccinationBatchItemResult.Status.RECORDED) {
+                recorded++;
+            }
+        }
+        return new VaccinationBatchResult(recorded, results.length - recorded, Arrays.asList(results));
+    }
+
+    private void recordOrSplit(List<UUID> petIds, List<VaccinationBatchItem> items,
+                               Map<UUID, List<Integer>> indicesByPet, VaccinationBatchItemResult[] results) {
+        String failure;
+        try {
+            appendRetry.execute("vaccination-batch", () -> transactionTemplate.execute(status -> {
+                recordChunk(petIds, items, indicesByPet, results);
+                return null;
+            }));
+            return;
+        } catch (PetConcurrentUpdateException e) {
+            failure = ExceptionMessages.PET_CONCURRENT_UPDATE;
+        } catch (DataAccessException e) {
+            failure = ExceptionMessages.PET_BATCH_WRITE_FAILED;
+        }
+        if (petIds.size() > 1) {
+            int middle = petIds.size() / 2;
+            recordOrSplit(petIds.subList(0, middle), items, indicesByPet, results);
+            recordOrSplit(petIds.subList(middle, petIds.size()), items, indicesByPet, results);
+            return;
+        }
+        // O bloco foi revertido: nada do que estava marcado como registrado persistiu
+        UUID petId = petIds.get(0);
+        for (int index : indicesByPet.get(petId)) {
+            results[index] = VaccinationBatchItemResult.failed(index, petId, failure);
+        }
+    }
+
+    private void recordChunk(List<UUID> petIds, List<VaccinationBatchItem> items,
+                             Map<UUID, List<Integer>> indicesByPet, VaccinationBatchItemResult[] results) {
+
+        // Só os dados dos pets: as doses novas ficam como adições pendentes do agregado
+        Map<UUID, Pet> pets = new HashMap<>();
+        for (Pet pet : repository.findAllWithoutChildren(petIds)) {
+            pets.put(pet.getId(), pet);
+        }
+
+        List<VaccineApplied> applied = new ArrayList<>();
+        List<NewPetEvent> newEvents = new ArrayList<>();
+        for (UUID petId : petIds) {
+            Pet pet = pets.get(petId);
+            for (int index : indicesByPet.get(petId)) {
+                if (pet == null) {
+                    results[index] = VaccinationBatchItemResult.failed(index, petId, ExceptionMessages.PET_NOT_FOUND);
+                    continue;
+                }
+                VaccinationBatchItem item = items.get(index);
+                try {
+                    VaccineApplication application = VaccineApplication.create(item.vaccineId(), item.applicationDate());
+                    Vaccine vaccine = catalog.requireVaccine(application.getVaccineId());
+                    pet.addVaccineApplication(application);
+                    applied.add(new VaccineApplied(petId, vaccine.getId(), application.getApplicationDate(),
+                            vaccine.nextDueAfter(application.getApplicationDate())));
+                    newEvents.add(new NewPetEvent(PetEventType.VACCINE_APPLIED, petId, pet.getGuardianId(),
+                            application.getId()));
+                    results[index] = VaccinationBatchItemResult.recorded(index, petId, application.getId());
+                } catch (BaseException e) {
+                    results[index] = VaccinationBatchItemResult.failed(index, petId, e.getMessage());
+                }
+            }
+        }
+
+        List<Pet> changed = pets.values().stream().filter(Pet::hasPendingAdditions).toList();
+        if (!changed.isEmpty()) {
+            repository.appendPendingAll(changed);
+            vaccineDueIndex.recordAll(applied);
+            summaries.recordVaccinations(applied);
+            // Depois do appendPendingAll, cujo incremento de versão já travou as linhas dos pets
+            events.appendAll(newEvents);
+            changed.stream()
+                    .map(Pet::getGuardianId)
+                    .distinct()
+                    .forEach(guardianPetsCache::invalidateAfterCommit);
+        }
+    }
+}
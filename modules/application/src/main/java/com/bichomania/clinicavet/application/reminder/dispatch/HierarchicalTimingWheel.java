@@ -0,0 +1,147 @@
+package com.bichomania.clinicavet.application.reminder.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Roda de tempo hierárquica (Varghese & Lauck).
+ * O nível 0 tem {@code wheelSize} slots de {@code tickMillis}; cada nível acima cobre
+ * {@code wheelSize} voltas do nível de baixo. Agendar é O(1) e cada avanço de tick só
+ * toca o slot corrente; um item desce de nível (cascata) quando o slot dele é alcançado,
+ * até expirar no nível 0.
+ *
+ * Itens além do alcance do último nível ficam no último nível e são reavaliados a cada
+ * volta dele. Não é thread-safe: quem usa sincroniza.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final int levels;
+
+    // spans[l] = ticks do nível 0 cobertos por um slot do nível l (wheelSize^l)
+    private final long[] spans;
+    private final List<List<Entry<T>>> slots;
+    private final List<T> ready = new ArrayList<>();
+
+    // Tick corrente (tempo em ms / tickMillis) e total de itens agendados
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("tickMillis > 0, wheelSize >= 2 e levels >= 1");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels = levels;
+        this.spans = new long[levels];
+        this.slots = new ArrayList<>(levels * wheelSize);
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            spans[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(null);
+            }
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Agenda o item para {@code deadlineMillis}. Prazos já vencidos saem no próximo advanceTo.
+     * O prazo é arredondado para o tick seguinte: nada sai antes da hora.
+     */
+    public void schedule(long deadlineMillis, T item) {
+        place(new Entry<>(Math.ceilDiv(deadlineMillis, tickMillis), item));
+        size++;
+    }
+
+    /**
+     * Avança o relógio até {@code nowMillis}, entregando ao consumer os itens vencidos,
+     * em ordem de tick.
+     */
+    public void advanceTo(long nowMillis, Consumer<T> expired) {
+        drainReady(expired);
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Níveis de cima primeiro: o que desce pode cair no slot corrente de baixo
+            for (int level = levels - 1; level > 0; level--) {
+                if (currentTick % spans[level] == 0) {
+                    cascade(level, slotIndex(level, currentTick));
+                }
+            }
+            expire(slotIndex(0, currentTick));
+            drainReady(expired);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        if (delta <= 0) {
+            ready.add(entry.item);
+            return;
+        }
+        int level = 0;
+        while (level < levels - 1 && delta >= spans[level + 1]) {
+            level++;
+        }
+        int index = slotIndex(level, entry.deadlineTick);
+        List<Entry<T>> bucket = slots.get(index);
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            slots.set(index, bucket);
+        }
+        bucket.add(entry);
+    }
+
+    private void cascade(int level, int index) {
+        List<Entry<T>> bucket = slots.get(index);
+        if (bucket == null) {
+            return;
+        }
+        slots.set(index, null);
+        for (Entry<T> entry : bucket) {
+            place(entry);
+        }
+    }
+
+    private void expire(int index) {
+        List<Entry<T>> bucket = slots.get(index);
+        if (bucket == null) {
+            return;
+        }
+        slots.set(index, null);
+        for (Entry<T> entry : bucket) {
+            ready.add(entry.item);
+        }
+    }
+
+    private void drainReady(Consumer<T> expired) {
+        if (ready.isEmpty()) {
+            return;
+        }
+        for (T item : ready) {
+            size--;
+            expired.accept(item);
+        }
+        ready.clear();
+    }
+
+    private int slotIndex(int level, long tick) {
+        return level * wheelSize + (int) ((tick / spans[level]) % wheelSize);
+    }
+
+    private record Entry<T>(long deadlineTick, T item) {
+    }
+}
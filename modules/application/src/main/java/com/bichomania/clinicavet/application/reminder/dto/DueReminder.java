@@ -0,0 +1,15 @@
+package com.bichomania.clinicavet.application.reminder.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lembrete reivindicado por este nó e aguardando o horário de disparo.
+ */
+public record DueReminder(
+        UUID reminderId,
+        UUID petId,
+        String description,
+        LocalDateTime dueAt
+) {
+}
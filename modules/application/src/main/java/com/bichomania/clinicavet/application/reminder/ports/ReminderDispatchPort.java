@@ -0,0 +1,40 @@
+package com.bichomania.clinicavet.application.reminder.ports;
+
+import com.bichomania.clinicavet.application.reminder.dto.DueReminder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Porta de persistência do disparo de lembretes.
+ * A posse de um lembrete é um lease (nó + validade) gravado na própria linha,
+ * para que vários nós dividam o trabalho sem disparar o mesmo lembrete duas vezes.
+ */
+public interface ReminderDispatchPort {
+
+    /**
+     * Reivindica até {@code limit} lembretes pendentes com vencimento antes de {@code horizon},
+     * ignorando os que estão com lease válido em {@code now} de outro nó ou bloqueados por outra
+     * transação. O lease vale até {@code leaseUntil}; depois disso o lembrete volta a ser elegível.
+     * {@code now} vem do chamador, pelo mesmo relógio que calculou horizon e leaseUntil.
+     */
+    List<DueReminder> claimDue(String nodeId, LocalDateTime now, LocalDateTime horizon, LocalDateTime leaseUntil,
+                               int limit);
+
+    /**
+     * Marca o lembrete como disparado, se ele ainda pertence a este nó.
+     * Devolve false quando o lease foi perdido (ou o lembrete foi removido/concluído).
+     */
+    boolean markDispatched(UUID reminderId, String nodeId, LocalDateTime dispatchedAt);
+
+    /**
+     * Desfaz o disparo e o lease após falha na entrega, devolvendo o lembrete à fila.
+     */
+    void releaseClaim(UUID reminderId, String nodeId);
+
+    /**
+     * Devolve à fila tudo o que este nó reivindicou e ainda não disparou (desligamento).
+     */
+    void releaseAll(String nodeId);
+}
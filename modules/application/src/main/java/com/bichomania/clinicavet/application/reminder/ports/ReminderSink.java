@@ -0,0 +1,12 @@
+package com.bichomania.clinicavet.application.reminder.ports;
+
+import com.bichomania.clinicavet.application.reminder.dto.DueReminder;
+
+/**
+ * Canal de entrega dos lembretes (e-mail, SMS, push...).
+ * Uma exceção devolve o lembrete para a fila, e ele é tentado de novo em outra janela.
+ */
+public interface ReminderSink {
+
+    void deliver(DueReminder reminder);
+}
@@ -0,0 +1,191 @@
+package com.bichomania.clinicavet.application.reminder.services;
+
+import com.bichomania.clinicavet.application.reminder.dispatch.HierarchicalTimingWheel;
+import com.bichomania.clinicavet.application.reminder.dto.DueReminder;
+import com.bichomania.clinicavet.application.reminder.ports.ReminderDispatchPort;
+import com.bichomania.clinicavet.application.reminder.ports.ReminderSink;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Disparo dos lembretes no horário.
+ *
+ * Em vez de varrer a tabela a cada minuto, o serviço reivindica periodicamente só a
+ * próxima janela de vencimentos (índice parcial em due_at) e a agenda numa roda de tempo
+ * em memória; o tick apenas avança a roda e entrega o que venceu.
+ * A reivindicação é um lease por nó (FOR UPDATE SKIP LOCKED na porta): vários nós
+ * dividem os lembretes, e os de um nó que caiu voltam à fila quando o lease expira.
+ */
+@Service
+public class ReminderDispatchService {
+
+    // Roda com slots de 1 tick e 64 slots por nível: 4 níveis cobrem 64^4 ticks
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 4;
+
+    private final ReminderDispatchPort repository;
+    private final ReminderSink sink;
+    private final Clock clock;
+    private final boolean enabled;
+    private final String nodeId;
+    private final Duration window;
+    private final Duration leaseGrace;
+    private final int claimBatchSize;
+    private final int maxInFlight;
+
+    // Roda e conjunto de IDs agendados são protegidos pelo mesmo lock;
+    // a entrega (I/O) acontece fora dele.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final HierarchicalTimingWheel<DueReminder> wheel;
+    private final Set<UUID> scheduled = new HashSet<>();
+
+    @Autowired
+    public ReminderDispatchService(ReminderDispatchPort repository, ReminderSink sink,
+                                   @Value("${bichomania.reminders.dispatch.enabled:true}") boolean enabled,
+                                   @Value("${bichomania.reminders.dispatch.node-id:}") String nodeId,
+                                   @Value("${bichomania.reminders.dispatch.window:PT5M}") Duration window,
+                                   @Value("${bichomania.reminders.dispatch.tick:PT1S}") Duration tick,
+                                   @Value("${bichomania.reminders.dispatch.lease-grace:PT2M}") Duration leaseGrace,
+                                   @Value("${bichomania.reminders.dispatch.claim-batch-size:1000}") int claimBatchSize,
+                                   @Value("${bichomania.reminders.dispatch.max-in-flight:100000}") int maxInFlight) {
+        this(repository, sink, Clock.systemDefaultZone(), enabled, nodeId, window, tick, leaseGrace,
+                claimBatchSize, maxInFlight);
+    }
+
+    ReminderDispatchService(ReminderDispatchPort repository, ReminderSink sink, Clock clock,
+                            boolean enabled, String nodeId, Duration window, Duration tick,
+                            Duration leaseGrace, int claimBatchSize, int maxInFlight) {
+        this.repository = repository;
+        this.sink = sink;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.nodeId = (nodeId == null || nodeId.isBlank()) ? UUID.randomUUID().toString() : nodeId;
+        this.window = window;
+        this.leaseGrace = leaseGrace;
+        this.claimBatchSize = claimBatchSize;
+        this.maxInFlight = maxInFlight;
+        this.wheel = new HierarchicalTimingWheel<>(tick.toMillis(), WHEEL_SIZE, WHEEL_LEVELS, clock.millis());
+    }
+
+    /**
+     * Reivindica os lembretes que vencem até o fim da próxima janela e os agenda na roda.
+     * Roda bem antes de a janela anterior acabar (refresh < window), então um lembrete
+     * criado agora com vencimento próximo é pego no máximo um refresh depois.
+     */
+    @Scheduled(fixedDelayString = "${bichomania.reminders.dispatch.refresh:PT1M}")
+    public void loadNextWindow() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime horizon = now.plus(window);
+        LocalDateTime leaseUntil = horizon.plus(leaseGrace);
+
+        int room = maxInFlight - inFlight();
+        while (room > 0) {
+            List<DueReminder> claimed = repository.claimDue(nodeId, now, horizon, leaseUntil,
+                    Math.min(claimBatchSize, room));
+            schedule(claimed);
+            if (claimed.size() < claimBatchSize) {
+                return;
+            }
+            room -= claimed.size();
+        }
+    }
+
+    /**
+     * Avança a roda e entrega os lembretes vencidos.
+     * O disparo é marcado antes da entrega, condicionado ao lease deste nó: se outro nó
+     * assumiu o lembrete, a marcação falha e nada é entregue. Entrega com erro desfaz a
+     * marcação e o lembrete volta à fila.
+     */
+    @Scheduled(fixedDelayString = "${bichomania.reminders.dispatch.tick:PT1S}")
+    public void dispatchDue() {
+        if (!enabled) {
+            return;
+        }
+        List<DueReminder> due = new ArrayList<>();
+        lock.lock();
+        try {
+            wheel.advanceTo(clock.millis(), due::add);
+        } finally {
+            lock.unlock();
+        }
+
+        for (DueReminder reminder : due) {
+            try {
+                if (repository.markDispatched(reminder.reminderId(), nodeId, LocalDateTime.now(clock))) {
+                    deliver(reminder);
+                }
+            } finally {
+                forget(reminder.reminderId());
+            }
+        }
+    }
+
+    /**
+     * Devolve à fila os lembretes reivindicados e ainda não disparados,
+     * para que outro nó não precise esperar o lease expirar.
+     */
+    @PreDestroy
+    public void releaseClaims() {
+        if (enabled) {
+            repository.releaseAll(nodeId);
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void schedule(List<DueReminder> reminders) {
+        if (reminders.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (DueReminder reminder : reminders) {
+                if (scheduled.add(reminder.reminderId())) {
+                    wheel.schedule(reminder.dueAt().atZone(clock.getZone()).toInstant().toEpochMilli(), reminder);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void deliver(DueReminder reminder) {
+        try {
+            sink.deliver(reminder);
+        } catch (RuntimeException e) {
+            repository.releaseClaim(reminder.reminderId(), nodeId);
+        }
+    }
+
+    private void forget(UUID reminderId) {
+        lock.lock();
+        try {
+            scheduled.remove(reminderId);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.bichomania.clinicavet.application.vaccination.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Aplicação de vacina recém-registrada, como entrada do índice de vencimentos.
+ * O próximo reforço já vem calculado pelo catálogo em memória (Vaccine.nextDueAfter).
+ */
+public record VaccineApplied(
+        UUID petId,
+        UUID vaccineId,
+        LocalDate applicationDate,
+        LocalDate nextDueDate
+) {
+}
@@ -0,0 +1,19 @@
+package com.bichomania.clinicavet.application.vaccination.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Linha da worklist de vacinação: próximo reforço de uma vacina para um pet.
+ */
+public record VaccineDueItem(
+        UUID petId,
+        UUID guardianId,
+        String petName,
+        UUID vaccineId,
+        String vaccineName,
+        LocalDate lastApplicationDate,
+        LocalDate nextDueDate,
+        boolean overdue
+) {
+}
@@ -0,0 +1,12 @@
+package com.bichomania.clinicavet.application.vaccination.dto;
+
+import java.util.List;
+
+/**
+ * Página da worklist de vacinação. nextCursor é nulo na última página.
+ */
+public record VaccineDuePage(
+        List<VaccineDueItem> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,37 @@
+package com.bichomania.clinicavet.application.vaccination.pagination;
+
+import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.common.exception.pagination.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de paginação keyset sobre (next_due_date, pet_id, vaccine_id), a ordem do
+ * índice idx_vaccine_due_next. Opaco para o cliente (Base64 URL-safe), como PetCursor.
+ */
+public record VaccineDueCursor(LocalDate nextDueDate, UUID petId, UUID vaccineId) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = nextDueDate.toString() + SEPARATOR + petId + SEPARATOR + vaccineId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static VaccineDueCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            return new VaccineDueCursor(
+                    LocalDate.parse(parts[0]),
+                    UUID.fromString(parts[1]),
+                    UUID.fromString(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(ExceptionMessages.INVALID_CURSOR, e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.bichomania.clinicavet.application.vaccination.ports;
+
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineApplied;
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineDueItem;
+import com.bichomania.clinicavet.application.vaccination.pagination.VaccineDueCursor;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Porta do índice de próximos reforços por (pet, vacina).
+ * Implementada na camada de infraestrutura.
+ */
+public interface VaccineDueIndexPort {
+
+    /**
+     * Atualiza o índice com aplicações recém-registradas, na transação de quem chama.
+     * Só avança a entrada do par (pet, vacina): uma aplicação retroativa não recua o
+     * próximo reforço. Aplicações sem próximo reforço (dose única) não geram entrada.
+     */
+    void recordAll(Collection<VaccineApplied> applications);
+
+    /**
+     * Busca até {@code limit} entradas com vencimento até {@code until} (inclusive),
+     * em ordem de (next_due_date, pet_id, vaccine_id), logo após o cursor (ou do início).
+     */
+    List<VaccineDueItem> findDue(LocalDate until, LocalDate today, VaccineDueCursor after, int limit);
+
+    /**
+     * Próximos {@code limit} IDs de pet após {@code after} (ou do início), em ordem de pet_id.
+     */
+    List<UUID> findPetIds(UUID after, int limit);
+
+    /**
+     * Recalcula do zero as entradas dos pets na faixa ({@code fromExclusive}, {@code toInclusive}]
+     * a partir de vaccine_applications. Devolve o número de entradas gravadas.
+     */
+    int rebuildRange(UUID fromExclusive, UUID toInclusive);
+}
@@ -0,0 +1,50 @@
+package com.bichomania.clinicavet.application.vaccination.services;
+
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineDueItem;
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineDuePage;
+import com.bichomania.clinicavet.application.vaccination.pagination.VaccineDueCursor;
+import com.bichomania.clinicavet.application.vaccination.ports.VaccineDueIndexPort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Worklist de vacinação (reforços vencidos ou a vencer nos próximos N dias).
+ * Lida só do índice vaccine_due_index: nenhum histórico de pet é carregado.
+ */
+@Service
+public class VaccinationDueService {
+
+    public static final int DEFAULT_DAYS = 30;
+    public static final int MAX_DAYS = 365;
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final VaccineDueIndexPort dueIndex;
+
+    public VaccinationDueService(VaccineDueIndexPort dueIndex) {
+        this.dueIndex = dueIndex;
+    }
+
+    @Transactional(readOnly = true)
+    public VaccineDuePage findDue(Integer days, String cursor, Integer limit) {
+        int window = (days == null || days < 0) ? DEFAULT_DAYS : Math.min(days, MAX_DAYS);
+        int pageSize = (limit == null || limit <= 0) ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        VaccineDueCursor after = (cursor == null || cursor.isBlank()) ? null : VaccineDueCursor.decode(cursor);
+
+        LocalDate today = LocalDate.now();
+        // Busca um item a mais para saber se existe próxima página
+        List<VaccineDueItem> items = dueIndex.findDue(today.plusDays(window), today, after, pageSize + 1);
+        boolean hasNext = items.size() > pageSize;
+        List<VaccineDueItem> page = hasNext ? items.subList(0, pageSize) : items;
+
+        String nextCursor = null;
+        if (hasNext) {
+            VaccineDueItem last = page.get(page.size() - 1);
+            nextCursor = new VaccineDueCursor(last.nextDueDate(), last.petId(), last.vaccineId()).encode();
+        }
+        return new VaccineDuePage(page, nextCursor);
+    }
+}
@@ -0,0 +1,79 @@
+package com.bichomania.clinicavet.application.vaccination.services;
+
+import com.bichomania.clinicavet.application.vaccination.ports.VaccineDueIndexPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reconstrução completa do índice de reforços (backfill, mudança de intervalo no catálogo).
+ * Percorre os pets em faixas de pet_id, uma faixa por transação: cada faixa é apagada e
+ * recalculada de vaccine_applications, então leituras da worklist nunca veem o índice vazio
+ * nem esperam por um lock de tabela.
+ * Uma execução por vez: quem dispara reivindica a vez com tryStart() antes de chamar
+ * rebuild(), e a vez é liberada ao fim da reconstrução.
+ */
+@Service
+public class VaccineDueIndexRebuildJob {
+
+    private final VaccineDueIndexPort dueIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int petsPerChunk;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public VaccineDueIndexRebuildJob(VaccineDueIndexPort dueIndex,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${bichomania.vaccination-due.rebuild-chunk-size:1000}") int petsPerChunk) {
+        this.dueIndex = dueIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.petsPerChunk = petsPerChunk;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Reivindica a vez de reconstruir, de forma atômica.
+     * Devolve false se já houver uma reconstrução em andamento.
+     */
+    public boolean tryStart() {
+        return running.compareAndSet(false, true);
+    }
+
+    /**
+     * Devolve a vez reivindicada sem reconstruir (ex.: a tarefa assíncrona foi recusada).
+     */
+    public void release() {
+        running.set(false);
+    }
+
+    /**
+     * Executa a reconstrução em segundo plano, depois de um tryStart() bem-sucedido;
+     * libera a vez ao terminar, com ou sem erro.
+     */
+    @Async
+    public void rebuild() {
+        try {
+            UUID after = null;
+            while (true) {
+                List<UUID> petIds = dueIndex.findPetIds(after, petsPerChunk);
+                if (petIds.isEmpty()) {
+                    return;
+                }
+                UUID from = after;
+                UUID to = petIds.get(petIds.size() - 1);
+                transactionTemplate.executeWithoutResult(status -> dueIndex.rebuildRange(from, to));
+                after = to;
+            }
+        } finally {
+            release();
+        }
+    }
+}
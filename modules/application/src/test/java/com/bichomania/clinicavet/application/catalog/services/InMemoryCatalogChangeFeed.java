@@ -0,0 +1,23 @@
+package com.bichomania.clinicavet.application.catalog.services;
+
+import com.bichomania.clinicavet.application.catalog.ports.CatalogChangeFeed;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Substituto do LISTEN/NOTIFY para testes: publish() avisa os listeners na própria JVM.
+ */
+class InMemoryCatalogChangeFeed implements CatalogChangeFeed {
+
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void subscribe(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    void publish() {
+        listeners.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,102 @@
+package com.bichomania.clinicavet.application.catalog.services;
+
+import com.bichomania.clinicavet.application.catalog.ports.CatalogSourcePort;
+import com.bichomania.clinicavet.common.exception.dewormer.DewormerNotFoundException;
+import com.bichomania.clinicavet.common.exception.vaccine.VaccineNotFoundException;
+import com.bichomania.clinicavet.domain.dewormer.Dewormer;
+import com.bichomania.clinicavet.domain.vaccine.Vaccine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReferenceCatalogTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 10, 12, 0);
+
+    private InMemoryCatalogSource source;
+    private InMemoryCatalogChangeFeed changes;
+    private ReferenceCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        source = new InMemoryCatalogSource();
+        changes = new InMemoryCatalogChangeFeed();
+        catalog = new ReferenceCatalog(source, changes);
+    }
+
+    @Test
+    void resolvesIdsFromMemoryAfterStartupLoad() {
+        Vaccine rabies = source.addVaccine("Antirrábica", 365);
+        Dewormer dewormer = source.addDewormer("Vermífugo", 15, 90, 60);
+        catalog.load();
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(rabies, catalog.requireVaccine(rabies.getId()));
+            assertEquals(dewormer, catalog.requireDewormer(dewormer.getId()));
+        }
+
+        assertEquals(1, source.reads);
+    }
+
+    @Test
+    void picksUpChangesOnlyAfterNotification() {
+        catalog.load();
+        Vaccine added = source.addVaccine("V10", 365);
+
+        assertThrows(VaccineNotFoundException.class, () -> catalog.requireVaccine(added.getId()));
+
+        changes.publish();
+
+        assertEquals(added, catalog.requireVaccine(added.getId()));
+        assertEquals(2, source.reads);
+    }
+
+    @Test
+    void unknownIdsAreRejected() {
+        catalog.load();
+
+        assertTrue(catalog.findVaccine(UUID.randomUUID()).isEmpty());
+        assertThrows(DewormerNotFoundException.class, () -> catalog.requireDewormer(UUID.randomUUID()));
+    }
+
+    /**
+     * Tabelas de catálogo em memória; conta as releituras completas.
+     */
+    private static class InMemoryCatalogSource implements CatalogSourcePort {
+
+        private final List<Vaccine> vaccines = new CopyOnWriteArrayList<>();
+        private final List<Dewormer> dewormers = new CopyOnWriteArrayList<>();
+        private int reads;
+
+        Vaccine addVaccine(String name, Integer boosterIntervalDays) {
+            Vaccine vaccine = Vaccine.reconstitute(UUID.randomUUID(), name, boosterIntervalDays, NOW, NOW);
+            vaccines.add(vaccine);
+            return vaccine;
+        }
+
+        Dewormer addDewormer(String name, int juvenile, int adult, Integer senior) {
+            Dewormer dewormer = Dewormer.reconstitute(UUID.randomUUID(), name, juvenile, adult, senior, NOW, NOW);
+            dewormers.add(dewormer);
+            return dewormer;
+        }
+
+        @Override
+        public List<Vaccine> findAllVaccines() {
+            reads++;
+            return List.copyOf(vaccines);
+        }
+
+        @Override
+        public List<Dewormer> findAllDewormers() {
+            return List.copyOf(dewormers);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.bichomania.clinicavet.application.deworming.services;
+
+import com.bichomania.clinicavet.application.deworming.dto.DewormerDueRow;
+import com.bichomania.clinicavet.application.deworming.ports.DewormerDueIndexPort;
+import com.bichomania.clinicavet.domain.dewormer.Dewormer;
+import com.bichomania.clinicavet.domain.dewormerapplication.DewormerApplication;
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.domain.pet.Sex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DewormerScheduleServiceTest {
+
+    private final Dewormer dewormer = Dewormer.create("Vermífugo", 15, 90, 60);
+
+    @Test
+    void retroactiveApplicationUsesAgeOnApplicationDate() {
+        LocalDate birthDate = LocalDate.now().minusYears(8);
+        // Pet sênior hoje, adulto quando recebeu a dose
+        LocalDate applicationDate = birthDate.plusYears(6).plusMonths(6);
+
+        LocalDate nextDue = record(birthDate, applicationDate);
+
+        assertEquals(applicationDate.plusDays(90), nextDue);
+    }
+
+    @Test
+    void puppyApplicationUsesJuvenileIntervalEvenAfterPetTurnsAdult() {
+        LocalDate birthDate = LocalDate.now().minusYears(2);
+        LocalDate applicationDate = birthDate.plusMonths(3);
+
+        LocalDate nextDue = record(birthDate, applicationDate);
+
+        assertEquals(applicationDate.plusDays(15), nextDue);
+    }
+
+    private LocalDate record(LocalDate birthDate, LocalDate applicationDate) {
+        Pet pet = Pet.create(UUID.randomUUID(), "Tobias", birthDate, "SRD", Sex.MALE, true, null, null);
+        RecordingDueIndex dueIndex = new RecordingDueIndex();
+        new DewormerScheduleService(dueIndex)
+                .recordApplication(pet, dewormer, DewormerApplication.create(dewormer.getId(), applicationDate));
+        return dueIndex.nextDueDate;
+    }
+
+    private static final class RecordingDueIndex implements DewormerDueIndexPort {
+
+        private LocalDate nextDueDate;
+
+        @Override
+        public void record(UUID petId, UUID dewormerId, LocalDate lastApplicationDate, LocalDate nextDueDate) {
+            this.nextDueDate = nextDueDate;
+        }
+
+        @Override
+        public void streamDue(LocalDate until, LocalDate today, UUID guardianId, Consumer<DewormerDueRow> consumer) {
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.bichomania.clinicavet.application.event.services;
+
+import com.bichomania.clinicavet.application.event.dto.PetEvent;
+import com.bichomania.clinicavet.application.event.ports.PetEventPublisher;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Publicador local para testes: guarda os eventos publicados em memória.
+ * Com failNext, a próxima publicação lança exceção (simula destino fora do ar).
+ */
+class InMemoryPetEventPublisher implements PetEventPublisher {
+
+    private final List<PetEvent> published = new CopyOnWriteArrayList<>();
+    private volatile boolean failNext;
+
+    @Override
+    public void publish(List<PetEvent> events) {
+        if (failNext) {
+            failNext = false;
+            throw new IllegalStateException("destino indisponível");
+        }
+        published.addAll(events);
+    }
+
+    void failNext() {
+        this.failNext = true;
+    }
+
+    List<PetEvent> published() {
+        return List.copyOf(published);
+    }
+}
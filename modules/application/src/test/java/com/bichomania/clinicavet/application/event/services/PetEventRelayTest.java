@@ -0,0 +1,178 @@
+package com.bichomania.clinicavet.application.event.services;
+
+import com.bichomania.clinicavet.application.event.dto.NewPetEvent;
+import com.bichomania.clinicavet.application.event.dto.PetEvent;
+import com.bichomania.clinicavet.application.event.dto.PetEventType;
+import com.bichomania.clinicavet.application.event.ports.PetEventOutboxPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PetEventRelayTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-10-18T12:00:00Z"), ZoneOffset.UTC);
+    private final UUID guardianId = UUID.randomUUID();
+    private final UUID petA = UUID.randomUUID();
+    private final UUID petB = UUID.randomUUID();
+
+    private InMemoryOutbox outbox;
+    private InMemoryPetEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new InMemoryOutbox();
+        publisher = new InMemoryPetEventPublisher();
+        outbox.appendAll(List.of(
+                NewPetEvent.of(PetEventType.PET_CREATED, petA, guardianId),
+                NewPetEvent.of(PetEventType.PET_CREATED, petB, guardianId),
+                new NewPetEvent(PetEventType.VACCINE_APPLIED, petA, guardianId, UUID.randomUUID()),
+                NewPetEvent.of(PetEventType.PET_UPDATED, petB, guardianId),
+                NewPetEvent.of(PetEventType.PET_DELETED, petA, guardianId)));
+    }
+
+    @Test
+    void publishesEveryEventOnceInPositionOrderAcrossBatches() {
+        newRelay(2).relay();
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), publisher.published().stream().map(PetEvent::position).toList());
+        assertEquals(List.of(PetEventType.PET_CREATED, PetEventType.VACCINE_APPLIED, PetEventType.PET_DELETED),
+                publisher.published().stream().filter(event -> event.petId().equals(petA)).map(PetEvent::type).toList());
+
+        newRelay(2).relay();
+        assertEquals(5, publisher.published().size());
+    }
+
+    @Test
+    void failedPublishKeepsTheBatchAndRetriesWithTheSamePositions() {
+        publisher.failNext();
+
+        assertThrows(IllegalStateException.class, () -> newRelay(10).relay());
+        assertEquals(List.of(), publisher.published());
+        assertEquals(5, outbox.findAfter(0, 10).size());
+
+        newRelay(10).relay();
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), publisher.published().stream().map(PetEvent::position).toList());
+    }
+
+    @Test
+    void stopsWhenAnotherNodeHoldsTheRelayLock() {
+        outbox.lockHeldElsewhere = true;
+
+        newRelay(10).relay();
+
+        assertEquals(List.of(), publisher.published());
+        assertEquals(List.of(), outbox.findAfter(0, 10));
+    }
+
+    @Test
+    void disabledRelayDoesNothing() {
+        new PetEventRelay(outbox, publisher, new NoOpTransactionManager(), clock, false, 10).relay();
+
+        assertEquals(List.of(), publisher.published());
+    }
+
+    private PetEventRelay newRelay(int batchSize) {
+        return new PetEventRelay(outbox, publisher, new NoOpTransactionManager(), clock, true, batchSize);
+    }
+
+    /**
+     * Outbox em memória com a mesma semântica do adapter: posições seguem event_id,
+     * a marcação de publicado só acontece depois de publish (que pode lançar).
+     */
+    private final class InMemoryOutbox implements PetEventOutboxPort {
+
+        private final List<Row> rows = new ArrayList<>();
+        private boolean lockHeldElsewhere;
+
+        @Override
+        public void appendAll(Collection<NewPetEvent> events) {
+            for (NewPetEvent event : events) {
+                rows.add(new Row(rows.size() + 1, event, LocalDateTime.now(clock)));
+            }
+        }
+
+        @Override
+        public boolean tryLockRelay() {
+            return !lockHeldElsewhere;
+        }
+
+        @Override
+        public int assignPositions(int limit) {
+            long last = rows.stream().filter(row -> row.position > 0).mapToLong(row -> row.position).max().orElse(0);
+            int assigned = 0;
+            for (Row row : rows) {
+                if (row.position == 0 && assigned < limit) {
+                    row.position = last + ++assigned;
+                }
+            }
+            return assigned;
+        }
+
+        @Override
+        public List<PetEvent> findUnpublished(int limit) {
+            return rows.stream().filter(row -> row.position > 0 && !row.published).limit(limit).map(Row::toEvent).toList();
+        }
+
+        @Override
+        public void markPublished(long throughPosition, LocalDateTime publishedAt) {
+            rows.stream().filter(row -> row.position > 0 && row.position <= throughPosition)
+                    .forEach(row -> row.published = true);
+        }
+
+        @Override
+        public List<PetEvent> findAfter(long after, int limit) {
+            return rows.stream().filter(row -> row.position > after).limit(limit).map(Row::toEvent).toList();
+        }
+    }
+
+    private static final class Row {
+
+        private final long eventId;
+        private final NewPetEvent event;
+        private final LocalDateTime occurredAt;
+        private long position;
+        private boolean published;
+
+        private Row(long eventId, NewPetEvent event, LocalDateTime occurredAt) {
+            this.eventId = eventId;
+            this.event = event;
+            this.occurredAt = occurredAt;
+        }
+
+        private PetEvent toEvent() {
+            return new PetEvent(position, eventId, event.type(), event.petId(), event.guardianId(),
+                    event.subjectId(), occurredAt);
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
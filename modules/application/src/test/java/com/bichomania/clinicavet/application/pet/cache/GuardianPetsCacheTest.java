@@ -0,0 +1,62 @@
+package com.bichomania.clinicavet.application.pet.cache;
+
+import com.bichomania.clinicavet.application.pet.dto.GuardianPetList;
+import com.bichomania.clinicavet.application.pet.ports.PetCacheInvalidationPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GuardianPetsCacheTest {
+
+    private final UUID guardianId = UUID.randomUUID();
+
+    private InMemoryPetCacheInvalidations invalidations;
+    private String currentTag;
+
+    @BeforeEach
+    void setUp() {
+        invalidations = new InMemoryPetCacheInvalidations();
+        currentTag = "v1";
+    }
+
+    @Test
+    void writeOnOneNodeDropsTheListCachedOnTheOthers() {
+        GuardianPetsCache writer = newNode();
+        GuardianPetsCache reader = newNode();
+        assertEquals("v1", reader.get(guardianId, this::load).versionTag());
+
+        currentTag = "v2";
+        writer.invalidateAfterCommit(guardianId);
+
+        assertEquals("v2", reader.get(guardianId, this::load).versionTag());
+    }
+
+    @Test
+    void lostNotificationsDropEveryList() {
+        GuardianPetsCache cache = newNode();
+        cache.get(guardianId, this::load);
+
+        currentTag = "v2";
+        invalidations.reconnect();
+
+        assertEquals("v2", cache.get(guardianId, this::load).versionTag());
+    }
+
+    private GuardianPetList load(UUID id) {
+        return new GuardianPetList(currentTag, List.of());
+    }
+
+    private GuardianPetsCache newNode() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("invalidations", invalidations);
+        return new GuardianPetsCache(100, Duration.ofMinutes(5),
+                beans.getBeanProvider(MeterRegistry.class), beans.getBeanProvider(PetCacheInvalidationPort.class));
+    }
+}
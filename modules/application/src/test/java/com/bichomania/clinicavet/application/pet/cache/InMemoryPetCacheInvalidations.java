@@ -0,0 +1,32 @@
+package com.bichomania.clinicavet.application.pet.cache;
+
+import com.bichomania.clinicavet.application.pet.ports.PetCacheInvalidationPort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Substituto do NOTIFY/LISTEN para testes: publish() entrega na hora a todos os caches
+ * inscritos, como se cada um fosse um nó.
+ */
+class InMemoryPetCacheInvalidations implements PetCacheInvalidationPort {
+
+    private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String cacheName, Collection<String> keys) {
+        listeners.getOrDefault(cacheName, List.of()).forEach(listener -> listener.invalidate(keys));
+    }
+
+    @Override
+    public void subscribe(String cacheName, Listener listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    void reconnect() {
+        listeners.values().forEach(targets -> targets.forEach(Listener::invalidateAll));
+    }
+}
@@ -0,0 +1,95 @@
+package com.bichomania.clinicavet.application.pet.cache;
+
+import com.bichomania.clinicavet.application.pet.ports.PetCacheInvalidationPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MicrochipMissCacheTest {
+
+    private static final String CHIP = "985141000123456";
+
+    private InMemoryPetCacheInvalidations invalidations;
+    private MicrochipMissCache cache;
+    private AtomicInteger queries;
+
+    @BeforeEach
+    void setUp() {
+        invalidations = new InMemoryPetCacheInvalidations();
+        cache = newNode();
+        queries = new AtomicInteger();
+    }
+
+    @Test
+    void repeatedMissesQueryTheDatabaseOnce() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(cache.lookup(CHIP, this::notFound).isEmpty());
+        }
+
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    void hitsAreNotCached() {
+        assertEquals(Optional.of("pet"), cache.lookup(CHIP, this::found));
+        assertEquals(Optional.of("pet"), cache.lookup(CHIP, this::found));
+
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    void registeringTheChipClearsTheMiss() {
+        cache.lookup(CHIP, this::notFound);
+
+        cache.invalidateAllAfterCommit(List.of(CHIP));
+
+        assertEquals(Optional.of("pet"), cache.lookup(CHIP, this::found));
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    void registeringTheChipOnOneNodeClearsTheMissOnTheOthers() {
+        MicrochipMissCache otherNode = newNode();
+        otherNode.lookup(CHIP, this::notFound);
+
+        cache.invalidateAllAfterCommit(List.of(CHIP));
+
+        assertEquals(Optional.of("pet"), otherNode.lookup(CHIP, this::found));
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    void lostNotificationsClearEveryMiss() {
+        cache.lookup(CHIP, this::notFound);
+
+        invalidations.reconnect();
+
+        assertEquals(Optional.of("pet"), cache.lookup(CHIP, this::found));
+    }
+
+    private MicrochipMissCache newNode() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("invalidations", invalidations);
+        return new MicrochipMissCache(1000, Duration.ofMinutes(10),
+                beans.getBeanProvider(MeterRegistry.class), beans.getBeanProvider(PetCacheInvalidationPort.class));
+    }
+
+    private Optional<String> notFound(String chip) {
+        queries.incrementAndGet();
+        return Optional.empty();
+    }
+
+    private Optional<String> found(String chip) {
+        queries.incrementAndGet();
+        return Optional.of("pet");
+    }
+}
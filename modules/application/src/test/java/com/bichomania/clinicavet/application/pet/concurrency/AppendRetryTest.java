@@ -0,0 +1,62 @@
+package com.bichomania.clinicavet.application.pet.concurrency;
+
+import com.bichomania.clinicavet.common.exception.pet.PetConcurrentUpdateException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AppendRetryTest {
+
+    private SimpleMeterRegistry registry;
+    private AppendRetry retry;
+    private AtomicInteger attempts;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        retry = new AppendRetry(3, Duration.ZERO, Duration.ZERO, registry);
+        attempts = new AtomicInteger();
+    }
+
+    @Test
+    void retriesUntilTheAttemptWins() {
+        String result = retry.execute("vaccine", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("versão mudou");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, registry.get("bichomania.pets.append.retries").tag("operation", "vaccine").counter().count());
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        assertThrows(PetConcurrentUpdateException.class, () -> retry.execute("reminder", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("versão mudou");
+        }));
+
+        assertEquals(3, attempts.get());
+        assertEquals(1.0, registry.get("bichomania.pets.append.exhausted").tag("operation", "reminder").counter().count());
+    }
+
+    @Test
+    void otherFailuresAreNotRetried() {
+        assertThrows(IllegalStateException.class, () -> retry.execute("dewormer", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+}
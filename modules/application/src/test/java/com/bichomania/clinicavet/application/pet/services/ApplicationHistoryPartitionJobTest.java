@@ -0,0 +1,106 @@
+package com.bichomania.clinicavet.application.pet.services;
+
+import com.bichomania.clinicavet.application.pet.ports.ApplicationHistoryPartitionPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ApplicationHistoryPartitionJobTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-10-18T03:30:00Z"), ZoneOffset.UTC);
+
+    private InMemoryPartitions partitions;
+
+    @BeforeEach
+    void setUp() {
+        partitions = new InMemoryPartitions();
+        partitions.hot.addAll(List.of(2021, 2022, 2023, 2024, 2025, 2026));
+    }
+
+    @Test
+    void createsPartitionsAheadAndArchivesYearsOutsideTheHotWindow() {
+        newJob(true).maintain();
+
+        assertEquals(2027, partitions.createdThrough);
+        assertEquals(List.of(2021, 2022, 2023, 2024), partitions.archived);
+        assertEquals(List.of(2025, 2026), List.copyOf(partitions.hot));
+    }
+
+    @Test
+    void stopsWhenAnotherNodeHoldsTheArchiveLock() {
+        partitions.lockHeldElsewhere = true;
+
+        newJob(true).maintain();
+
+        assertEquals(List.of(), partitions.archived);
+        assertEquals(6, partitions.hot.size());
+    }
+
+    @Test
+    void disabledJobDoesNothing() {
+        newJob(false).maintain();
+
+        assertEquals(0, partitions.createdThrough);
+        assertEquals(List.of(), partitions.archived);
+    }
+
+    private ApplicationHistoryPartitionJob newJob(boolean enabled) {
+        return new ApplicationHistoryPartitionJob(partitions, new NoOpTransactionManager(), clock, enabled, 1, 2);
+    }
+
+    private static final class InMemoryPartitions implements ApplicationHistoryPartitionPort {
+
+        private final TreeSet<Integer> hot = new TreeSet<>();
+        private final List<Integer> archived = new ArrayList<>();
+        private int createdThrough;
+        private boolean lockHeldElsewhere;
+
+        @Override
+        public void createPartitionsThrough(int lastYear) {
+            createdThrough = lastYear;
+        }
+
+        @Override
+        public List<Integer> findHotYearsThrough(int lastYear) {
+            return List.copyOf(hot.headSet(lastYear, true));
+        }
+
+        @Override
+        public boolean archiveYear(int year) {
+            if (lockHeldElsewhere) {
+                return false;
+            }
+            hot.remove(year);
+            archived.add(year);
+            return true;
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.bichomania.clinicavet.application.pet.services;
+
+import com.bichomania.clinicavet.application.catalog.ports.CatalogSourcePort;
+import com.bichomania.clinicavet.application.catalog.services.ReferenceCatalog;
+import com.bichomania.clinicavet.application.event.ports.PetEventOutboxPort;
+import com.bichomania.clinicavet.application.pet.cache.GuardianPetsCache;
+import com.bichomania.clinicavet.application.pet.concurrency.AppendRetry;
+import com.bichomania.clinicavet.application.pet.dto.VaccinationBatchItem;
+import com.bichomania.clinicavet.application.pet.dto.VaccinationBatchItemResult;
+import com.bichomania.clinicavet.application.pet.dto.VaccinationBatchResult;
+import com.bichomania.clinicavet.application.pet.ports.PetCacheInvalidationPort;
+import com.bichomania.clinicavet.application.pet.ports.PetRepositoryPort;
+import com.bichomania.clinicavet.application.pet.ports.PetSummaryPort;
+import com.bichomania.clinicavet.application.vaccination.ports.VaccineDueIndexPort;
+import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.domain.dewormer.Dewormer;
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.domain.pet.Sex;
+import com.bichomania.clinicavet.domain.vaccine.Vaccine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VaccinationBatchServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 12, 0);
+    private static final int PETS_PER_TRANSACTION = 8;
+
+    private final Vaccine rabies = Vaccine.reconstitute(UUID.randomUUID(), "Antirrábica", 365, NOW, NOW);
+
+    private InMemoryPets pets;
+    private VaccinationBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        pets = new InMemoryPets();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        ReferenceCatalog catalog = new ReferenceCatalog(new CatalogSourcePort() {
+            @Override
+            public List<Vaccine> findAllVaccines() {
+                return List.of(rabies);
+            }
+
+            @Override
+            public List<Dewormer> findAllDewormers() {
+                return List.of();
+            }
+        }, listener -> {
+        });
+        catalog.load();
+        service = new VaccinationBatchService(pets.port(), noOp(PetSummaryPort.class), noOp(PetEventOutboxPort.class),
+                new GuardianPetsCache(100, Duration.ofMinutes(5), beans.getBeanProvider(MeterRegistry.class),
+                        beans.getBeanProvider(PetCacheInvalidationPort.class)),
+                catalog, noOp(VaccineDueIndexPort.class),
+                new AppendRetry(3, Duration.ZERO, Duration.ZERO, beans.getBeanProvider(MeterRegistry.class)),
+                new NoOpTransactionManager(), PETS_PER_TRANSACTION);
+    }
+
+    @Test
+    void chunkThatLostOptimisticLockOnceIsRetriedWhole() {
+        List<UUID> ids = pets.add(PETS_PER_TRANSACTION);
+        pets.failuresLeft = 1;
+        pets.contended.add(ids.get(3));
+
+        VaccinationBatchResult result = service.record(itemsFor(ids));
+
+        assertEquals(PETS_PER_TRANSACTION, result.recorded());
+        assertEquals(0, result.failed());
+        assertEquals(new HashSet<>(ids), pets.committed);
+    }
+
+    @Test
+    void persistentlyContendedPetFailsAloneAfterChunkIsSplit() {
+        List<UUID> ids = pets.add(PETS_PER_TRANSACTION);
+        UUID contended = ids.get(5);
+        pets.failuresLeft = Integer.MAX_VALUE;
+        pets.contended.add(contended);
+
+        VaccinationBatchResult result = service.record(itemsFor(ids));
+
+        assertEquals(PETS_PER_TRANSACTION - 1, result.recorded());
+        assertEquals(1, result.failed());
+        VaccinationBatchItemResult failed = result.items().get(5);
+        assertEquals(VaccinationBatchItemResult.Status.FAILED, failed.status());
+        assertEquals(ExceptionMessages.PET_CONCURRENT_UPDATE, failed.error());
+        Set<UUID> others = new HashSet<>(ids);
+        others.remove(contended);
+        assertEquals(others, pets.committed);
+    }
+
+    private List<VaccinationBatchItem> itemsFor(List<UUID> ids) {
+        return ids.stream()
+                .map(id -> new VaccinationBatchItem(id, rabies.getId(), LocalDate.of(2026, 3, 1)))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T noOp(Class<T> port) {
+        return (T) Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[]{port}, (proxy, method, args) -> null);
+    }
+
+    // Pets em memória: cada leitura devolve agregados novos (sem adições pendentes de uma
+    // tentativa anterior) e o append falha por lock otimista enquanto houver falhas a simular
+    private static final class InMemoryPets {
+
+        private final List<UUID> ids = new ArrayList<>();
+        private final Set<UUID> contended = new HashSet<>();
+        private final Set<UUID> committed = new HashSet<>();
+        private int failuresLeft;
+
+        List<UUID> add(int count) {
+            for (int i = 0; i < count; i++) {
+                ids.add(UUID.randomUUID());
+            }
+            return List.copyOf(ids);
+        }
+
+        @SuppressWarnings("unchecked")
+        PetRepositoryPort port() {
+            return (PetRepositoryPort) Proxy.newProxyInstance(PetRepositoryPort.class.getClassLoader(),
+                    new Class<?>[]{PetRepositoryPort.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "findAllWithoutChildren" -> load((Collection<UUID>) args[0]);
+                        case "appendPendingAll" -> {
+                            appendAll((Collection<Pet>) args[0]);
+                            yield null;
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        private List<Pet> load(Collection<UUID> requested) {
+            return requested.stream()
+                    .filter(ids::contains)
+                    .map(id -> Pet.reconstitute(id, UUID.randomUUID(), "Pet", LocalDate.of(2020, 1, 1), "SRD",
+                            Sex.FEMALE, true, null, null, List.of(), List.of(), List.of(), NOW, NOW))
+                    .toList();
+        }
+
+        private void appendAll(Collection<Pet> pets) {
+            boolean touchesContended = pets.stream().anyMatch(pet -> contended.contains(pet.getId()));
+            if (touchesContended && failuresLeft > 0) {
+                failuresLeft--;
+                throw new OptimisticLockingFailureException("versão do pet mudou");
+            }
+            pets.forEach(pet -> committed.add(pet.getId()));
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bichomania.clinicavet.application.reminder.dispatch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1_000;
+    private static final long START = 1_700_000_000_500L;
+
+    @Test
+    void firesEachItemOnceNeverBeforeItsDeadline() {
+        // 8 slots x 3 níveis = 512 ticks de alcance; prazos de até 2000 ticks forçam cascatas
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 8, 3, START);
+        Random random = new Random(42);
+        int items = 5_000;
+        for (int i = 0; i < items; i++) {
+            long deadline = START - 5_000 + (long) (random.nextDouble() * 2_000 * TICK);
+            wheel.schedule(deadline, deadline);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        long now = START;
+        while (!wheel.isEmpty()) {
+            now += TICK + random.nextInt(3_000);
+            long firedAt = now;
+            wheel.advanceTo(firedAt, deadline -> {
+                assertTrue(deadline <= firedAt, "disparado antes do prazo");
+                fired.add(deadline);
+            });
+        }
+
+        assertEquals(items, fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void overdueItemsFireOnNextAdvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 64, 4, START);
+        wheel.schedule(START - 60_000, "atrasado");
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(START, fired::add);
+
+        assertEquals(List.of("atrasado"), fired);
+    }
+
+    @Test
+    void firesInDeadlineOrderAcrossTicks() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(TICK, 4, 3, START);
+        wheel.schedule(START + 30 * TICK, 3);
+        wheel.schedule(START + 2 * TICK, 1);
+        wheel.schedule(START + 9 * TICK, 2);
+
+        List<Integer> fired = new ArrayList<>();
+        wheel.advanceTo(START + 60 * TICK, fired::add);
+
+        assertEquals(List.of(1, 2, 3), fired);
+    }
+}
@@ -0,0 +1,34 @@
+package com.bichomania.clinicavet.application.reminder.services;
+
+import com.bichomania.clinicavet.application.reminder.dto.DueReminder;
+import com.bichomania.clinicavet.application.reminder.ports.ReminderSink;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Canal local para testes: guarda os lembretes entregues em memória.
+ * Com failNext, a próxima entrega lança exceção (simula canal fora do ar).
+ */
+class InMemoryReminderSink implements ReminderSink {
+
+    private final List<DueReminder> delivered = new CopyOnWriteArrayList<>();
+    private volatile boolean failNext;
+
+    @Override
+    public void deliver(DueReminder reminder) {
+        if (failNext) {
+            failNext = false;
+            throw new IllegalStateException("canal indisponível");
+        }
+        delivered.add(reminder);
+    }
+
+    void failNext() {
+        this.failNext = true;
+    }
+
+    List<DueReminder> delivered() {
+        return List.copyOf(delivered);
+    }
+}
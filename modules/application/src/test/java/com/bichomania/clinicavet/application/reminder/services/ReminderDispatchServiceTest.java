@@ -0,0 +1,232 @@
+package com.bichomania.clinicavet.application.reminder.services;
+
+import com.bichomania.clinicavet.application.reminder.dto.DueReminder;
+import com.bichomania.clinicavet.application.reminder.ports.ReminderDispatchPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReminderDispatchServiceTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(5);
+    private static final Duration TICK = Duration.ofSeconds(1);
+    private static final Duration LEASE_GRACE = Duration.ofMinutes(2);
+
+    private MutableClock clock;
+    private InMemoryReminderTable table;
+    private InMemoryReminderSink sink;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-03-10T12:00:00Z"));
+        table = new InMemoryReminderTable();
+        sink = new InMemoryReminderSink();
+    }
+
+    @Test
+    void loadsOnlyTheNextWindowAndFiresAtDueTime() {
+        UUID soon = table.add(now().plusSeconds(30));
+        UUID later = table.add(now().plusHours(2));
+        ReminderDispatchService service = newService("node-a");
+
+        service.loadNextWindow();
+        assertEquals(1, service.inFlight());
+
+        clock.advance(Duration.ofSeconds(29));
+        service.dispatchDue();
+        assertTrue(sink.delivered().isEmpty());
+
+        clock.advance(Duration.ofSeconds(1));
+        service.dispatchDue();
+        assertEquals(List.of(soon), deliveredIds());
+        assertNotNull(table.row(soon).dispatchedAt);
+        assertNull(table.row(later).claimedBy);
+    }
+
+    @Test
+    void twoNodesNeverFireTheSameReminder() {
+        for (int i = 0; i < 10; i++) {
+            table.add(now().plusSeconds(10 + i));
+        }
+        ReminderDispatchService nodeA = newService("node-a");
+        ReminderDispatchService nodeB = newService("node-b");
+
+        nodeA.loadNextWindow();
+        nodeB.loadNextWindow();
+        assertEquals(10, nodeA.inFlight() + nodeB.inFlight());
+
+        clock.advance(Duration.ofMinutes(1));
+        nodeA.dispatchDue();
+        nodeB.dispatchDue();
+
+        assertEquals(10, deliveredIds().size());
+        assertEquals(10, deliveredIds().stream().distinct().count());
+    }
+
+    @Test
+    void failedDeliveryReturnsReminderToQueue() {
+        UUID id = table.add(now().plusSeconds(5));
+        ReminderDispatchService service = newService("node-a");
+
+        service.loadNextWindow();
+        sink.failNext();
+        clock.advance(Duration.ofSeconds(5));
+        service.dispatchDue();
+        assertTrue(sink.delivered().isEmpty());
+        assertNull(table.row(id).dispatchedAt);
+
+        service.loadNextWindow();
+        service.dispatchDue();
+        assertEquals(List.of(id), deliveredIds());
+    }
+
+    @Test
+    void expiredLeaseOfDeadNodeIsTakenOver() {
+        UUID id = table.add(now().plusSeconds(5));
+        newService("node-morto").loadNextWindow();
+
+        ReminderDispatchService survivor = newService("node-b");
+        survivor.loadNextWindow();
+        assertEquals(0, survivor.inFlight());
+
+        clock.advance(WINDOW.plus(LEASE_GRACE).plusSeconds(1));
+        survivor.loadNextWindow();
+        survivor.dispatchDue();
+        assertEquals(List.of(id), deliveredIds());
+    }
+
+    private ReminderDispatchService newService(String nodeId) {
+        return new ReminderDispatchService(table, sink, clock, true, nodeId, WINDOW, TICK, LEASE_GRACE, 100, 10_000);
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private List<UUID> deliveredIds() {
+        return sink.delivered().stream().map(DueReminder::reminderId).toList();
+    }
+
+    /**
+     * Tabela de lembretes em memória com a mesma semântica de lease do adapter JDBC.
+     */
+    private static final class InMemoryReminderTable implements ReminderDispatchPort {
+
+        private final Map<UUID, Row> rows = new LinkedHashMap<>();
+
+        UUID add(LocalDateTime dueAt) {
+            UUID id = UUID.randomUUID();
+            rows.put(id, new Row(id, dueAt));
+            return id;
+        }
+
+        Row row(UUID id) {
+            return rows.get(id);
+        }
+
+        @Override
+        public synchronized List<DueReminder> claimDue(String nodeId, LocalDateTime now, LocalDateTime horizon,
+                                                       LocalDateTime leaseUntil, int limit) {
+            List<DueReminder> claimed = new ArrayList<>();
+            rows.values().stream()
+                    .filter(row -> row.dispatchedAt == null && row.dueAt.isBefore(horizon))
+                    .filter(row -> row.claimExpiresAt == null || row.claimExpiresAt.isBefore(now))
+                    .sorted(Comparator.comparing(row -> row.dueAt))
+                    .limit(limit)
+                    .forEach(row -> {
+                        row.claimedBy = nodeId;
+                        row.claimExpiresAt = leaseUntil;
+                        claimed.add(new DueReminder(row.id, UUID.randomUUID(), "Retorno", row.dueAt));
+                    });
+            return claimed;
+        }
+
+        @Override
+        public synchronized boolean markDispatched(UUID reminderId, String nodeId, LocalDateTime dispatchedAt) {
+            Row row = rows.get(reminderId);
+            if (row == null || !nodeId.equals(row.claimedBy) || row.dispatchedAt != null) {
+                return false;
+            }
+            row.dispatchedAt = dispatchedAt;
+            return true;
+        }
+
+        @Override
+        public synchronized void releaseClaim(UUID reminderId, String nodeId) {
+            Row row = rows.get(reminderId);
+            if (row != null && nodeId.equals(row.claimedBy)) {
+                row.dispatchedAt = null;
+                row.claimedBy = null;
+                row.claimExpiresAt = null;
+            }
+        }
+
+        @Override
+        public synchronized void releaseAll(String nodeId) {
+            for (Row row : rows.values()) {
+                if (nodeId.equals(row.claimedBy) && row.dispatchedAt == null) {
+                    row.claimedBy = null;
+                    row.claimExpiresAt = null;
+                }
+            }
+        }
+    }
+
+    private static final class Row {
+        final UUID id;
+        final LocalDateTime dueAt;
+        String claimedBy;
+        LocalDateTime claimExpiresAt;
+        LocalDateTime dispatchedAt;
+
+        Row(UUID id, LocalDateTime dueAt) {
+            this.id = id;
+            this.dueAt = dueAt;
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.bichomania.clinicavet.application.vaccination.services;
+
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineApplied;
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineDueItem;
+import com.bichomania.clinicavet.application.vaccination.pagination.VaccineDueCursor;
+import com.bichomania.clinicavet.application.vaccination.ports.VaccineDueIndexPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VaccineDueIndexRebuildJobTest {
+
+    private static final int PETS_PER_CHUNK = 2;
+
+    private final RecordingDueIndex dueIndex = new RecordingDueIndex();
+    private final VaccineDueIndexRebuildJob job =
+            new VaccineDueIndexRebuildJob(dueIndex, new NoOpTransactionManager(), PETS_PER_CHUNK);
+
+    @Test
+    void rebuildCoversEveryPetInConsecutiveRanges() {
+        List<UUID> pets = dueIndex.addPets(5);
+
+        assertTrue(job.tryStart());
+        job.rebuild();
+
+        assertEquals(List.of(
+                new Range(null, pets.get(1)),
+                new Range(pets.get(1), pets.get(3)),
+                new Range(pets.get(3), pets.get(4))), dueIndex.ranges);
+        assertFalse(job.isRunning());
+    }
+
+    @Test
+    void onlyOneCallerClaimsTheRunUntilItFinishes() {
+        dueIndex.addPets(1);
+
+        assertTrue(job.tryStart());
+        assertFalse(job.tryStart());
+
+        job.rebuild();
+
+        assertTrue(job.tryStart());
+    }
+
+    @Test
+    void failedRebuildReleasesTheRun() {
+        dueIndex.addPets(3);
+        dueIndex.failing = true;
+
+        assertTrue(job.tryStart());
+        assertThrows(IllegalStateException.class, job::rebuild);
+
+        assertFalse(job.isRunning());
+        assertTrue(job.tryStart());
+    }
+
+    private record Range(UUID fromExclusive, UUID toInclusive) {
+    }
+
+    // Pets em ordem de pet_id, como a consulta do adapter devolve
+    private static final class RecordingDueIndex implements VaccineDueIndexPort {
+
+        private final List<UUID> pets = new ArrayList<>();
+        private final List<Range> ranges = new ArrayList<>();
+        private boolean failing;
+
+        List<UUID> addPets(int count) {
+            IntStream.range(0, count).forEach(i -> pets.add(UUID.randomUUID()));
+            pets.sort(null);
+            return List.copyOf(pets);
+        }
+
+        @Override
+        public void recordAll(Collection<VaccineApplied> applications) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<VaccineDueItem> findDue(LocalDate until, LocalDate today, VaccineDueCursor after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<UUID> findPetIds(UUID after, int limit) {
+            return pets.stream()
+                    .filter(id -> after == null || id.compareTo(after) > 0)
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public int rebuildRange(UUID fromExclusive, UUID toInclusive) {
+            if (failing) {
+                throw new IllegalStateException("falha simulada na faixa");
+            }
+            ranges.add(new Range(fromExclusive, toInclusive));
+            return 0;
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
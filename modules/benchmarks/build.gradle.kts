@@ -0,0 +1,41 @@
+plugins {
+    java
+    id("io.spring.dependency-management")
+    id("me.champeau.jmh")
+}
+
+group = "com.bichomania.clinicavet"
+
+java {
+    toolchain { languageVersion = JavaLanguageVersion.of(21) }
+}
+
+dependencyManagement {
+    imports {
+        mavenBom(org.springframework.boot.gradle.plugin.SpringBootPlugin.BOM_COORDINATES)
+    }
+}
+
+dependencies {
+    jmh(project(":modules:domain"))
+    jmh(project(":modules:common"))
+    jmh(project(":modules:application"))
+    jmh(project(":modules:infrastructure"))
+
+    jmh("org.springframework.boot:spring-boot-starter-data-jpa")
+    jmh("com.fasterxml.jackson.core:jackson-databind")
+    jmh("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    // UuidInsertBenchmark: inserção direta num PostgreSQL descartável
+    jmh("org.postgresql:postgresql")
+}
+
+jmh {
+    jmhVersion = "1.37"
+    // Alocação por operação (gc.alloc.rate.norm) ao lado do tempo médio
+    profilers = listOf("gc")
+    // Resultado em JSON, nomeado pela versão, para comparar releases (ex.: jmh.morethan.io)
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results-${project.version}.json")
+    // Filtro opcional: ./gradlew :modules:benchmarks:jmh -Pjmh.includes=PetMapper
+    providers.gradleProperty("jmh.includes").orNull?.let { includes = listOf(it) }
+}
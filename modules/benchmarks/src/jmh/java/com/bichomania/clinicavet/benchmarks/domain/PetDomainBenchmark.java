@@ -0,0 +1,51 @@
+package com.bichomania.clinicavet.benchmarks.domain;
+
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.domain.pet.Sex;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validação das factories do Pet e cálculo de idade.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetDomainBenchmark {
+
+    private final UUID id = UUID.randomUUID();
+    private final UUID guardianId = UUID.randomUUID();
+    private final LocalDate birthDate = LocalDate.of(2018, 7, 14);
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private Pet pet;
+
+    @Setup
+    public void setUp() {
+        pet = create();
+    }
+
+    @Benchmark
+    public Pet create() {
+        return Pet.create(guardianId, "Mel", birthDate, "Poodle", Sex.FEMALE, false, "985112003456789", null);
+    }
+
+    @Benchmark
+    public Pet reconstitute() {
+        return Pet.reconstitute(id, guardianId, "Mel", birthDate, "Poodle", Sex.FEMALE, false,
+                "985112003456789", null, List.of(), List.of(), List.of(), createdAt, createdAt);
+    }
+
+    @Benchmark
+    public int calculateAgeInYears() {
+        return pet.calculateAgeInYears();
+    }
+}
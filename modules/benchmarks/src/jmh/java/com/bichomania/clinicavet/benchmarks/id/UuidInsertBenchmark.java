@@ -0,0 +1,161 @@
+package com.bichomania.clinicavet.benchmarks.id;
+
+import com.bichomania.clinicavet.common.id.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Vazão de inserção e tamanho dos índices com chave UUID v4 x v7 no PostgreSQL.
+ *
+ * Reproduz o formato de pets/vaccine_applications: tabela pai com PK uuid e tabela
+ * filha com PK uuid e FK indexada. Cada operação grava um lote JDBC de pais e filhos
+ * numa transação; o resultado é em linhas de pai por segundo. As tabelas começam com
+ * prefill linhas, para que o índice não caiba inteiro nas páginas quentes.
+ * O tamanho dos índices no fim de cada iteração sai como resultado secundário do JMH
+ * (IndexSizes, em MB), ao lado da vazão.
+ *
+ * Precisa de um PostgreSQL descartável (as tabelas bench_uuid_* são recriadas):
+ * BENCH_DB_URL (padrão jdbc:postgresql://localhost:5432/bichomania), BENCH_DB_USER e
+ * BENCH_DB_PASSWORD (padrão postgres).
+ * ./gradlew :modules:benchmarks:jmh -Pjmh.includes=UuidInsert
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@OperationsPerInvocation(UuidInsertBenchmark.BATCH_SIZE)
+public class UuidInsertBenchmark {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String CREATE_PARENT_SQL = """
+            create table bench_uuid_parent (
+                id uuid primary key,
+                name varchar(100) not null
+            )
+            """;
+
+    private static final String CREATE_CHILD_SQL = """
+            create table bench_uuid_child (
+                id uuid primary key,
+                parent_id uuid not null references bench_uuid_parent (id),
+                applied_on date not null
+            )
+            """;
+
+    private static final String INDEX_SIZES_SQL = """
+            select pg_relation_size('bench_uuid_parent_pkey'),
+                   pg_relation_size('bench_uuid_child_pkey'),
+                   pg_relation_size('idx_bench_uuid_child_parent'),
+                   (select count(*) from bench_uuid_parent)
+            """;
+
+    @Param({"v4", "v7"})
+    public String keyType;
+
+    @Param({"1000000"})
+    public int prefill;
+
+    private Connection connection;
+    private PreparedStatement insertParent;
+    private PreparedStatement insertChild;
+    private Supplier<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        ids = keyType.equals("v7") ? UuidV7::next : UUID::randomUUID;
+        connection = DriverManager.getConnection(
+                env("BENCH_DB_URL", "jdbc:postgresql://localhost:5432/bichomania"),
+                env("BENCH_DB_USER", "postgres"),
+                env("BENCH_DB_PASSWORD", "postgres"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists bench_uuid_child, bench_uuid_parent");
+            statement.execute(CREATE_PARENT_SQL);
+            statement.execute(CREATE_CHILD_SQL);
+            statement.execute("create index idx_bench_uuid_child_parent on bench_uuid_child (parent_id)");
+        }
+        connection.setAutoCommit(false);
+        insertParent = connection.prepareStatement("insert into bench_uuid_parent (id, name) values (?, ?)");
+        insertChild = connection.prepareStatement(
+                "insert into bench_uuid_child (id, parent_id, applied_on) values (?, ?, current_date)");
+        for (int inserted = 0; inserted < prefill; inserted += BATCH_SIZE) {
+            insertParentsAndChildren();
+        }
+    }
+
+    @Benchmark
+    public void insertBatch(IndexSizes sizes) throws SQLException {
+        // sizes só é recebido para o JMH medir e reportar os índices ao fim da iteração
+        insertParentsAndChildren();
+    }
+
+    private void insertParentsAndChildren() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            UUID parentId = ids.get();
+            insertParent.setObject(1, parentId);
+            insertParent.setString(2, "Rex");
+            insertParent.addBatch();
+            insertChild.setObject(1, ids.get());
+            insertChild.setObject(2, parentId);
+            insertChild.addBatch();
+        }
+        insertParent.executeBatch();
+        insertChild.executeBatch();
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table bench_uuid_child, bench_uuid_parent");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    /**
+     * Tamanho dos índices e linhas de pai ao fim da iteração, reportados pelo JMH como
+     * resultados secundários (insertBatch:parentPkMegabytes etc.) de cada keyType.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class IndexSizes {
+
+        public double parentPkMegabytes;
+        public double childPkMegabytes;
+        public double childFkMegabytes;
+        public long parentRows;
+
+        @TearDown(Level.Iteration)
+        public void measure(UuidInsertBenchmark benchmark) throws SQLException {
+            try (Statement statement = benchmark.connection.createStatement();
+                 ResultSet sizes = statement.executeQuery(INDEX_SIZES_SQL)) {
+                sizes.next();
+                parentPkMegabytes = megabytes(sizes.getLong(1));
+                childPkMegabytes = megabytes(sizes.getLong(2));
+                childFkMegabytes = megabytes(sizes.getLong(3));
+                parentRows = sizes.getLong(4);
+            }
+        }
+    }
+
+    private static double megabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private static String env(String name, String defaultValue) {
+        return Objects.requireNonNullElse(System.getenv(name), defaultValue);
+    }
+}
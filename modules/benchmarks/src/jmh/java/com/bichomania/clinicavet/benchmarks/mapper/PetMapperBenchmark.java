@@ -0,0 +1,100 @@
+package com.bichomania.clinicavet.benchmarks.mapper;
+
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.domain.pet.Sex;
+import com.bichomania.clinicavet.infrastructure.mapper.pet.PetMapper;
+import com.bichomania.clinicavet.infrastructure.persistence.pet.PetEntity;
+import com.bichomania.clinicavet.infrastructure.persistence.pet.VaccineApplicationEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de PetEntity <-> Pet por quantidade de aplicações de vacina.
+ * Compara o PetMapper (listas pré-dimensionadas entregues por posse) com o caminho anterior
+ * (streams + cópia defensiva no construtor do Pet). Rodar com o profiler gc para ver bytes por pet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetMapperBenchmark {
+
+    @Param({"0", "10", "100"})
+    public int vaccineApplications;
+
+    private final PetMapper mapper = new PetMapper();
+    private PetEntity entity;
+    private Pet pet;
+
+    @Setup
+    public void setUp() {
+        entity = new PetEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setGuardianId(UUID.randomUUID());
+        entity.setName("Thor");
+        entity.setBirthDate(LocalDate.of(2019, 5, 20));
+        entity.setBreed("Labrador");
+        entity.setSex(Sex.MALE);
+        entity.setIsCastrated(true);
+        entity.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        entity.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+
+        List<VaccineApplicationEntity> applications = new ArrayList<>(vaccineApplications);
+        for (int i = 0; i < vaccineApplications; i++) {
+            VaccineApplicationEntity application = new VaccineApplicationEntity();
+            application.setId(UUID.randomUUID());
+            application.setPet(entity);
+            application.setVaccineId(UUID.randomUUID());
+            application.setApplicationDate(LocalDate.of(2020, 1, 1).plusDays(i));
+            application.setCreatedAt(LocalDateTime.of(2020, 1, 1, 9, 0).plusDays(i));
+            application.setUpdatedAt(LocalDateTime.of(2020, 1, 1, 9, 0).plusDays(i));
+            applications.add(application);
+        }
+        entity.setVaccineApplications(applications);
+        pet = mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Pet mapper() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Pet streamsWithDefensiveCopy() {
+        return Pet.reconstitute(
+                entity.getId(),
+                entity.getGuardianId(),
+                entity.getName(),
+                entity.getBirthDate(),
+                entity.getBreed(),
+                entity.getSex(),
+                entity.getIsCastrated(),
+                entity.getMicrochipNumber(),
+                null,
+                entity.getVaccineApplications().stream().map(mapper::toDomain).toList(),
+                entity.getDewormerApplications().stream().map(mapper::toDomain).toList(),
+                entity.getReminders().stream().map(mapper::toDomain).toList(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Domínio -> entidade (caminho de escrita): só escalares, então o custo não
+     * deve variar com vaccineApplications.
+     */
+    @Benchmark
+    public PetEntity toNewEntity() {
+        PetEntity target = new PetEntity();
+        mapper.copyToEntity(pet, target);
+        return target;
+    }
+}
@@ -0,0 +1,76 @@
+package com.bichomania.clinicavet.benchmarks.serialization;
+
+import com.bichomania.clinicavet.application.pet.dto.PetResponse;
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.domain.pet.Sex;
+import com.bichomania.clinicavet.domain.vaccineapplication.VaccineApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização Jackson do PetResponse com históricos de vacina grandes,
+ * como no corpo devolvido pelos endpoints do PetController.
+ * O ObjectMapper espelha o padrão do Spring Boot (JavaTimeModule, datas ISO).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetResponseSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int vaccineApplications;
+
+    private ObjectWriter writer;
+    private Pet pet;
+    private PetResponse response;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writer();
+
+        List<VaccineApplication> applications = new ArrayList<>(vaccineApplications);
+        for (int i = 0; i < vaccineApplications; i++) {
+            LocalDateTime appliedAt = LocalDateTime.of(2015, 1, 1, 9, 0).plusDays(i);
+            applications.add(VaccineApplication.reconstitute(UUID.randomUUID(), UUID.randomUUID(),
+                    appliedAt.toLocalDate(), appliedAt, appliedAt));
+        }
+
+        LocalDateTime createdAt = LocalDateTime.of(2015, 1, 1, 9, 0);
+        pet = Pet.reconstitute(UUID.randomUUID(), UUID.randomUUID(), "Bidu", LocalDate.of(2014, 3, 2), "Beagle",
+                Sex.MALE, true, "985112003456789", "Paciente estável.".repeat(50),
+                applications, List.of(), List.of(), createdAt, createdAt);
+        response = PetResponse.from(pet);
+    }
+
+    /**
+     * Apenas a escrita JSON de um PetResponse já montado.
+     */
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+
+    /**
+     * Caminho completo do controller: Pet -> PetResponse -> JSON.
+     */
+    @Benchmark
+    public byte[] mapAndSerialize() throws Exception {
+        return writer.writeValueAsBytes(PetResponse.from(pet));
+    }
+}
@@ -6,4 +6,30 @@ public final class ExceptionMessages {
 
     public static final String PET_FIELD_REQUIRED = "Campos obrigatórios do pet não foram preenchidos.";
     public static final String PET_BIRTH_DATE_IN_FUTURE = "A data de nascimento não pode ser no futuro.";
+    public static final String PET_NOT_FOUND = "Pet não encontrado.";
+    public static final String PET_BATCH_WRITE_FAILED = "Falha ao gravar o lote no banco de dados.";
+    public static final String PET_IMPORT_ROW_REJECTED = "Linha rejeitada pelo banco de dados (ex.: microchip duplicado).";
+    public static final String PET_IMPORT_CSV_HEADER_INVALID = "Cabeçalho CSV inválido: esperado guardianId,name,birthDate,breed,sex,isCastrated,microchipNumber,history.";
+    public static final String PET_VERSION_MISMATCH = "O pet foi alterado desde a versão informada em If-Match.";
+    public static final String PET_CONCURRENT_UPDATE = "O pet está sendo alterado por outras requisições; tente novamente.";
+
+    public static final String VACCINE_FIELD_REQUIRED = "Campos obrigatórios da vacina não foram preenchidos.";
+    public static final String VACCINE_BOOSTER_INTERVAL_INVALID = "O intervalo de reforço da vacina deve ser positivo.";
+    public static final String VACCINE_NOT_FOUND = "Vacina não encontrada no catálogo.";
+
+    public static final String VACCINE_APPLICATION_FIELD_REQUIRED = "Campos obrigatórios da aplicação de vacina não foram preenchidos.";
+    public static final String VACCINE_APPLICATION_DATE_IN_FUTURE = "A data de aplicação da vacina não pode ser no futuro.";
+
+    public static final String DEWORMER_FIELD_REQUIRED = "Campos obrigatórios do vermífugo não foram preenchidos.";
+    public static final String DEWORMER_INTERVAL_INVALID = "Os intervalos entre doses do vermífugo devem ser positivos.";
+    public static final String DEWORMER_NOT_FOUND = "Vermífugo não encontrado no catálogo.";
+
+    public static final String DEWORMER_APPLICATION_FIELD_REQUIRED = "Campos obrigatórios da aplicação de vermífugo não foram preenchidos.";
+    public static final String DEWORMER_APPLICATION_DATE_IN_FUTURE = "A data de aplicação do vermífugo não pode ser no futuro.";
+
+    public static final String REMINDER_FIELD_REQUIRED = "Campos obrigatórios do lembrete não foram preenchidos.";
+
+    public static final String INVALID_CURSOR = "Cursor de paginação inválido.";
+
+    public static final String DB_CONCURRENCY_LIMIT_TIMEOUT = "Tempo esgotado aguardando vaga de acesso ao banco de dados.";
 }
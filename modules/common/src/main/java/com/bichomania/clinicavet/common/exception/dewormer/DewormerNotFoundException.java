@@ -0,0 +1,10 @@
+package com.bichomania.clinicavet.common.exception.dewormer;
+
+import com.bichomania.clinicavet.common.exception.BaseException;
+
+public class DewormerNotFoundException extends BaseException {
+
+    public DewormerNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.bichomania.clinicavet.common.exception.dewormer;
+
+import com.bichomania.clinicavet.common.exception.BaseException;
+
+public class InvalidDewormerException extends BaseException {
+
+    public InvalidDewormerException(String message) {
+        super(message);
+    }
+}
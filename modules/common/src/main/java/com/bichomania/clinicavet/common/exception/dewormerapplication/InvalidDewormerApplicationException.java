@@ -0,0 +1,10 @@
+package com.bichomania.clinicavet.common.exception.dewormerapplication;
+
+import com.bichomania.clinicavet.common.exception.BaseException;
+
+public class InvalidDewormerApplicationException extends BaseException {
+
+    public InvalidDewormerApplicationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.bichomania.clinicavet.common.exception.pagination;
+
+import com.bichomania.clinicavet.common.exception.BaseException;
+
+public class InvalidCursorException extends BaseException {
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
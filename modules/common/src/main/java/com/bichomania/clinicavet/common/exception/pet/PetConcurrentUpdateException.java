@@ -0,0 +1,10 @@
+package com.bichomania.clinicavet.common.exception.pet;
+
+import com.bichomania.clinicavet.common.exception.BaseException;
+
+public class PetConcurrentUpdateException extends BaseException {
+
+    public PetConcurrentUpdateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,10 @@
+package com.bichomania.clinicavet.common.exception.pet;
+
+import com.bichomania.clinicavet.common.exception.BaseException;
+
+public class PetVersionMismatchException extends BaseException {
+
+    public PetVersionMismatchException(String message) {
+        super(message);
+    }
+}
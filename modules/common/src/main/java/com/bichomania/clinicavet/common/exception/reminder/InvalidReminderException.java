@@ -0,0 +1,10 @@
+package com.bichomania.clinicavet.common.exception.reminder;
+
+import com.bichomania.clinicavet.common.exception.BaseException;
+
+public class InvalidReminderException extends BaseException {
+
+    public InvalidReminderException(String message) {
+        super(message);
+    }
+}
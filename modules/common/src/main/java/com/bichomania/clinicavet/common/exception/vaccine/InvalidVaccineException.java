@@ -0,0 +1,10 @@
+package com.bichomania.clinicavet.common.exception.vaccine;
+
+import com.bichomania.clinicavet.common.exception.BaseException;
+
+public class InvalidVaccineException extends BaseException {
+
+    public InvalidVaccineException(String message) {
+        super(message);
+    }
+}
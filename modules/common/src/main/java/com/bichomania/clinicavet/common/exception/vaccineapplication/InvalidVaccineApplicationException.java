@@ -0,0 +1,10 @@
+package com.bichomania.clinicavet.common.exception.vaccineapplication;
+
+import com.bichomania.clinicavet.common.exception.BaseException;
+
+public class InvalidVaccineApplicationException extends BaseException {
+
+    public InvalidVaccineApplicationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,62 @@
+package com.bichomania.clinicavet.common.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de UUID versão 7 (RFC 9562): 48 bits de milissegundos Unix, 12 bits de
+ * sequência e 62 bits aleatórios.
+ *
+ * IDs novos caem sempre no fim do índice da chave primária (e dos índices de FK das
+ * tabelas filhas), em vez de espalhados pela árvore inteira como o UUID v4: as inserções
+ * tocam poucas páginas, quentes no cache, e as páginas não se dividem pela metade.
+ *
+ * Dentro do processo os IDs são estritamente crescentes: timestamp e sequência vivem num
+ * único AtomicLong atualizado por CAS, sem lock. Mais de 4096 IDs no mesmo milissegundo
+ * adiantam o timestamp em 1 ms, como o RFC permite. Entre processos a ordem é a do
+ * relógio, e a unicidade vem dos bits aleatórios.
+ * Os bits aleatórios vêm do ThreadLocalRandom: o ID é único, mas não é segredo.
+ */
+public final class UuidV7 {
+
+    private static final int SEQUENCE_BITS = 12;
+
+    // Últimos (timestamp << 12 | sequência) entregues
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {} // evita instanciamento
+
+    public static UUID next() {
+        return build(nextTimeAndSequence(System.currentTimeMillis()), ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Milissegundos Unix gravados no UUID v7.
+     */
+    public static long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("UUID não é versão 7: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    static UUID build(long timeAndSequence, long random) {
+        long timestamp = timeAndSequence >>> SEQUENCE_BITS;
+        long sequence = timeAndSequence & ((1L << SEQUENCE_BITS) - 1);
+        long msb = (timestamp << 16) | (0x7L << 12) | sequence;
+        long lsb = (random & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static long nextTimeAndSequence(long nowMillis) {
+        long floor = nowMillis << SEQUENCE_BITS;
+        while (true) {
+            long last = LAST.get();
+            long next = Math.max(last + 1, floor);
+            if (LAST.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -1,107 +1,152 @@
 package com.bichomania.clinicavet.domain.dewormer;
 
 import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.common.exception.dewormer.InvalidDewormerException;
+import com.bichomania.clinicavet.common.id.UuidV7;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+/**
+ * Entidade Dewormer (Vermífugo do domínio)
+ * Item do catálogo de vermífugos, com a regra de intervalo entre doses por faixa etária.
+ * Não conhece JPA, DTOs ou Spring.
+ */
 public class Dewormer {
 
+    // Mensagens de exceção definidas de forma centralizada em ExceptionMessages
+    private static final String DEWORMER_FIELD_REQUIRED = ExceptionMessages.DEWORMER_FIELD_REQUIRED;
+    private static final String INTERVAL_INVALID = ExceptionMessages.DEWORMER_INTERVAL_INVALID;
+
+    // Faixas etárias da regra de intervalo (idade em anos completos na data da aplicação, Pet.calculateAgeInYears)
+    public static final int ADULT_FROM_AGE = 1;
+    public static final int SENIOR_FROM_AGE = 7;
+
+    // Campos essenciais do domínio
+    private final java.util.UUID id;
+    private final String name;
+
+    // Dias até a próxima dose: filhotes (< 1 ano) recebem doses mais próximas;
+    // sem intervalo sênior definido, vale o de adulto
+    private final int juvenileIntervalDays;
+    private final int adultIntervalDays;
+    private final Integer seniorIntervalDays;
+
+    // Auditoria do domínio
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
     /**
-     * Entidade Vaccine (Vacina do domínio)
-     * Contém regras de negócio e imutabilidade parcial.
-     * Não conhece JPA, DTOs ou Spring.
+     * Construtor privado.
+     * Usado internamente por factory methods e reconstituição do banco.
      */
+    private Dewormer(java.util.UUID id, String name, Integer juvenileIntervalDays, Integer adultIntervalDays,
+                     Integer seniorIntervalDays, LocalDateTime createdAt, LocalDateTime updatedAt) {
 
-    public class Vaccine {
+        // Valida campos obrigatórios
+        if (name == null || name.isBlank() || juvenileIntervalDays == null || adultIntervalDays == null) {
+            throw new InvalidDewormerException(DEWORMER_FIELD_REQUIRED);
+        }
 
-        // Mensagens de exceção definidas de forma centralizada em ExceptionMessages
-        private static final String VACCINE_FIELD_REQUIRED = ExceptionMessages.VACCINE_FIELD_REQUIRED;
-        private static final String E = ExceptionMessages.VACCINE_DATE_IN_PAST;
+        // Valida intervalos
+        if (juvenileIntervalDays <= 0 || adultIntervalDays <= 0
+                || (seniorIntervalDays != null && seniorIntervalDays <= 0)) {
+            throw new InvalidDewormerException(INTERVAL_INVALID);
+        }
 
-        // Campos essenciais do domínio
-        private final java.util.UUID id;
-        private final String name;
+        // Inicializa campos
+        this.id = (id != null) ? id : UuidV7.next();
+        this.name = name;
+        this.juvenileIntervalDays = juvenileIntervalDays;
+        this.adultIntervalDays = adultIntervalDays;
+        this.seniorIntervalDays = seniorIntervalDays;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 
-        // Listas de agregados
+    /**
+     * Factory method para criação de novo vermífugo no catálogo.
+     * Garante validação de campos e regras de negócio.
+     */
+    public static Dewormer create(String name, Integer juvenileIntervalDays, Integer adultIntervalDays,
+                                  Integer seniorIntervalDays) {
+        return new Dewormer(null, name, juvenileIntervalDays, adultIntervalDays, seniorIntervalDays, null, null);
+    }
 
-        // Auditoria do domínio
-        private final LocalDateTime createdAt;
-        private final LocalDateTime updatedAt;
+    /**
+     * Reconstitui vermífugo existente do banco.
+     */
+    public static Dewormer reconstitute(java.util.UUID id, String name, Integer juvenileIntervalDays,
+                                        Integer adultIntervalDays, Integer seniorIntervalDays,
+                                        LocalDateTime createdAt, LocalDateTime updatedAt) {
 
-        /**
-         * Construtor privado.
-         * Usado internamente por factory methods e reconstituição do banco.
-         */
-        private Vaccine(java.util.UUID id, String name,
-                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new Dewormer(id, name, juvenileIntervalDays, adultIntervalDays, seniorIntervalDays, createdAt, updatedAt);
+    }
 
-            // Valida campos obrigatórios
-            if (name == null) {
-                throw new InvalidVaccineException(VACCINE_FIELD_REQUIRED);
-            }
+    // Métodos de domínio
 
-            // Inicializa campos
-            this.id = (id != null) ? id : java.util.UUID.randomUUID();
-            this.name = name;
-            this.createdAt = createdAt;
-            this.updatedAt = updatedAt;
+    /**
+     * Intervalo entre doses para um pet com a idade informada.
+     */
+    public int intervalDaysFor(int ageInYears) {
+        if (ageInYears < ADULT_FROM_AGE) {
+            return juvenileIntervalDays;
         }
-
-        /**
-         * Factory method para criação de novo vaccine.
-         * Garante validação de campos e regras de negócio.
-         */
-        public static com.bichomania.clinicavet.domain.vaccine.Vaccine create(java.util.UUID id, String name {
-
-            // Valida campos obrigatórios
-            if (name == null) {
-                throw new InvalidVaccineException(VACCINE_FIELD_REQUIRED);
-            }
-
-            // Valida data de nascimento
-            if (.isAfter(LocalDate.now())) {
-                throw new InvalidVaccineException(VACCINE_DATE_IN_FUTURE);
-            }
-
-            return new com.bichomania.clinicavet.domain.vaccine.Vaccine(
-                    name,
-                    );
+        if (ageInYears >= SENIOR_FROM_AGE && seniorIntervalDays != null) {
+            return seniorIntervalDays;
         }
+        return adultIntervalDays;
+    }
+
+    /**
+     * Data da próxima dose a partir de uma aplicação, para um pet com a idade informada.
+     */
+    public LocalDate nextDueAfter(LocalDate applicationDate, int ageInYears) {
+        return applicationDate.plusDays(intervalDaysFor(ageInYears));
+    }
 
-        /**
-         * Reconstitui vaccine existente do banco.
-         * Mantém imutabilidade parcial e listas defensivas.
-         */
-        public static com.bichomania.clinicavet.domain.vaccine.Vaccine reconstitute(java.util.UUID id, String name,
-                                                                                    LocalDateTime createdAt, LocalDateTime updatedAt) {
+    // Getters (somente leitura)
 
-            return new com.bichomania.clinicavet.domain.vaccine.Vaccine(id, name, createdAt, updatedAt);
-        }
+    public java.util.UUID getId() {
+        return id;
+    }
 
-        // Métodos de domínio
+    public String getName() {
+        return name;
+    }
 
-        public LocalDateTime getCreatedAt() {
-            return createdAt;
-        }
+    public int getJuvenileIntervalDays() {
+        return juvenileIntervalDays;
+    }
 
-        public LocalDateTime getUpdatedAt() {
-            return updatedAt;
-        }
+    public int getAdultIntervalDays() {
+        return adultIntervalDays;
+    }
 
-        // Equals e HashCode baseados no ID
+    public Integer getSeniorIntervalDays() {
+        return seniorIntervalDays;
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (!(o instanceof com.bichomania.clinicavet.domain.pet.Pet pet)) return false;
-            return Objects.equals(id, vaccine.id);
-        }
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(id);
-        }
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // Equals e HashCode baseados no ID
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Dewormer that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
     }
 }
@@ -1,107 +1,109 @@
 package com.bichomania.clinicavet.domain.dewormerapplication;
 
 import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.common.exception.dewormerapplication.InvalidDewormerApplicationException;
+import com.bichomania.clinicavet.common.id.UuidV7;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+/**
+ * Entidade DewormerApplication (aplicação de vermífugo em um pet).
+ * Faz parte do agregado Pet e referencia o catálogo de vermífugos pelo ID.
+ * Não conhece JPA, DTOs ou Spring.
+ */
 public class DewormerApplication {
 
+    // Mensagens de exceção definidas de forma centralizada em ExceptionMessages
+    private static final String FIELD_REQUIRED = ExceptionMessages.DEWORMER_APPLICATION_FIELD_REQUIRED;
+    private static final String DATE_IN_FUTURE = ExceptionMessages.DEWORMER_APPLICATION_DATE_IN_FUTURE;
+
+    // Campos essenciais do domínio
+    private final java.util.UUID id;
+    private final java.util.UUID dewormerId;
+    private final LocalDate applicationDate;
+
+    // Auditoria do domínio
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
     /**
-     * Entidade Vaccine (Vacina do domínio)
-     * Contém regras de negócio e imutabilidade parcial.
-     * Não conhece JPA, DTOs ou Spring.
+     * Construtor privado.
+     * Usado internamente por factory methods e reconstituição do banco.
      */
+    private DewormerApplication(java.util.UUID id, java.util.UUID dewormerId, LocalDate applicationDate,
+                                LocalDateTime createdAt, LocalDateTime updatedAt) {
 
-    public class Vaccine {
-
-        // Mensagens de exceção definidas de forma centralizada em ExceptionMessages
-        private static final String VACCINE_FIELD_REQUIRED = ExceptionMessages.VACCINE_FIELD_REQUIRED;
-        private static final String E = ExceptionMessages.VACCINE_DATE_IN_PAST;
+        // Valida campos obrigatórios
+        if (dewormerId == null || applicationDate == null) {
+            throw new InvalidDewormerApplicationException(FIELD_REQUIRED);
+        }
 
-        // Campos essenciais do domínio
-        private final java.util.UUID id;
-        private final String name;
+        // Inicializa campos
+        this.id = (id != null) ? id : UuidV7.next();
+        this.dewormerId = dewormerId;
+        this.applicationDate = applicationDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 
-        // Listas de agregados
+    /**
+     * Factory method para registro de nova aplicação.
+     * Garante validação de campos e regras de negócio.
+     */
+    public static DewormerApplication create(java.util.UUID dewormerId, LocalDate applicationDate) {
 
-        // Auditoria do domínio
-        private final LocalDateTime createdAt;
-        private final LocalDateTime updatedAt;
+        // Valida data de aplicação
+        if (applicationDate != null && applicationDate.isAfter(LocalDate.now())) {
+            throw new InvalidDewormerApplicationException(DATE_IN_FUTURE);
+        }
 
-        /**
-         * Construtor privado.
-         * Usado internamente por factory methods e reconstituição do banco.
-         */
-        private Vaccine(java.util.UUID id, String name,
-                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new DewormerApplication(null, dewormerId, applicationDate, null, null);
+    }
 
-            // Valida campos obrigatórios
-            if (name == null) {
-                throw new InvalidVaccineException(VACCINE_FIELD_REQUIRED);
-            }
+    /**
+     * Reconstitui aplicação existente do banco.
+     */
+    public static DewormerApplication reconstitute(java.util.UUID id, java.util.UUID dewormerId, LocalDate applicationDate,
+                                                   LocalDateTime createdAt, LocalDateTime updatedAt) {
 
-            // Inicializa campos
-            this.id = (id != null) ? id : java.util.UUID.randomUUID();
-            this.name = name;
-            this.createdAt = createdAt;
-            this.updatedAt = updatedAt;
-        }
+        return new DewormerApplication(id, dewormerId, applicationDate, createdAt, updatedAt);
+    }
 
-        /**
-         * Factory method para criação de novo vaccine.
-         * Garante validação de campos e regras de negócio.
-         */
-        public static com.bichomania.clinicavet.domain.vaccine.Vaccine create(java.util.UUID id, String name {
-
-            // Valida campos obrigatórios
-            if (name == null) {
-                throw new InvalidVaccineException(VACCINE_FIELD_REQUIRED);
-            }
-
-            // Valida data de nascimento
-            if (.isAfter(LocalDate.now())) {
-                throw new InvalidVaccineException(VACCINE_DATE_IN_FUTURE);
-            }
-
-            return new com.bichomania.clinicavet.domain.vaccine.Vaccine(
-                    name,
-                    );
-        }
+    // Getters (somente leitura)
 
-        /**
-         * Reconstitui vaccine existente do banco.
-         * Mantém imutabilidade parcial e listas defensivas.
-         */
-        public static com.bichomania.clinicavet.domain.vaccine.Vaccine reconstitute(java.util.UUID id, String name,
-                                                                                    LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public java.util.UUID getId() {
+        return id;
+    }
 
-            return new com.bichomania.clinicavet.domain.vaccine.Vaccine(id, name, createdAt, updatedAt);
-        }
+    public java.util.UUID getDewormerId() {
+        return dewormerId;
+    }
 
-        // Métodos de domínio
+    public LocalDate getApplicationDate() {
+        return applicationDate;
+    }
 
-        public LocalDateTime getCreatedAt() {
-            return createdAt;
-        }
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
 
-        public LocalDateTime getUpdatedAt() {
-            return updatedAt;
-        }
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
 
-        // Equals e HashCode baseados no ID
+    // Equals e HashCode baseados no ID
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (!(o instanceof com.bichomania.clinicavet.domain.pet.Pet pet)) return false;
-            return Objects.equals(id, vaccine.id);
-        }
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DewormerApplication that)) return false;
+        return Objects.equals(id, that.id);
+    }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(id);
-        }
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
     }
 }
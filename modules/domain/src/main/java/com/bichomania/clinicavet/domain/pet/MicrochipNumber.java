@@ -0,0 +1,49 @@
+package com.bichomania.clinicavet.domain.pet;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Forma canônica do número de microchip, usada na unicidade e na busca por chip.
+ *
+ * Leitores e cadastros escrevem o mesmo chip de jeitos diferentes:
+ * "985 141 000 123 456", "985-141000123456", "985.141000123456" e, no ISO 11784/11785,
+ * também em hexadecimal "3D9.0020D41E5C" (país com 10 bits, código nacional com 38 bits).
+ * A forma canônica tira separadores e caixa; o formato hexadecimal ISO vira os
+ * 15 dígitos decimais (3 do país + 12 do código nacional).
+ * Chips não ISO (ex.: AVID de 9 dígitos, FECAVA de 10 caracteres) só perdem os separadores.
+ *
+ * A migração V6 reproduz estas regras em SQL para preencher a coluna canônica.
+ */
+public final class MicrochipNumber {
+
+    private static final Pattern ISO_HEX = Pattern.compile("^([0-9A-Fa-f]{3})[.:]([0-9A-Fa-f]{10})$");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^0-9A-Za-z]");
+
+    // ISO 11784: país em 10 bits (até 999 válidos) e código nacional em 38 bits
+    private static final long MAX_COUNTRY_CODE = 999L;
+    private static final long MAX_NATIONAL_CODE = (1L << 38) - 1;
+
+    private MicrochipNumber() {} // evita instanciamento
+
+    /**
+     * Devolve a forma canônica, ou null se não sobrar nenhum caractere.
+     */
+    public static String canonicalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String trimmed = raw.strip();
+        Matcher hex = ISO_HEX.matcher(trimmed);
+        if (hex.matches()) {
+            long country = Long.parseLong(hex.group(1), 16);
+            long national = Long.parseLong(hex.group(2), 16);
+            if (country <= MAX_COUNTRY_CODE && national <= MAX_NATIONAL_CODE) {
+                return String.format(Locale.ROOT, "%03d%012d", country, national);
+            }
+        }
+        String compact = NON_ALPHANUMERIC.matcher(trimmed).replaceAll("").toUpperCase(Locale.ROOT);
+        return compact.isEmpty() ? null : compact;
+    }
+}
@@ -2,6 +2,7 @@ package com.bichomania.clinicavet.domain.pet;
 
 import com.bichomania.clinicavet.common.exception.ExceptionMessages;
 import com.bichomania.clinicavet.common.exception.pet.InvalidPetException;
+import com.bichomania.clinicavet.common.id.UuidV7;
 import com.bichomania.clinicavet.domain.dewormerapplication.DewormerApplication;
 import com.bichomania.clinicavet.domain.vaccineapplication.VaccineApplication;
 
@@ -33,13 +34,23 @@ public class Pet {
     private final Sex sex;
     private final Boolean isCastrated;
     private String microchipNumber;
+
+    // Histórico clínico: fica fora das leituras do agregado (null ao reconstituir)
+    // e é lido sob demanda. Só é regravado quando alterado neste ciclo.
     private String history;
+    private boolean historyChanged;
 
     // Listas de agregados
     private final List<VaccineApplication> vaccineApplications;
     private final List<DewormerApplication> dewormerApplications;
     private final List<Reminder> reminders;
 
+    // Filhos adicionados desde a criação/reconstituição e ainda não gravados.
+    // Alocados só no primeiro add: leituras não pagam por essas listas.
+    private List<VaccineApplication> pendingVaccineApplications;
+    private List<DewormerApplication> pendingDewormerApplications;
+    private List<Reminder> pendingReminders;
+
     // Auditoria do domínio
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
@@ -53,7 +64,8 @@ public class Pet {
                 List<VaccineApplication> vaccineApplications,
                 List<DewormerApplication> dewormerApplications,
                 List<Reminder> reminders,
-                LocalDateTime createdAt, LocalDateTime updatedAt) {
+                LocalDateTime createdAt, LocalDateTime updatedAt,
+                boolean takeListOwnership) {
 
         // Valida campos obrigatórios
         if (guardianId == null || name == null || birthDate == null || sex == null || isCastrated == null || breed == null || breed.isBlank()) {
@@ -61,7 +73,7 @@ public class Pet {
         }
 
         // Inicializa campos
-        this.id = (id != null) ? id : java.util.UUID.randomUUID();
+        this.id = (id != null) ? id : UuidV7.next();
         this.guardianId = guardianId;
         this.name = name;
         this.birthDate = birthDate;
@@ -70,9 +82,9 @@ public class Pet {
         this.isCastrated = isCastrated;
         this.microchipNumber = microchipNumber;
         this.history = history;
-        this.vaccineApplications = vaccineApplications != null ? new ArrayList<>(vaccineApplications) : new ArrayList<>();
-        this.dewormerApplications = dewormerApplications != null ? new ArrayList<>(dewormerApplications) : new ArrayList<>();
-        this.reminders = reminders != null ? new ArrayList<>(reminders) : new ArrayList<>();
+        this.vaccineApplications = ownedList(vaccineApplications, takeListOwnership);
+        this.dewormerApplications = ownedList(dewormerApplications, takeListOwnership);
+        this.reminders = ownedList(reminders, takeListOwnership);
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -94,7 +106,7 @@ public class Pet {
             throw new InvalidPetException(BIRTH_DATE_IN_FUTURE);
         }
 
-        return new Pet(
+        Pet pet = new Pet(
                 null,
                 guardianId,
                 name,
@@ -106,8 +118,13 @@ public class Pet {
                 history,
                 null,
                 null,
-                null
+                null,
+                null,
+                null,
+                false
                 );
+        pet.historyChanged = true;
+        return pet;
     }
 
     /**
@@ -127,7 +144,26 @@ public class Pet {
 
         return new Pet(id, guardianId, name, birthDate, breed, sex, isCastrated,
                 microchipNumber, history, vaccineApplications, dewormerApplications,
-                reminders, createdAt, updatedAt);
+                reminders, createdAt, updatedAt, false);
+    }
+
+    /**
+     * Reconstitui pet existente do banco assumindo a posse das listas de PetCollections.
+     * As listas não são copiadas: o chamador (ex.: PetMapper) as monta uma única vez,
+     * mutáveis e já no tamanho certo, e não deve mais alterá-las depois desta chamada.
+     */
+    public static Pet reconstitute(java.util.UUID id, java.util.UUID guardianId, String name, LocalDate birthDate,
+                                   String breed, Sex sex, Boolean isCastrated, String microchipNumber,
+                                   String history, PetCollections collections,
+                                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        if (birthDate != null && birthDate.isAfter(LocalDate.now())) {
+            throw new InvalidPetException(BIRTH_DATE_IN_FUTURE);
+        }
+
+        return new Pet(id, guardianId, name, birthDate, breed, sex, isCastrated,
+                microchipNumber, history, collections.vaccineApplications(), collections.dewormerApplications(),
+                collections.reminders(), createdAt, updatedAt, true);
     }
 
     // Métodos de domínio
@@ -144,31 +180,84 @@ public class Pet {
 
     public void updateHistory(String newHistory) {
         this.history = newHistory;
+        this.historyChanged = true;
     }
 
     public void addVaccineApplication(VaccineApplication vaccineApplication) {
         if (vaccineApplication != null) {
             this.vaccineApplications.add(vaccineApplication);
+            if (pendingVaccineApplications == null) {
+                pendingVaccineApplications = new ArrayList<>(1);
+            }
+            pendingVaccineApplications.add(vaccineApplication);
         }
     }
 
     public void addDewormerApplication(DewormerApplication dewormerApplication) {
         if (dewormerApplication != null) {
             this.dewormerApplications.add(dewormerApplication);
+            if (pendingDewormerApplications == null) {
+                pendingDewormerApplications = new ArrayList<>(1);
+            }
+            pendingDewormerApplications.add(dewormerApplication);
         }
     }
 
     public void addReminder(Reminder reminder) {
         if (reminder != null) {
             this.reminders.add(reminder);
+            if (pendingReminders == null) {
+                pendingReminders = new ArrayList<>(1);
+            }
+            pendingReminders.add(reminder);
         }
     }
 
+    /**
+     * Indica se há filhos adicionados ainda não gravados.
+     * A persistência grava apenas essas linhas novas, sem comparar as coleções inteiras.
+     */
+    public boolean hasPendingAdditions() {
+        return pendingVaccineApplications != null || pendingDewormerApplications != null || pendingReminders != null;
+    }
+
+    /**
+     * Chamado pela persistência depois de gravar as adições pendentes.
+     */
+    public void markPendingAdditionsPersisted() {
+        pendingVaccineApplications = null;
+        pendingDewormerApplications = null;
+        pendingReminders = null;
+    }
+
+    /**
+     * Indica se o histórico foi definido (criação) ou alterado e precisa ser gravado.
+     */
+    public boolean isHistoryChanged() {
+        return historyChanged;
+    }
+
     /**
      * Calcula idade do pet em anos inteiros.
      */
     public int calculateAgeInYears() {
-        return Period.between(this.birthDate, LocalDate.now()).getYears();    }
+        return calculateAgeInYears(LocalDate.now());
+    }
+
+    /**
+     * Calcula idade do pet em anos inteiros na data informada (ex.: data de uma aplicação).
+     */
+    public int calculateAgeInYears(LocalDate date) {
+        return Period.between(this.birthDate, date).getYears();
+    }
+
+    // Sem posse, copia a lista recebida para que alterações externas não vazem para o agregado
+    private static <T> List<T> ownedList(List<T> source, boolean takeOwnership) {
+        if (source == null) {
+            return new ArrayList<>();
+        }
+        return takeOwnership ? source : new ArrayList<>(source);
+    }
 
     // Getters (somente leitura)
 
@@ -204,6 +293,13 @@ public class Pet {
         return microchipNumber;
     }
 
+    /**
+     * Número do microchip na forma canônica (MicrochipNumber), chave da busca por chip.
+     */
+    public String getCanonicalMicrochipNumber() {
+        return MicrochipNumber.canonicalize(microchipNumber);
+    }
+
     public String getHistory() {
         return history;
     }
@@ -220,6 +316,18 @@ public class Pet {
         return Collections.unmodifiableList(reminders);
     }
 
+    public List<VaccineApplication> getPendingVaccineApplications() {
+        return pendingVaccineApplications == null ? List.of() : Collections.unmodifiableList(pendingVaccineApplications);
+    }
+
+    public List<DewormerApplication> getPendingDewormerApplications() {
+        return pendingDewormerApplications == null ? List.of() : Collections.unmodifiableList(pendingDewormerApplications);
+    }
+
+    public List<Reminder> getPendingReminders() {
+        return pendingReminders == null ? List.of() : Collections.unmodifiableList(pendingReminders);
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,18 @@
+package com.bichomania.clinicavet.domain.pet;
+
+import com.bichomania.clinicavet.domain.dewormerapplication.DewormerApplication;
+import com.bichomania.clinicavet.domain.vaccineapplication.VaccineApplication;
+
+import java.util.List;
+
+/**
+ * Listas filhas entregues ao Pet por transferência de posse
+ * (ver Pet.reconstitute com PetCollections).
+ * As listas devem ser mutáveis e não podem ser reutilizadas pelo chamador.
+ */
+public record PetCollections(
+        List<VaccineApplication> vaccineApplications,
+        List<DewormerApplication> dewormerApplications,
+        List<Reminder> reminders
+) {
+}
@@ -0,0 +1,106 @@
+package com.bichomania.clinicavet.domain.pet;
+
+import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.common.exception.reminder.InvalidReminderException;
+import com.bichomania.clinicavet.common.id.UuidV7;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Lembrete associado a um pet (retorno, nova dose, exame...).
+ * Faz parte do agregado Pet.
+ * Não conhece JPA, DTOs ou Spring.
+ */
+public class Reminder {
+
+    // Mensagens de exceção definidas de forma centralizada em ExceptionMessages
+    private static final String REMINDER_FIELD_REQUIRED = ExceptionMessages.REMINDER_FIELD_REQUIRED;
+
+    // Campos essenciais do domínio
+    private final java.util.UUID id;
+    private final String description;
+    private final LocalDateTime dueAt;
+    private final boolean completed;
+
+    // Auditoria do domínio
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    /**
+     * Construtor privado.
+     * Usado internamente por factory methods e reconstituição do banco.
+     */
+    private Reminder(java.util.UUID id, String description, LocalDateTime dueAt, boolean completed,
+                     LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        // Valida campos obrigatórios
+        if (description == null || description.isBlank() || dueAt == null) {
+            throw new InvalidReminderException(REMINDER_FIELD_REQUIRED);
+        }
+
+        // Inicializa campos
+        this.id = (id != null) ? id : UuidV7.next();
+        this.description = description;
+        this.dueAt = dueAt;
+        this.completed = completed;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Factory method para criação de novo lembrete.
+     */
+    public static Reminder create(String description, LocalDateTime dueAt) {
+        return new Reminder(null, description, dueAt, false, null, null);
+    }
+
+    /**
+     * Reconstitui lembrete existente do banco.
+     */
+    public static Reminder reconstitute(java.util.UUID id, String description, LocalDateTime dueAt, boolean completed,
+                                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        return new Reminder(id, description, dueAt, completed, createdAt, updatedAt);
+    }
+
+    // Getters (somente leitura)
+
+    public java.util.UUID getId() {
+        return id;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // Equals e HashCode baseados no ID
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Reminder reminder)) return false;
+        return Objects.equals(id, reminder.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
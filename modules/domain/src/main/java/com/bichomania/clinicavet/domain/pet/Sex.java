@@ -0,0 +1,9 @@
+package com.bichomania.clinicavet.domain.pet;
+
+/**
+ * Sexo do pet.
+ */
+public enum Sex {
+    MALE,
+    FEMALE
+}
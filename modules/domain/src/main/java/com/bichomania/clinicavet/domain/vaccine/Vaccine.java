@@ -2,6 +2,7 @@ package com.bichomania.clinicavet.domain.vaccine;
 
 import com.bichomania.clinicavet.common.exception.ExceptionMessages;
 import com.bichomania.clinicavet.common.exception.vaccine.InvalidVaccineException;
+import com.bichomania.clinicavet.common.id.UuidV7;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -9,97 +10,113 @@ import java.util.Objects;
 
 /**
  * Entidade Vaccine (Vacina do domínio)
- * Contém regras de negócio e imutabilidade parcial.
+ * Item do catálogo de vacinas referenciado pelas aplicações (VaccineApplication).
  * Não conhece JPA, DTOs ou Spring.
  */
-
 public class Vaccine {
 
-        // Mensagens de exceção definidas de forma centralizada em ExceptionMessages
-        private static final String VACCINE_FIELD_REQUIRED = ExceptionMessages.VACCINE_FIELD_REQUIRED;
-        private static final String E = ExceptionMessages.VACCINE_DATE_IN_PAST;
+    // Mensagens de exceção definidas de forma centralizada em ExceptionMessages
+    private static final String VACCINE_FIELD_REQUIRED = ExceptionMessages.VACCINE_FIELD_REQUIRED;
+    private static final String BOOSTER_INTERVAL_INVALID = ExceptionMessages.VACCINE_BOOSTER_INTERVAL_INVALID;
 
-        // Campos essenciais do domínio
-        private final java.util.UUID id;
-        private final String name;
+    // Campos essenciais do domínio
+    private final java.util.UUID id;
+    private final String name;
 
-        // Listas de agregados
+    // Dias entre uma dose e o reforço; nulo para vacina de dose única
+    private final Integer boosterIntervalDays;
 
-        // Auditoria do domínio
-        private final LocalDateTime createdAt;
-        private final LocalDateTime updatedAt;
+    // Auditoria do domínio
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
 
-        /**
-         * Construtor privado.
-         * Usado internamente por factory methods e reconstituição do banco.
-         */
-        private Vaccine(java.util.UUID id, String name,
+    /**
+     * Construtor privado.
+     * Usado internamente por factory methods e reconstituição do banco.
+     */
+    private Vaccine(java.util.UUID id, String name, Integer boosterIntervalDays,
                     LocalDateTime createdAt, LocalDateTime updatedAt) {
 
-            // Valida campos obrigatórios
-            if (name == null) {
-                throw new InvalidVaccineException(VACCINE_FIELD_REQUIRED);
-            }
+        // Valida campos obrigatórios
+        if (name == null || name.isBlank()) {
+            throw new InvalidVaccineException(VACCINE_FIELD_REQUIRED);
+        }
 
-            // Inicializa campos
-            this.id = (id != null) ? id : java.util.UUID.randomUUID();
-            this.name = name;
-            this.createdAt = createdAt;
-            this.updatedAt = updatedAt;
+        // Valida intervalo de reforço
+        if (boosterIntervalDays != null && boosterIntervalDays <= 0) {
+            throw new InvalidVaccineException(BOOSTER_INTERVAL_INVALID);
         }
 
-        /**
-         * Factory method para criação de novo vaccine.
-         * Garante validação de campos e regras de negócio.
-         */
-        public static com.bichomania.clinicavet.domain.vaccine.Vaccine create(java.util.UUID id, String name {
-
-            // Valida campos obrigatórios
-            if (name == null) {
-                throw new InvalidVaccineException(VACCINE_FIELD_REQUIRED);
-            }
-
-            // Valida data de nascimento
-            if (.isAfter(LocalDate.now())) {
-                throw new InvalidVaccineException(VACCINE_DATE_IN_FUTURE);
-            }
-
-            return new com.bichomania.clinicavet.domain.vaccine.Vaccine(
-                    name,
-            );
+        // Inicializa campos
+        this.id = (id != null) ? id : UuidV7.next();
+        this.name = name;
+        this.boosterIntervalDays = boosterIntervalDays;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Factory method para criação de nova vacina no catálogo.
+     * Garante validação de campos e regras de negócio.
+     */
+    public static Vaccine create(String name, Integer boosterIntervalDays) {
+        return new Vaccine(null, name, boosterIntervalDays, null, null);
+    }
+
+    /**
+     * Reconstitui vacina existente do banco.
+     */
+    public static Vaccine reconstitute(java.util.UUID id, String name, Integer boosterIntervalDays,
+                                       LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        return new Vaccine(id, name, boosterIntervalDays, createdAt, updatedAt);
+    }
+
+    // Métodos de domínio
+
+    /**
+     * Data do próximo reforço a partir de uma aplicação; nula para dose única.
+     */
+    public LocalDate nextDueAfter(LocalDate applicationDate) {
+        if (boosterIntervalDays == null || applicationDate == null) {
+            return null;
         }
+        return applicationDate.plusDays(boosterIntervalDays);
+    }
 
-        /**
-         * Reconstitui vaccine existente do banco.
-         * Mantém imutabilidade parcial e listas defensivas.
-         */
-        public static com.bichomania.clinicavet.domain.vaccine.Vaccine reconstitute(java.util.UUID id, String name,
-                                                                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+    // Getters (somente leitura)
 
-            return new com.bichomania.clinicavet.domain.vaccine.Vaccine(id, name, createdAt, updatedAt);
-        }
+    public java.util.UUID getId() {
+        return id;
+    }
 
-        // Métodos de domínio
+    public String getName() {
+        return name;
+    }
 
-        public LocalDateTime getCreatedAt() {
-            return createdAt;
-        }
+    public Integer getBoosterIntervalDays() {
+        return boosterIntervalDays;
+    }
 
-        public LocalDateTime getUpdatedAt() {
-            return updatedAt;
-        }
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
 
-        // Equals e HashCode baseados no ID
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (!(o instanceof com.bichomania.clinicavet.domain.pet.Pet pet)) return false;
-            return Objects.equals(id, vaccine.id);
-        }
+    // Equals e HashCode baseados no ID
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(id);
-        }
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Vaccine that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
 }
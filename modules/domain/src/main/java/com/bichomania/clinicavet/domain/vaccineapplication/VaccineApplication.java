@@ -1,108 +1,109 @@
 package com.bichomania.clinicavet.domain.vaccineapplication;
 
 import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.common.exception.vaccineapplication.InvalidVaccineApplicationException;
+import com.bichomania.clinicavet.common.id.UuidV7;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+/**
+ * Entidade VaccineApplication (aplicação de vacina em um pet).
+ * Faz parte do agregado Pet e referencia o catálogo de vacinas pelo ID.
+ * Não conhece JPA, DTOs ou Spring.
+ */
 public class VaccineApplication {
 
-    /**
-     * Entidade Vaccine (Vacina do domínio)
-     * Contém regras de negócio e imutabilidade parcial.
-     * Não conhece JPA, DTOs ou Spring.
-     */
+    // Mensagens de exceção definidas de forma centralizada em ExceptionMessages
+    private static final String FIELD_REQUIRED = ExceptionMessages.VACCINE_APPLICATION_FIELD_REQUIRED;
+    private static final String DATE_IN_FUTURE = ExceptionMessages.VACCINE_APPLICATION_DATE_IN_FUTURE;
 
-    public class Vaccine {
+    // Campos essenciais do domínio
+    private final java.util.UUID id;
+    private final java.util.UUID vaccineId;
+    private final LocalDate applicationDate;
 
-        // Mensagens de exceção definidas de forma centralizada em ExceptionMessages
-        private static final String VACCINE_FIELD_REQUIRED = ExceptionMessages.VACCINE_FIELD_REQUIRED;
-        private static final String E = ExceptionMessages.VACCINE_DATE_IN_PAST;
+    // Auditoria do domínio
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
 
-        // Campos essenciais do domínio
-        private final java.util.UUID id;
-        private final String name;
-
-        // Listas de agregados
+    /**
+     * Construtor privado.
+     * Usado internamente por factory methods e reconstituição do banco.
+     */
+    private VaccineApplication(java.util.UUID id, java.util.UUID vaccineId, LocalDate applicationDate,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
 
-        // Auditoria do domínio
-        private final LocalDateTime createdAt;
-        private final LocalDateTime updatedAt;
+        // Valida campos obrigatórios
+        if (vaccineId == null || applicationDate == null) {
+            throw new InvalidVaccineApplicationException(FIELD_REQUIRED);
+        }
 
-        /**
-         * Construtor privado.
-         * Usado internamente por factory methods e reconstituição do banco.
-         */
-        private Vaccine(java.util.UUID id, String name,
-                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+        // Inicializa campos
+        this.id = (id != null) ? id : UuidV7.next();
+        this.vaccineId = vaccineId;
+        this.applicationDate = applicationDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 
-            // Valida campos obrigatórios
-            if (name == null) {
-                throw new InvalidVaccineException(VACCINE_FIELD_REQUIRED);
-            }
+    /**
+     * Factory method para registro de nova aplicação.
+     * Garante validação de campos e regras de negócio.
+     */
+    public static VaccineApplication create(java.util.UUID vaccineId, LocalDate applicationDate) {
 
-            // Inicializa campos
-            this.id = (id != null) ? id : java.util.UUID.randomUUID();
-            this.name = name;
-            this.createdAt = createdAt;
-            this.updatedAt = updatedAt;
+        // Valida data de aplicação
+        if (applicationDate != null && applicationDate.isAfter(LocalDate.now())) {
+            throw new InvalidVaccineApplicationException(DATE_IN_FUTURE);
         }
 
-        /**
-         * Factory method para criação de novo vaccine.
-         * Garante validação de campos e regras de negócio.
-         */
-        public static com.bichomania.clinicavet.domain.vaccine.Vaccine create(java.util.UUID id, String name {
-
-            // Valida campos obrigatórios
-            if (name == null) {
-                throw new InvalidVaccineException(VACCINE_FIELD_REQUIRED);
-            }
-
-            // Valida data de nascimento
-            if (.isAfter(LocalDate.now())) {
-                throw new InvalidVaccineException(VACCINE_DATE_IN_FUTURE);
-            }
-
-            return new com.bichomania.clinicavet.domain.vaccine.Vaccine(
-                    name,
-                    );
-        }
+        return new VaccineApplication(null, vaccineId, applicationDate, null, null);
+    }
 
-        /**
-         * Reconstitui vaccine existente do banco.
-         * Mantém imutabilidade parcial e listas defensivas.
-         */
-        public static com.bichomania.clinicavet.domain.vaccine.Vaccine reconstitute(java.util.UUID id, String name,
-                                                                                    LocalDateTime createdAt, LocalDateTime updatedAt) {
+    /**
+     * Reconstitui aplicação existente do banco.
+     */
+    public static VaccineApplication reconstitute(java.util.UUID id, java.util.UUID vaccineId, LocalDate applicationDate,
+                                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
 
-            return new com.bichomania.clinicavet.domain.vaccine.Vaccine(id, name, createdAt, updatedAt);
-        }
+        return new VaccineApplication(id, vaccineId, applicationDate, createdAt, updatedAt);
+    }
 
-        // Métodos de domínio
+    // Getters (somente leitura)
 
-        public LocalDateTime getCreatedAt() {
-            return createdAt;
-        }
+    public java.util.UUID getId() {
+        return id;
+    }
 
-        public LocalDateTime getUpdatedAt() {
-            return updatedAt;
-        }
+    public java.util.UUID getVaccineId() {
+        return vaccineId;
+    }
 
-        // Equals e HashCode baseados no ID
+    public LocalDate getApplicationDate() {
+        return applicationDate;
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (!(o instanceof com.bichomania.clinicavet.domain.pet.Pet pet)) return false;
-            return Objects.equals(id, vaccine.id);
-        }
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(id);
-        }
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // Equals e HashCode baseados no ID
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof VaccineApplication that)) return false;
+        return Objects.equals(id, that.id);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
 }
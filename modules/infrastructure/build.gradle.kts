@@ -13,6 +13,14 @@ dependencies {
 
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("io.micrometer:micrometer-core")
+    implementation("org.flywaydb:flyway-core")
+    runtimeOnly("org.flywaydb:flyway-database-postgresql")
 
-    runtimeOnly("org.postgresql:postgresql:42.7.3")
+    // Compilação: PGConnection.getNotifications no listener dos catálogos
+    implementation("org.postgresql:postgresql:42.7.3")
+
+    testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testRuntimeOnly("com.h2database:h2")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
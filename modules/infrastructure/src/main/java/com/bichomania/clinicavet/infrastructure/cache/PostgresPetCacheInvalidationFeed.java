@@ -0,0 +1,210 @@
+package com.bichomania.clinicavet.infrastructure.cache;
+
+import com.bichomania.clinicavet.application.pet.ports.PetCacheInvalidationPort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Invalidações dos caches de pets entre nós via NOTIFY/LISTEN (canal pet_cache_invalidated).
+ *
+ * O pg_notify é feito na transação da escrita: o PostgreSQL só entrega o aviso no commit,
+ * a todos os nós (inclusive o que escreveu). O payload é "cache|chave,chave,...", dividido
+ * em vários avisos quando passa do limite do NOTIFY.
+ * Como em PostgresCatalogChangeFeed, o LISTEN usa uma conexão própria, fora do pool, e uma
+ * thread que aguarda os avisos. Se a conexão cair, avisos podem ter se perdido: ao reconectar,
+ * os caches são esvaziados.
+ */
+@Component
+public class PostgresPetCacheInvalidationFeed implements PetCacheInvalidationPort {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresPetCacheInvalidationFeed.class);
+
+    private static final String CHANNEL = "pet_cache_invalidated";
+    private static final String NOTIFY_SQL = "select pg_notify(?, ?)";
+    private static final char CACHE_SEPARATOR = '|';
+    private static final String KEY_SEPARATOR = ",";
+
+    // O payload do NOTIFY tem limite de 8000 bytes; as chaves (UUIDs, chips canônicos) são ASCII
+    private static final int MAX_PAYLOAD_CHARS = 7000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final boolean enabled;
+    private final int pollTimeoutMillis;
+    private final long reconnectDelayMillis;
+
+    private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+
+    // Conexão e thread pertencem à thread do listener depois do start()
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    public PostgresPetCacheInvalidationFeed(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties,
+                                            @Value("${bichomania.cache.invalidation.listen.enabled:true}") boolean enabled,
+                                            @Value("${bichomania.cache.invalidation.listen.poll-timeout:PT10S}") Duration pollTimeout,
+                                            @Value("${bichomania.cache.invalidation.listen.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.enabled = enabled;
+        this.pollTimeoutMillis = Math.toIntExact(pollTimeout.toMillis());
+        this.reconnectDelayMillis = reconnectDelay.toMillis();
+    }
+
+    @Override
+    public void publish(String cacheName, Collection<String> keys) {
+        StringBuilder payload = new StringBuilder();
+        for (String key : keys) {
+            if (payload.length() > 0 && payload.length() + key.length() + 1 > MAX_PAYLOAD_CHARS) {
+                sendNotify(payload.toString());
+                payload.setLength(0);
+            }
+            payload.append(payload.length() == 0 ? cacheName + CACHE_SEPARATOR : KEY_SEPARATOR).append(key);
+        }
+        if (payload.length() > 0) {
+            sendNotify(payload.toString());
+        }
+    }
+
+    @Override
+    public void subscribe(String cacheName, Listener listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Falha na conexão não impede a subida; a thread tenta de novo. Até lá, cada nó
+     * continua invalidando as próprias entradas após o commit.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        try {
+            connection = listen();
+        } catch (SQLException e) {
+            log.warn("LISTEN {} indisponível na subida; nova tentativa em {} ms", CHANNEL, reconnectDelayMillis, e);
+        }
+        listenerThread = Thread.ofPlatform()
+                .name("pet-cache-listener")
+                .daemon()
+                .start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        closeQuietly(connection);
+    }
+
+    private void sendNotify(String payload) {
+        jdbcTemplate.query(NOTIFY_SQL, rs -> {
+        }, CHANNEL, payload);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (connection == null) {
+                    Thread.sleep(reconnectDelayMillis);
+                    connection = listen();
+                    invalidateAll();
+                    continue;
+                }
+                PGNotification[] notifications = connection.unwrap(PGConnection.class)
+                        .getNotifications(pollTimeoutMillis);
+                if (notifications != null) {
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Conexão do LISTEN {} perdida; reconectando", CHANNEL, e);
+                }
+                closeQuietly(connection);
+                connection = null;
+            }
+        }
+    }
+
+    private Connection listen() throws SQLException {
+        Connection listening = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+        try (Statement statement = listening.createStatement()) {
+            statement.execute("listen " + CHANNEL);
+        } catch (SQLException e) {
+            closeQuietly(listening);
+            throw e;
+        }
+        return listening;
+    }
+
+    private void dispatch(String payload) {
+        int separator = payload.indexOf(CACHE_SEPARATOR);
+        if (separator < 0) {
+            log.warn("Aviso de invalidação sem cache: {}", payload);
+            return;
+        }
+        List<Listener> targets = listeners.getOrDefault(payload.substring(0, separator), List.of());
+        List<String> keys = List.of(payload.substring(separator + 1).split(KEY_SEPARATOR));
+        for (Listener listener : targets) {
+            try {
+                listener.invalidate(keys);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao aplicar invalidação de cache", e);
+            }
+        }
+    }
+
+    private void invalidateAll() {
+        for (List<Listener> targets : listeners.values()) {
+            for (Listener listener : targets) {
+                try {
+                    listener.invalidateAll();
+                } catch (RuntimeException e) {
+                    log.warn("Falha ao esvaziar cache", e);
+                }
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection target) {
+        if (target == null) {
+            return;
+        }
+        try {
+            target.close();
+        } catch (SQLException ignored) {
+            // conexão já perdida
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.bichomania.clinicavet.infrastructure.catalog;
+
+import com.bichomania.clinicavet.application.catalog.ports.CatalogChangeFeed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Mudanças nos catálogos via LISTEN/NOTIFY (canal catalog_changed, ver V5).
+ *
+ * Usa uma conexão própria, aberta direto no driver: o LISTEN prende a conexão pela vida
+ * do processo e não deve ocupar vaga do pool nem do limitador de concorrência.
+ * Uma thread aguarda as notificações; várias pendentes viram uma só chamada aos listeners.
+ * Se a conexão cair, reconecta e avisa os listeners, pois notificações podem ter se perdido.
+ */
+@Component
+public class PostgresCatalogChangeFeed implements CatalogChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresCatalogChangeFeed.class);
+
+    private static final String CHANNEL = "catalog_changed";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final boolean enabled;
+    private final int pollTimeoutMillis;
+    private final long reconnectDelayMillis;
+
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    // Conexão e thread pertencem à thread do listener depois do start()
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    public PostgresCatalogChangeFeed(DataSourceProperties dataSourceProperties,
+                                     @Value("${bichomania.catalog.listen.enabled:true}") boolean enabled,
+                                     @Value("${bichomania.catalog.listen.poll-timeout:PT10S}") Duration pollTimeout,
+                                     @Value("${bichomania.catalog.listen.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.enabled = enabled;
+        this.pollTimeoutMillis = Math.toIntExact(pollTimeout.toMillis());
+        this.reconnectDelayMillis = reconnectDelay.toMillis();
+    }
+
+    @Override
+    public void subscribe(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * O LISTEN é feito aqui, antes de qualquer carga dos catálogos: o que mudar dali
+     * em diante gera notificação. Falha na conexão não impede a subida; a thread tenta de novo.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        try {
+            connection = listen();
+        } catch (SQLException e) {
+            log.warn("LISTEN {} indisponível na subida; nova tentativa em {} ms", CHANNEL, reconnectDelayMillis, e);
+        }
+        listenerThread = Thread.ofPlatform()
+                .name("catalog-listener")
+                .daemon()
+                .start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        closeQuietly(connection);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (connection == null) {
+                    Thread.sleep(reconnectDelayMillis);
+                    connection = listen();
+                    notifyListeners();
+                    continue;
+                }
+                PGNotification[] notifications = connection.unwrap(PGConnection.class)
+                        .getNotifications(pollTimeoutMillis);
+                if (notifications != null && notifications.length > 0) {
+                    notifyListeners();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Conexão do LISTEN {} perdida; reconectando", CHANNEL, e);
+                }
+                closeQuietly(connection);
+                connection = null;
+            }
+        }
+    }
+
+    private Connection listen() throws SQLException {
+        Connection listening = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+        try (Statement statement = listening.createStatement()) {
+            statement.execute("listen " + CHANNEL);
+        } catch (SQLException e) {
+            closeQuietly(listening);
+            throw e;
+        }
+        return listening;
+    }
+
+    // Um listener com erro (ex.: banco fora na releitura) não derruba a thread;
+    // o snapshot anterior continua valendo até a próxima notificação
+    private void notifyListeners() {
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.warn("Falha ao aplicar mudança de catálogo", e);
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection target) {
+        if (target == null) {
+            return;
+        }
+        try {
+            target.close();
+        } catch (SQLException ignored) {
+            // conexão já perdida
+        }
+    }
+}
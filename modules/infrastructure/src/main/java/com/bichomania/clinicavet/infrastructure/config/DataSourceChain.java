@@ -0,0 +1,26 @@
+package com.bichomania.clinicavet.infrastructure.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.util.stream.Stream;
+
+/**
+ * Percorre as camadas de um DataSource (proxies, limitador, contador, roteamento para
+ * réplicas), para que métricas e monitores achem a camada que lhes interessa.
+ */
+final class DataSourceChain {
+
+    private DataSourceChain() {} // evita instanciamento
+
+    static Stream<DataSource> of(DataSource dataSource) {
+        if (dataSource instanceof ReplicaRoutingDataSource routing) {
+            return Stream.concat(Stream.of(routing), Stream.concat(of(routing.getPrimary()),
+                    routing.getReplicas().stream().flatMap(replica -> of(replica.getDataSource()))));
+        }
+        if (dataSource instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+            return Stream.concat(Stream.of(dataSource), of(delegating.getTargetDataSource()));
+        }
+        return Stream.of(dataSource);
+    }
+}
@@ -0,0 +1,107 @@
+package com.bichomania.clinicavet.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Envolve o DataSource do Spring Boot (Hikari) com o StatementCountingDataSource e, por fora,
+ * com o ConcurrencyLimitingDataSource.
+ * bichomania.db.max-concurrency deve acompanhar spring.datasource.hikari.maximum-pool-size;
+ * 0 desliga o limitador. bichomania.db.count-statements=false desliga a contagem de comandos.
+ *
+ * Com bichomania.db.replica-urls preenchido, o resultado vira o primário de um
+ * ReplicaRoutingDataSource (atrás de um LazyConnectionDataSourceProxy), com um pool Hikari
+ * somente leitura por réplica, nas mesmas credenciais do primário salvo configuração própria.
+ * O limitador vale só para o primário; cada réplica é limitada pelo próprio pool.
+ */
+@Configuration
+public class DatabaseConcurrencyConfig {
+
+    // static: BeanPostProcessor é criado antes dos demais beans da configuração
+    @Bean
+    static BeanPostProcessor dataSourceConcurrencyLimiter(
+            @Value("${bichomania.db.max-concurrency:0}") int maxConcurrency,
+            @Value("${bichomania.db.acquire-timeout:PT5S}") Duration acquireTimeout,
+            @Value("${bichomania.db.count-statements:true}") boolean countStatements,
+            @Value("${bichomania.db.replica-urls:}") String replicaUrls,
+            @Value("${bichomania.db.replica-username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${bichomania.db.replica-password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${bichomania.db.replica-pool-size:10}") int replicaPoolSize) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)
+                        || bean instanceof ConcurrencyLimitingDataSource
+                        || bean instanceof StatementCountingDataSource
+                        || bean instanceof LazyConnectionDataSourceProxy) {
+                    return bean;
+                }
+                DataSource wrapped = countStatements ? new StatementCountingDataSource(dataSource, "primary") : dataSource;
+                if (maxConcurrency > 0) {
+                    wrapped = new ConcurrencyLimitingDataSource(wrapped, maxConcurrency, acquireTimeout);
+                }
+                if (replicaUrls.isBlank()) {
+                    return wrapped;
+                }
+                List<DataSource> replicas = new ArrayList<>();
+                for (String url : replicaUrls.split(",")) {
+                    String name = "replica-" + (replicas.size() + 1);
+                    DataSource replica = replicaPool(name, url.trim(), replicaUsername, replicaPassword, replicaPoolSize);
+                    replicas.add(countStatements ? new StatementCountingDataSource(replica, name) : replica);
+                }
+                return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(wrapped, replicas));
+            }
+        };
+    }
+
+    // /actuator/metrics/bichomania.db.concurrency.waiting
+    @Bean
+    MeterBinder databaseConcurrencyMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .flatMap(DataSourceChain::of)
+                .filter(ConcurrencyLimitingDataSource.class::isInstance)
+                .map(ConcurrencyLimitingDataSource.class::cast)
+                .forEach(dataSource -> Gauge.builder("bichomania.db.concurrency.waiting", dataSource,
+                                ConcurrencyLimitingDataSource::getWaitingThreads)
+                        .description("Threads aguardando vaga no limitador de concorrência do banco")
+                        .register(registry));
+    }
+
+    // /actuator/metrics/bichomania.db.statements?tag=pool:primary (o DataSource pode estar dentro do limitador)
+    @Bean
+    MeterBinder databaseStatementMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .flatMap(DataSourceChain::of)
+                .filter(StatementCountingDataSource.class::isInstance)
+                .map(StatementCountingDataSource.class::cast)
+                .forEach(dataSource -> FunctionCounter.builder("bichomania.db.statements", dataSource,
+                                StatementCountingDataSource::getStatementCount)
+                        .description("Comandos SQL enviados ao banco")
+                        .tag("pool", dataSource.getName())
+                        .register(registry));
+    }
+
+    private static DataSource replicaPool(String name, String url, String username, String password, int poolSize) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setMaximumPoolSize(poolSize);
+        pool.setReadOnly(true);
+        return pool;
+    }
+}
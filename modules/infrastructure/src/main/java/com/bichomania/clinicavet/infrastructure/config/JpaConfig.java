@@ -0,0 +1,13 @@
+package com.bichomania.clinicavet.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * Configuração JPA da infraestrutura.
+ * Habilita o preenchimento de @CreatedDate / @LastModifiedDate.
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaConfig {
+}
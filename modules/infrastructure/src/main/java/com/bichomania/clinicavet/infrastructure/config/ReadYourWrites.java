@@ -0,0 +1,25 @@
+package com.bichomania.clinicavet.infrastructure.config;
+
+/**
+ * Marca, para a thread atual, que as leituras devem ir ao primário mesmo em transações
+ * readOnly: o cliente escreveu há pouco e a réplica pode ainda não ter a escrita.
+ * Quem marca (o filtro HTTP) também limpa, no fim da requisição.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadYourWrites() {} // evita instanciamento
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+}
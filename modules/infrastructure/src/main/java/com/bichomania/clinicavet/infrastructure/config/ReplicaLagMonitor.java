@@ -0,0 +1,88 @@
+package com.bichomania.clinicavet.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Mede o atraso de cada réplica do ReplicaRoutingDataSource e a tira do rodízio quando ele
+ * passa de bichomania.db.replica-max-lag (ou quando a réplica não responde).
+ * Sem réplicas configuradas, não faz nada.
+ *
+ * O atraso é o tempo desde a última transação reaplicada, exceto quando a réplica já
+ * reaplicou tudo o que recebeu: com o primário ocioso, o timestamp envelhece sem atraso real.
+ * Esse atalho só vale com o WAL receiver em streaming; desconectada ou parada, a réplica
+ * "reaplicou tudo" e mesmo assim fica para trás, então sai do rodízio. Ler o status em
+ * pg_stat_wal_receiver exige pg_read_all_stats para o usuário das réplicas; sem ele, o
+ * status vem nulo e a réplica também fica fora (falha para o lado do primário).
+ * Métricas: bichomania.db.replica.lag (segundos) e bichomania.db.replica.healthy, tag replica.
+ */
+@Component
+public class ReplicaLagMonitor {
+
+    private static final String LAG_SQL = """
+            select case
+                     when not pg_is_in_recovery() then 0
+                     when not exists (select 1 from pg_stat_wal_receiver where status = 'streaming') then null
+                     when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                     else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+                   end
+            """;
+
+    private final List<ReplicaRoutingDataSource.Replica> replicas;
+    private final Duration maxLag;
+
+    public ReplicaLagMonitor(ObjectProvider<DataSource> dataSources,
+                             @Value("${bichomania.db.replica-max-lag:PT2S}") Duration maxLag,
+                             ObjectProvider<MeterRegistry> meterRegistry) {
+        this.replicas = dataSources.orderedStream()
+                .flatMap(DataSourceChain::of)
+                .filter(ReplicaRoutingDataSource.class::isInstance)
+                .map(ReplicaRoutingDataSource.class::cast)
+                .flatMap(routing -> routing.getReplicas().stream())
+                .toList();
+        this.maxLag = maxLag;
+        meterRegistry.ifAvailable(registry -> replicas.forEach(replica -> {
+            Gauge.builder("bichomania.db.replica.lag", replica, ReplicaRoutingDataSource.Replica::getLagSeconds)
+                    .description("Atraso medido da réplica, em segundos")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+            Gauge.builder("bichomania.db.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .description("1 se a réplica está no rodízio de leituras")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+        }));
+    }
+
+    @Scheduled(fixedDelayString = "${bichomania.db.replica-check-interval:PT1S}")
+    public void check() {
+        for (ReplicaRoutingDataSource.Replica replica : replicas) {
+            try (Connection connection = replica.getDataSource().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(Math.max(1, (int) maxLag.toSeconds()));
+                try (ResultSet lag = statement.executeQuery(LAG_SQL)) {
+                    lag.next();
+                    double seconds = lag.getDouble(1);
+                    if (lag.wasNull()) {
+                        replica.markUnavailable();
+                    } else {
+                        replica.recordLag(seconds, maxLag);
+                    }
+                }
+            } catch (SQLException e) {
+                replica.markUnavailable();
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.bichomania.clinicavet.infrastructure.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Envia transações readOnly para uma réplica saudável (rodízio) e todo o resto ao primário.
+ *
+ * Vai ao primário quando: a transação não é readOnly (ou não há transação); a thread pediu
+ * leitura das próprias escritas (ReadYourWrites); ou nenhuma réplica está saudável.
+ * Uma réplica só é saudável depois que o ReplicaLagMonitor mediu seu atraso dentro do limite.
+ *
+ * Precisa ficar atrás de um LazyConnectionDataSourceProxy: o JpaTransactionManager pede a
+ * conexão antes de publicar o readOnly da transação, e o proxy adia a escolha até o primeiro
+ * comando, quando o flag já está valendo.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources) {
+        this.primary = primary;
+        List<Replica> replicas = new ArrayList<>(replicaDataSources.size());
+        Map<Object, Object> targets = new HashMap<>();
+        for (DataSource dataSource : replicaDataSources) {
+            Replica replica = new Replica("replica-" + (replicas.size() + 1), dataSource);
+            replicas.add(replica);
+            targets.put(replica.getName(), dataSource);
+        }
+        this.replicas = List.copyOf(replicas);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    // null = primário (defaultTargetDataSource)
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadYourWrites.isPrimaryRequired()) {
+            return null;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica.getName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Uma réplica e o último atraso medido (segundos; NaN enquanto não houver medida).
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagSeconds = Double.NaN;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public double getLagSeconds() {
+            return lagSeconds;
+        }
+
+        public void recordLag(double lagSeconds, Duration maxLag) {
+            this.lagSeconds = lagSeconds;
+            this.healthy = lagSeconds * 1000 <= maxLag.toMillis();
+        }
+
+        public void markUnavailable() {
+            this.lagSeconds = Double.NaN;
+            this.healthy = false;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.bichomania.clinicavet.infrastructure.config;
+
+/**
+ * Contagem de comandos SQL por unidade de trabalho (em geral, uma requisição HTTP),
+ * alimentada pelo StatementCountingDataSource.
+ * O escopo é da thread: o que roda em outra thread (streaming assíncrono, @Async)
+ * não entra na contagem de quem abriu o escopo.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {} // evita instanciamento
+
+    public static void begin() {
+        CURRENT.set(new long[1]);
+    }
+
+    /**
+     * Comandos contados até agora no escopo aberto; 0 fora de escopo.
+     */
+    public static long current() {
+        long[] count = CURRENT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Fecha o escopo e devolve o total contado nele.
+     */
+    public static long end() {
+        long count = current();
+        CURRENT.remove();
+        return count;
+    }
+
+    static void increment() {
+        long[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
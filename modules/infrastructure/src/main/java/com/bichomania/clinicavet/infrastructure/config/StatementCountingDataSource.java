@@ -0,0 +1,79 @@
+package com.bichomania.clinicavet.infrastructure.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Conta os comandos SQL enviados pelas conexões do pool, venham do Hibernate ou do
+ * JdbcTemplate (boa parte das consultas do projeto não passa pelo Hibernate).
+ * Conta-se cada statement criado (prepareStatement, prepareCall, createStatement):
+ * um lote JDBC conta uma vez, assim como uma ida ao banco.
+ *
+ * Alimenta o total global (métrica bichomania.db.statements) e o escopo
+ * por requisição do SqlStatementCounter, onde um N+1 aparece como contagem alta.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final String name;
+    private final LongAdder statements = new LongAdder();
+
+    public StatementCountingDataSource(DataSource target, String name) {
+        super(target);
+        this.name = name;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Pool contado ("primary", "replica-1"...), tag das métricas.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Total de comandos desde a subida da aplicação.
+     */
+    public long getStatementCount() {
+        return statements.sum();
+    }
+
+    private Connection counting(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "prepareStatement", "prepareCall", "createStatement":
+                            statements.increment();
+                            SqlStatementCounter.increment();
+                            break;
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
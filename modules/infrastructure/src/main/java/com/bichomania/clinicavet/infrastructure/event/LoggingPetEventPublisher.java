@@ -0,0 +1,28 @@
+package com.bichomania.clinicavet.infrastructure.event;
+
+import com.bichomania.clinicavet.application.event.dto.PetEvent;
+import com.bichomania.clinicavet.application.event.ports.PetEventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publicador provisório: registra os eventos no log da aplicação.
+ * Substituir por um adapter de fila/webhook implementando PetEventPublisher; enquanto isso,
+ * consumidores externos leem o stream por GET /api/events.
+ */
+@Component
+public class LoggingPetEventPublisher implements PetEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingPetEventPublisher.class);
+
+    @Override
+    public void publish(List<PetEvent> events) {
+        for (PetEvent event : events) {
+            log.info("Evento {} #{} do pet {} (tutor {}, item {})",
+                    event.type(), event.position(), event.petId(), event.guardianId(), event.subjectId());
+        }
+    }
+}
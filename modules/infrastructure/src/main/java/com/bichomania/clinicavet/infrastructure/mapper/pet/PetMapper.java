@@ -1,4 +1,129 @@
 package com.bichomania.clinicavet.infrastructure.mapper.pet;
 
+import com.bichomania.clinicavet.domain.dewormerapplication.DewormerApplication;
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.domain.pet.PetCollections;
+import com.bichomania.clinicavet.domain.pet.Reminder;
+import com.bichomania.clinicavet.domain.vaccineapplication.VaccineApplication;
+import com.bichomania.clinicavet.infrastructure.persistence.pet.DewormerApplicationEntity;
+import com.bichomania.clinicavet.infrastructure.persistence.pet.PetEntity;
+import com.bichomania.clinicavet.infrastructure.persistence.pet.ReminderEntity;
+import com.bichomania.clinicavet.infrastructure.persistence.pet.VaccineApplicationEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conversão entre PetEntity (JPA) e Pet (domínio).
+ */
+@Component
 public class PetMapper {
+
+    public Pet toDomain(PetEntity entity) {
+        return toDomain(entity, entity.getVaccineApplications(), entity.getDewormerApplications(),
+                entity.getReminders());
+    }
+
+    /**
+     * Monta o agregado a partir de filhos já carregados em lote,
+     * sem tocar nas coleções LAZY da entidade.
+     * Cada lista filha é alocada uma única vez, no tamanho exato, e entregue ao Pet por posse.
+     * O histórico clínico não é carregado (fica null no domínio).
+     */
+    public Pet toDomain(PetEntity entity,
+                        List<VaccineApplicationEntity> vaccineApplications,
+                        List<DewormerApplicationEntity> dewormerApplications,
+                        List<ReminderEntity> reminders) {
+
+        List<VaccineApplication> vaccines = new ArrayList<>(vaccineApplications.size());
+        for (VaccineApplicationEntity application : vaccineApplications) {
+            vaccines.add(toDomain(application));
+        }
+
+        List<DewormerApplication> dewormers = new ArrayList<>(dewormerApplications.size());
+        for (DewormerApplicationEntity application : dewormerApplications) {
+            dewormers.add(toDomain(application));
+        }
+
+        List<Reminder> domainReminders = new ArrayList<>(reminders.size());
+        for (ReminderEntity reminder : reminders) {
+            domainReminders.add(toDomain(reminder));
+        }
+
+        return Pet.reconstitute(
+                entity.getId(),
+                entity.getGuardianId(),
+                entity.getName(),
+                entity.getBirthDate(),
+                entity.getBreed(),
+                entity.getSex(),
+                entity.getIsCastrated(),
+                entity.getMicrochipNumber(),
+                null,
+                new PetCollections(vaccines, dewormers, domainReminders),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Copia os dados escalares do domínio para a entidade (nova ou gerenciada).
+     * O histórico é gravado à parte, em pet_histories. As coleções filhas não são tocadas:
+     * linhas novas saem das adições pendentes do Pet e são persistidas uma a uma pelo adapter.
+     */
+    public void copyToEntity(Pet pet, PetEntity entity) {
+        entity.setId(pet.getId());
+        entity.setGuardianId(pet.getGuardianId());
+        entity.setName(pet.getName());
+        entity.setBirthDate(pet.getBirthDate());
+        entity.setBreed(pet.getBreed());
+        entity.setSex(pet.getSex());
+        entity.setIsCastrated(pet.getIsCastrated());
+        entity.setMicrochipNumber(pet.getMicrochipNumber());
+        entity.setMicrochipCanonical(pet.getCanonicalMicrochipNumber());
+    }
+
+    public VaccineApplication toDomain(VaccineApplicationEntity entity) {
+        return VaccineApplication.reconstitute(entity.getId(), entity.getVaccineId(), entity.getApplicationDate(),
+                entity.getCreatedAt(), entity.getUpdatedAt());
+    }
+
+    public DewormerApplication toDomain(DewormerApplicationEntity entity) {
+        return DewormerApplication.reconstitute(entity.getId(), entity.getDewormerId(), entity.getApplicationDate(),
+                entity.getCreatedAt(), entity.getUpdatedAt());
+    }
+
+    public Reminder toDomain(ReminderEntity entity) {
+        return Reminder.reconstitute(entity.getId(), entity.getDescription(), entity.getDueAt(),
+                Boolean.TRUE.equals(entity.getCompleted()), entity.getCreatedAt(), entity.getUpdatedAt());
+    }
+
+    public VaccineApplicationEntity toEntity(VaccineApplication application, PetEntity pet) {
+        VaccineApplicationEntity entity = new VaccineApplicationEntity();
+        entity.setId(application.getId());
+        entity.setPet(pet);
+        entity.setVaccineId(application.getVaccineId());
+        entity.setApplicationDate(application.getApplicationDate());
+        return entity;
+    }
+
+    public DewormerApplicationEntity toEntity(DewormerApplication application, PetEntity pet) {
+        DewormerApplicationEntity entity = new DewormerApplicationEntity();
+        entity.setId(application.getId());
+        entity.setPet(pet);
+        entity.setDewormerId(application.getDewormerId());
+        entity.setApplicationDate(application.getApplicationDate());
+        return entity;
+    }
+
+    public ReminderEntity toEntity(Reminder reminder, PetEntity pet) {
+        ReminderEntity entity = new ReminderEntity();
+        entity.setId(reminder.getId());
+        entity.setPet(pet);
+        entity.setDescription(reminder.getDescription());
+        entity.setDueAt(reminder.getDueAt());
+        entity.setCompleted(reminder.isCompleted());
+        return entity;
+    }
 }
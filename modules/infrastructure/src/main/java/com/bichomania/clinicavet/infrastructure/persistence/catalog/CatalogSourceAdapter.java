@@ -0,0 +1,60 @@
+package com.bichomania.clinicavet.infrastructure.persistence.catalog;
+
+import com.bichomania.clinicavet.application.catalog.ports.CatalogSourcePort;
+import com.bichomania.clinicavet.domain.dewormer.Dewormer;
+import com.bichomania.clinicavet.domain.vaccine.Vaccine;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Leitura completa dos catálogos de vacinas e vermífugos sobre JDBC.
+ * Chamada só na carga e a cada mudança notificada; os catálogos são pequenos.
+ */
+@Repository
+public class CatalogSourceAdapter implements CatalogSourcePort {
+
+    private static final String FIND_VACCINES_SQL = """
+            select vaccine_id, name, booster_interval_days, created_at, updated_at
+              from vaccines
+            """;
+
+    private static final String FIND_DEWORMERS_SQL = """
+            select dewormer_id, name, juvenile_interval_days, adult_interval_days, senior_interval_days,
+                   created_at, updated_at
+              from dewormers
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogSourceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Vaccine> findAllVaccines() {
+        return jdbcTemplate.query(FIND_VACCINES_SQL, (rs, rowNum) -> Vaccine.reconstitute(
+                rs.getObject("vaccine_id", UUID.class),
+                rs.getString("name"),
+                rs.getObject("booster_interval_days", Integer.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class)
+        ));
+    }
+
+    @Override
+    public List<Dewormer> findAllDewormers() {
+        return jdbcTemplate.query(FIND_DEWORMERS_SQL, (rs, rowNum) -> Dewormer.reconstitute(
+                rs.getObject("dewormer_id", UUID.class),
+                rs.getString("name"),
+                rs.getObject("juvenile_interval_days", Integer.class),
+                rs.getObject("adult_interval_days", Integer.class),
+                rs.getObject("senior_interval_days", Integer.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class)
+        ));
+    }
+}
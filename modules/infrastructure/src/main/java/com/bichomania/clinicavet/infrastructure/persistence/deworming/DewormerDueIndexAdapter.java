@@ -0,0 +1,102 @@
+package com.bichomania.clinicavet.infrastructure.persistence.deworming;
+
+import com.bichomania.clinicavet.application.deworming.dto.DewormerDueRow;
+import com.bichomania.clinicavet.application.deworming.ports.DewormerDueIndexPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Implementação do índice de próximas doses de vermífugo sobre JDBC (PostgreSQL).
+ */
+@Repository
+public class DewormerDueIndexAdapter implements DewormerDueIndexPort {
+
+    // Linhas buscadas por round-trip no cursor dos exports
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String UPSERT_SQL = """
+            insert into dewormer_due_index (pet_id, dewormer_id, last_application_date, next_due_date, updated_at)
+            values (?, ?, ?, ?, ?)
+            on conflict (pet_id, dewormer_id) do update
+               set last_application_date = excluded.last_application_date,
+                   next_due_date = excluded.next_due_date,
+                   updated_at = excluded.updated_at
+             where dewormer_due_index.last_application_date <= excluded.last_application_date
+            """;
+
+    // Clínica inteira: percorre idx_dewormer_due_next em ordem de vencimento
+    private static final String STREAM_CLINIC_SQL = """
+            select d.pet_id, p.guardian_id, p.name as pet_name, d.dewormer_id, w.name as dewormer_name,
+                   d.last_application_date, d.next_due_date
+              from dewormer_due_index d
+              join pets p on p.pet_id = d.pet_id
+              join dewormers w on w.dewormer_id = d.dewormer_id
+             where d.next_due_date <= ?
+             order by d.next_due_date, d.pet_id, d.dewormer_id
+            """;
+
+    // Por tutor: parte dos pets do tutor (idx_pet_guardian_version) e ordena o resultado, que é pequeno
+    private static final String STREAM_GUARDIAN_SQL = """
+            select d.pet_id, p.guardian_id, p.name as pet_name, d.dewormer_id, w.name as dewormer_name,
+                   d.last_application_date, d.next_due_date
+              from pets p
+              join dewormer_due_index d on d.pet_id = p.pet_id
+              join dewormers w on w.dewormer_id = d.dewormer_id
+             where p.guardian_id = ?
+               and d.next_due_date <= ?
+             order by d.next_due_date, d.pet_id, d.dewormer_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DewormerDueIndexAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void record(UUID petId, UUID dewormerId, LocalDate lastApplicationDate, LocalDate nextDueDate) {
+        jdbcTemplate.update(UPSERT_SQL, petId, dewormerId, lastApplicationDate, nextDueDate, LocalDateTime.now());
+    }
+
+    /**
+     * Cursor no servidor (fetchSize com a transação aberta pelo chamador),
+     * como PetRepositoryAdapter.streamRows.
+     */
+    @Override
+    public void streamDue(LocalDate until, LocalDate today, UUID guardianId, Consumer<DewormerDueRow> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement;
+                    if (guardianId == null) {
+                        statement = connection.prepareStatement(STREAM_CLINIC_SQL);
+                        statement.setObject(1, until);
+                    } else {
+                        statement = connection.prepareStatement(STREAM_GUARDIAN_SQL);
+                        statement.setObject(1, guardianId);
+                        statement.setObject(2, until);
+                    }
+                    statement.setFetchSize(STREAM_FETCH_SIZE);
+                    return statement;
+                },
+                rs -> {
+                    LocalDate nextDueDate = rs.getObject("next_due_date", LocalDate.class);
+                    consumer.accept(new DewormerDueRow(
+                            rs.getObject("pet_id", UUID.class),
+                            rs.getObject("guardian_id", UUID.class),
+                            rs.getString("pet_name"),
+                            rs.getObject("dewormer_id", UUID.class),
+                            rs.getString("dewormer_name"),
+                            rs.getObject("last_application_date", LocalDate.class),
+                            nextDueDate,
+                            nextDueDate.isBefore(today)
+                    ));
+                }
+        );
+    }
+}
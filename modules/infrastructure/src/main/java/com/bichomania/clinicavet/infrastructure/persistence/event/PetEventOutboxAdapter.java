@@ -0,0 +1,129 @@
+package com.bichomania.clinicavet.infrastructure.persistence.event;
+
+import com.bichomania.clinicavet.application.event.dto.NewPetEvent;
+import com.bichomania.clinicavet.application.event.dto.PetEvent;
+import com.bichomania.clinicavet.application.event.dto.PetEventType;
+import com.bichomania.clinicavet.application.event.ports.PetEventOutboxPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementação do outbox de eventos de Pet sobre JDBC (PostgreSQL).
+ * A numeração é feita por um único relay (advisory lock), então a próxima posição é
+ * simplesmente a maior atribuída + 1, lida do índice único de position.
+ */
+@Repository
+public class PetEventOutboxAdapter implements PetEventOutboxPort {
+
+    // Chave do advisory lock do relay: um nó por vez numera e publica
+    private static final long RELAY_LOCK_KEY = 0x7065_7465_7665_6e74L;
+
+    private static final String INSERT_SQL = """
+            insert into pet_events (event_type, pet_id, guardian_id, subject_id, occurred_at)
+            values (?, ?, ?, ?, ?)
+            """;
+
+    // idx_pet_event_unpositioned; a numeração segue event_id dentro do lote
+    private static final String ASSIGN_POSITIONS_SQL = """
+            with last as (
+                select coalesce(max(position), 0) as position from pet_events
+            ), next as (
+                select event_id, row_number() over (order by event_id) as n
+                  from pet_events
+                 where position is null
+                 order by event_id
+                 limit ?
+            )
+            update pet_events e
+               set position = last.position + next.n
+              from last, next
+             where e.event_id = next.event_id
+            """;
+
+    private static final String COLUMNS = """
+            select position, event_id, event_type, pet_id, guardian_id, subject_id, occurred_at
+              from pet_events
+            """;
+
+    // idx_pet_event_unpublished
+    private static final String FIND_UNPUBLISHED_SQL = COLUMNS + """
+             where position is not null and published_at is null
+             order by position
+             limit ?
+            """;
+
+    private static final String MARK_PUBLISHED_SQL = """
+            update pet_events
+               set published_at = ?
+             where position is not null and published_at is null and position <= ?
+            """;
+
+    private static final String FIND_AFTER_SQL = COLUMNS + """
+             where position > ?
+             order by position
+             limit ?
+            """;
+
+    private static final RowMapper<PetEvent> ROW_MAPPER = (rs, rowNum) -> new PetEvent(
+            rs.getLong("position"),
+            rs.getLong("event_id"),
+            PetEventType.valueOf(rs.getString("event_type")),
+            rs.getObject("pet_id", UUID.class),
+            rs.getObject("guardian_id", UUID.class),
+            rs.getObject("subject_id", UUID.class),
+            rs.getObject("occurred_at", LocalDateTime.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PetEventOutboxAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void appendAll(Collection<NewPetEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (statement, event) -> {
+            statement.setString(1, event.type().name());
+            statement.setObject(2, event.petId());
+            statement.setObject(3, event.guardianId());
+            statement.setObject(4, event.subjectId());
+            statement.setObject(5, now);
+        });
+    }
+
+    @Override
+    public boolean tryLockRelay() {
+        Boolean locked = jdbcTemplate.queryForObject("select pg_try_advisory_xact_lock(?)", Boolean.class, RELAY_LOCK_KEY);
+        return Boolean.TRUE.equals(locked);
+    }
+
+    @Override
+    public int assignPositions(int limit) {
+        return jdbcTemplate.update(ASSIGN_POSITIONS_SQL, limit);
+    }
+
+    @Override
+    public List<PetEvent> findUnpublished(int limit) {
+        return jdbcTemplate.query(FIND_UNPUBLISHED_SQL, ROW_MAPPER, limit);
+    }
+
+    @Override
+    public void markPublished(long throughPosition, LocalDateTime publishedAt) {
+        jdbcTemplate.update(MARK_PUBLISHED_SQL, publishedAt, throughPosition);
+    }
+
+    @Override
+    public List<PetEvent> findAfter(long after, int limit) {
+        return jdbcTemplate.query(FIND_AFTER_SQL, ROW_MAPPER, after, limit);
+    }
+}
@@ -0,0 +1,35 @@
+package com.bichomania.clinicavet.infrastructure.persistence.id;
+
+import com.bichomania.clinicavet.common.id.UuidV7;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Gerador de ID do Hibernate com o mesmo UuidV7 do domínio.
+ * O domínio já nasce com ID (Pet.create, filhos): o ID atribuído é mantido, e o gerador
+ * só preenche entidades persistidas sem ele. Aceitar IDs atribuídos também mantém o
+ * persist de um pet novo com ID do domínio, que com @GeneratedValue seria tratado
+ * como entidade destacada.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return currentValue != null ? currentValue : UuidV7.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+}
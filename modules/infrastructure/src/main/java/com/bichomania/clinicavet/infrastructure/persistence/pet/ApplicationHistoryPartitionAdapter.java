@@ -0,0 +1,129 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import com.bichomania.clinicavet.application.pet.ports.ApplicationHistoryPartitionPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Partições anuais de vaccine_applications e dewormer_applications sobre JDBC (PostgreSQL).
+ *
+ * Arquivar um ano troca a partição quente <tabela>_y<ano> por <tabela>_y<ano>_archive,
+ * regravada com fillfactor 100 e em ordem de pet_id: o histórico de um pet fica em poucas
+ * páginas, sem espaço livre reservado para updates que não virão, e os índices são
+ * construídos já compactos. A partição fria pode ir para outro tablespace
+ * (bichomania.history.partitions.archive-tablespace). O PostgreSQL não comprime linhas
+ * de heap; a economia vem da regravação e do armazenamento mais barato.
+ *
+ * A troca é detach + attach na mesma transação, então leituras pela tabela-mãe (histórico
+ * do pet, reconstrução do índice de reforços) sempre veem o ano inteiro.
+ * Escritas no ano arquivado esperam a cópia (lock EXCLUSIVE na partição quente); o detach
+ * segura a tabela-mãe por um instante, com lock_timeout para não enfileirar a API atrás dele.
+ */
+@Repository
+public class ApplicationHistoryPartitionAdapter implements ApplicationHistoryPartitionPort {
+
+    private static final List<String> TABLES = List.of("vaccine_applications", "dewormer_applications");
+
+    // Índices da tabela-mãe além da PK (V9), por sufixo do nome: a partição fria ganha os
+    // mesmos antes do attach, que os associa aos índices particionados em vez de recriá-los
+    private static final Map<String, Map<String, String>> INDEXES = Map.of(
+            "vaccine_applications", Map.of(
+                    "_pet", "pet_id",
+                    "_pet_vaccine", "pet_id, vaccine_id, application_date"),
+            "dewormer_applications", Map.of(
+                    "_pet", "pet_id"));
+
+    // Chave do advisory lock da manutenção de partições: um nó por vez
+    private static final long PARTITION_LOCK_KEY = 0x6869_7374_6172_6368L;
+
+    private static final String CREATE_PARTITIONS_SQL =
+            "select create_application_partitions(?, extract(year from current_date)::integer, ?)";
+
+    private static final String HOT_YEARS_SQL = """
+            select distinct substring(c.relname from '_y([0-9]{4})$')::integer as year
+              from pg_inherits i
+              join pg_class c on c.oid = i.inhrelid
+             where i.inhparent in ('vaccine_applications'::regclass, 'dewormer_applications'::regclass)
+               and c.relname ~ '_y[0-9]{4}$'
+               and substring(c.relname from '_y([0-9]{4})$')::integer <= ?
+             order by year
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String archiveTablespace;
+    private final String lockTimeout;
+
+    public ApplicationHistoryPartitionAdapter(JdbcTemplate jdbcTemplate,
+                                              @Value("${bichomania.history.partitions.archive-tablespace:}") String archiveTablespace,
+                                              @Value("${bichomania.history.partitions.lock-timeout:5s}") String lockTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archiveTablespace = archiveTablespace.isBlank() ? null : quote(archiveTablespace);
+        this.lockTimeout = lockTimeout;
+    }
+
+    @Override
+    public void createPartitionsThrough(int lastYear) {
+        // Nós concorrentes criariam a mesma partição ao mesmo tempo; o segundo espera e não faz nada
+        jdbcTemplate.queryForObject("select pg_advisory_xact_lock(?)::text", String.class, PARTITION_LOCK_KEY);
+        for (String table : TABLES) {
+            jdbcTemplate.queryForObject(CREATE_PARTITIONS_SQL, Object.class, table, lastYear);
+        }
+    }
+
+    @Override
+    public List<Integer> findHotYearsThrough(int lastYear) {
+        return jdbcTemplate.queryForList(HOT_YEARS_SQL, Integer.class, lastYear);
+    }
+
+    @Override
+    public boolean archiveYear(int year) {
+        Boolean locked = jdbcTemplate.queryForObject("select pg_try_advisory_xact_lock(?)", Boolean.class, PARTITION_LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            return false;
+        }
+        jdbcTemplate.queryForObject("select set_config('lock_timeout', ?, true)", String.class, lockTimeout);
+        for (String table : TABLES) {
+            archivePartition(table, year);
+        }
+        return true;
+    }
+
+    private void archivePartition(String table, int year) {
+        String hot = table + "_y" + year;
+        String cold = hot + "_archive";
+        Boolean exists = jdbcTemplate.queryForObject("select to_regclass(?) is not null", Boolean.class, hot);
+        if (!Boolean.TRUE.equals(exists)) {
+            return;
+        }
+        String from = LocalDate.of(year, 1, 1).toString();
+        String to = LocalDate.of(year + 1, 1, 1).toString();
+        String tablespace = archiveTablespace == null ? "" : " tablespace " + archiveTablespace;
+        String indexTablespace = archiveTablespace == null ? "" : " using index tablespace " + archiveTablespace;
+
+        jdbcTemplate.execute("lock table " + hot + " in exclusive mode");
+        jdbcTemplate.execute("create table " + cold + " (like " + table + " including defaults)"
+                + " with (fillfactor = 100)" + tablespace);
+        jdbcTemplate.execute("insert into " + cold + " select * from " + hot + " order by pet_id, application_date");
+        // Com o CHECK equivalente ao intervalo, o attach não precisa varrer a tabela
+        jdbcTemplate.execute("alter table " + cold + " add constraint " + cold + "_range"
+                + " check (application_date >= '" + from + "' and application_date < '" + to + "')");
+        jdbcTemplate.execute("alter table " + cold + " add primary key (application_id, application_date)" + indexTablespace);
+        INDEXES.get(table).forEach((suffix, columns) ->
+                jdbcTemplate.execute("create index " + cold + suffix + " on " + cold + " (" + columns + ")" + tablespace));
+        jdbcTemplate.execute("analyze " + cold);
+
+        jdbcTemplate.execute("alter table " + table + " detach partition " + hot);
+        jdbcTemplate.execute("alter table " + table + " attach partition " + cold
+                + " for values from ('" + from + "') to ('" + to + "')");
+        jdbcTemplate.execute("drop table " + hot);
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
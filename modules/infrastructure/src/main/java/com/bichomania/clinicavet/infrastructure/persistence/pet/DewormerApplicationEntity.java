@@ -0,0 +1,116 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import com.bichomania.clinicavet.infrastructure.persistence.id.UuidV7Id;
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Entidade JPA de aplicação de vermífugo (filha de PetEntity).
+ * No PostgreSQL a tabela é particionada por ano de application_date (V9); a chave da tabela
+ * é (application_id, application_date), e application_id continua identificando a linha.
+ */
+@Entity
+@Table(
+        name = "dewormer_applications",
+        indexes = {
+                @Index(
+                        name = "idx_dewormer_application_pet",
+                        columnList = "pet_id"
+                )
+        }
+)
+@EntityListeners(AuditingEntityListener.class)
+public class DewormerApplicationEntity {
+
+    @Id
+    @UuidV7Id
+    @Column(name = "application_id", nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "pet_id", nullable = false)
+    @JsonBackReference("pet-dewormer")
+    private PetEntity pet;
+
+    @Column(name = "dewormer_id", nullable = false)
+    private UUID dewormerId;
+
+    @Column(name = "application_date", nullable = false)
+    private LocalDate applicationDate;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Construtor padrão exigido pelo JPA
+    public DewormerApplicationEntity() {
+    }
+
+    // Getters e Setters
+    public UUID getId() {
+        return id;
+    }
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public PetEntity getPet() {
+        return pet;
+    }
+    public void setPet(PetEntity pet) {
+        this.pet = pet;
+    }
+
+    public UUID getDewormerId() {
+        return dewormerId;
+    }
+    public void setDewormerId(UUID dewormerId) {
+        this.dewormerId = dewormerId;
+    }
+
+    public LocalDate getApplicationDate() {
+        return applicationDate;
+    }
+    public void setApplicationDate(LocalDate applicationDate) {
+        this.applicationDate = applicationDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DewormerApplicationEntity that)) return false;
+        if (this.id == null || that.id == null) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id == null ? System.identityHashCode(this) : Objects.hash(id);
+    }
+}
@@ -0,0 +1,18 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório Spring Data de DewormerApplicationEntity.
+ */
+public interface DewormerApplicationJpaRepository extends JpaRepository<DewormerApplicationEntity, UUID> {
+
+    @Query("select d from DewormerApplicationEntity d where d.pet.id in :petIds order by d.applicationDate, d.id")
+    List<DewormerApplicationEntity> findByPetIds(@Param("petIds") Collection<UUID> petIds);
+}
@@ -0,0 +1,86 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.infrastructure.mapper.pet.PetMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Carrega agregados Pet completos em número fixo de consultas.
+ * Para uma lista de PetEntity já carregada, busca cada coleção filha com um único
+ * {@code where pet_id in (...)} (uma consulta por coleção e por bloco de IDs) e monta os
+ * agregados em memória. Evita o N+1 das coleções LAZY e o produto cartesiano que um
+ * JOIN FETCH das três coleções produziria.
+ */
+@Component
+public class PetAggregateLoader {
+
+    // Tamanho máximo da lista IN por consulta (bem abaixo do limite de binds do PostgreSQL)
+    static final int IN_CLAUSE_CHUNK = 1000;
+
+    private final VaccineApplicationJpaRepository vaccineApplications;
+    private final DewormerApplicationJpaRepository dewormerApplications;
+    private final ReminderJpaRepository reminders;
+    private final PetMapper mapper;
+
+    public PetAggregateLoader(VaccineApplicationJpaRepository vaccineApplications,
+                              DewormerApplicationJpaRepository dewormerApplications,
+                              ReminderJpaRepository reminders,
+                              PetMapper mapper) {
+        this.vaccineApplications = vaccineApplications;
+        this.dewormerApplications = dewormerApplications;
+        this.reminders = reminders;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Converte as entidades em agregados de domínio, preservando a ordem recebida.
+     */
+    public List<Pet> load(List<PetEntity> pets) {
+        if (pets.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> petIds = new ArrayList<>(pets.size());
+        for (PetEntity pet : pets) {
+            petIds.add(pet.getId());
+        }
+
+        Map<UUID, List<VaccineApplicationEntity>> vaccinesByPet =
+                groupByPet(petIds, vaccineApplications::findByPetIds, v -> v.getPet().getId());
+        Map<UUID, List<DewormerApplicationEntity>> dewormersByPet =
+                groupByPet(petIds, dewormerApplications::findByPetIds, d -> d.getPet().getId());
+        Map<UUID, List<ReminderEntity>> remindersByPet =
+                groupByPet(petIds, reminders::findByPetIds, r -> r.getPet().getId());
+
+        List<Pet> result = new ArrayList<>(pets.size());
+        for (PetEntity pet : pets) {
+            result.add(mapper.toDomain(
+                    pet,
+                    vaccinesByPet.getOrDefault(pet.getId(), List.of()),
+                    dewormersByPet.getOrDefault(pet.getId(), List.of()),
+                    remindersByPet.getOrDefault(pet.getId(), List.of())
+            ));
+        }
+        return result;
+    }
+
+    private static <T> Map<UUID, List<T>> groupByPet(List<UUID> petIds,
+                                                     Function<List<UUID>, List<T>> query,
+                                                     Function<T, UUID> petIdOf) {
+        Map<UUID, List<T>> byPet = new HashMap<>();
+        for (int from = 0; from < petIds.size(); from += IN_CLAUSE_CHUNK) {
+            List<UUID> chunk = petIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK, petIds.size()));
+            for (T child : query.apply(chunk)) {
+                byPet.computeIfAbsent(petIdOf.apply(child), id -> new ArrayList<>()).add(child);
+            }
+        }
+        return byPet;
+    }
+}
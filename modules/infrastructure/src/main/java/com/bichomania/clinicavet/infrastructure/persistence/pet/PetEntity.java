@@ -1,5 +1,7 @@
 package com.bichomania.clinicavet.infrastructure.persistence.pet;
 
+import com.bichomania.clinicavet.domain.pet.Sex;
+import com.bichomania.clinicavet.infrastructure.persistence.id.UuidV7Id;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -22,13 +24,15 @@ import java.util.UUID;
 @Table(
         name = "pets",
         indexes = {
+                // Chave da paginação keyset: (created_at, pet_id) em ordem de índice
                 @Index(
                         name = "idx_pet_dates",
-                        columnList = "created_at, updated_at"
+                        columnList = "created_at, pet_id"
                 ),
+                // Listagem por tutor e ETag composto; no banco também inclui version (V8)
                 @Index(
-                        name = "idx_guardian_id",
-                        columnList = "guardian_id"
+                        name = "idx_pet_guardian_version",
+                        columnList = "guardian_id, pet_id"
                 )
         }
 )
@@ -36,7 +40,7 @@ import java.util.UUID;
 public class PetEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7Id
     @Column(name = "pet_id", nullable = false)
     private UUID id;
 
@@ -62,9 +66,11 @@ public class PetEntity {
     @Column(name = "microchip_number", unique = true, length = 30)
     private String microchipNumber;
 
-    @Lob
-    @Column(name = "history", columnDefinition = "LONGTEXT")
-    private String history;
+    // Forma canônica (MicrochipNumber): chave da busca por chip e da unicidade
+    @Column(name = "microchip_canonical", unique = true, length = 30)
+    private String microchipCanonical;
+
+    // O histórico clínico fica em pet_histories (PetHistoryEntity), fora desta linha
 
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -151,11 +157,11 @@ public class PetEntity {
         this.microchipNumber = microchipNumber;
     }
 
-    public String getHistory() {
-        return history;
+    public String getMicrochipCanonical() {
+        return microchipCanonical;
     }
-    public void setHistory(String history) {
-        this.history = history;
+    public void setMicrochipCanonical(String microchipCanonical) {
+        this.microchipCanonical = microchipCanonical;
     }
 
     public LocalDateTime getCreatedAt() {
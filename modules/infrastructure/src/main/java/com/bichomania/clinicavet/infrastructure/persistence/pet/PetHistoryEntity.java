@@ -0,0 +1,88 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Histórico clínico do pet, em tabela própria (1:1 com pets).
+ * Fora da linha de pets, o texto não é lido por listagens, buscas por tutor
+ * nem appends; só pelo endpoint de histórico, sob demanda.
+ * PetEntity não mapeia o lado inverso de propósito: um @OneToOne mappedBy
+ * seria carregado junto com cada pet.
+ */
+@Entity
+@Table(name = "pet_histories")
+@EntityListeners(AuditingEntityListener.class)
+public class PetHistoryEntity {
+
+    @Id
+    @Column(name = "pet_id", nullable = false)
+    private UUID id;
+
+    // A exclusão do pet remove o histórico no próprio banco (ON DELETE CASCADE)
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "pet_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private PetEntity pet;
+
+    @Column(name = "content", nullable = false, columnDefinition = "text")
+    private String content;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Construtor padrão exigido pelo JPA
+    public PetHistoryEntity() {
+    }
+
+    // Getters e Setters
+    public UUID getId() {
+        return id;
+    }
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public PetEntity getPet() {
+        return pet;
+    }
+    public void setPet(PetEntity pet) {
+        this.pet = pet;
+    }
+
+    public String getContent() {
+        return content;
+    }
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PetHistoryEntity that)) return false;
+        if (this.id == null || that.id == null) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id == null ? System.identityHashCode(this) : Objects.hash(id);
+    }
+}
@@ -0,0 +1,32 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório Spring Data de PetEntity.
+ */
+public interface PetJpaRepository extends JpaRepository<PetEntity, UUID> {
+
+    List<PetEntity> findByGuardianId(UUID guardianId);
+
+    /**
+     * Primeira página da listagem keyset.
+     */
+    @Query("select p from PetEntity p order by p.createdAt, p.id")
+    List<PetEntity> findFirstPage(Limit limit);
+
+    /**
+     * Página seguinte ao cursor (createdAt, id).
+     * A comparação de tupla vira row value comparison no PostgreSQL,
+     * o que permite seek direto no idx_pet_dates em vez de OFFSET.
+     */
+    @Query("select p from PetEntity p where (p.createdAt, p.id) > (:createdAt, :id) order by p.createdAt, p.id")
+    List<PetEntity> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+}
@@ -0,0 +1,332 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import com.bichomania.clinicavet.application.pet.dto.PetRowResponse;
+import com.bichomania.clinicavet.application.pet.ports.PetRepositoryPort;
+import com.bichomania.clinicavet.domain.dewormerapplication.DewormerApplication;
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.domain.pet.Reminder;
+import com.bichomania.clinicavet.domain.pet.Sex;
+import com.bichomania.clinicavet.domain.vaccineapplication.VaccineApplication;
+import com.bichomania.clinicavet.infrastructure.mapper.pet.PetMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Implementação da porta de persistência de Pet sobre JPA/JDBC.
+ */
+@Repository
+public class PetRepositoryAdapter implements PetRepositoryPort {
+
+    // Linhas buscadas por round-trip no cursor do export em streaming
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String STREAM_SQL = """
+            select pet_id, guardian_id, name, birth_date, breed, sex, is_castrated,
+                   microchip_number, created_at, updated_at
+              from pets
+             order by created_at, pet_id
+            """;
+
+    // Busca por chip: uq_pet_microchip_canonical
+    private static final String FIND_BY_MICROCHIP_SQL = """
+            select pet_id, guardian_id, name, birth_date, breed, sex, is_castrated,
+                   microchip_number, created_at, updated_at
+              from pets
+             where microchip_canonical = ?
+            """;
+
+    private static final String VERSION_SQL = """
+            select coalesce(version, 0) from pets where pet_id = ?
+            """;
+
+    // Resumo dos (pet_id, version) do tutor, em ordem: muda com qualquer escrita,
+    // inclusão ou exclusão de pet do tutor. Lido só de idx_pet_guardian_version.
+    private static final String GUARDIAN_VERSION_TAG_SQL = """
+            select md5(coalesce(string_agg(pet_id::text || ':' || coalesce(version, 0), ',' order by pet_id), ''))
+              from pets
+             where guardian_id = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            insert into pets (pet_id, guardian_id, name, birth_date, breed, sex, is_castrated,
+                              microchip_number, microchip_canonical, created_at, updated_at, version)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private static final String INSERT_HISTORY_SQL = """
+            insert into pet_histories (pet_id, content, updated_at) values (?, ?, ?)
+            """;
+
+    private static final String HISTORY_SIZE_SQL = """
+            select octet_length(content) from pet_histories where pet_id = ?
+            """;
+
+    // Recorte feito no banco, em bytes UTF-8 (substring de bytea é 1-based)
+    private static final String HISTORY_RANGE_SQL = """
+            select substring(convert_to(content, 'UTF8') from ? for ?) from pet_histories where pet_id = ?
+            """;
+
+    private final PetJpaRepository jpaRepository;
+    private final PetAggregateLoader aggregateLoader;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final PetMapper mapper;
+
+    public PetRepositoryAdapter(PetJpaRepository jpaRepository, PetAggregateLoader aggregateLoader,
+                                EntityManager entityManager, JdbcTemplate jdbcTemplate, PetMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.aggregateLoader = aggregateLoader;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Grava os escalares e apenas as adições pendentes do agregado; as coleções
+     * filhas já persistidas nunca são carregadas nem comparadas.
+     */
+    @Override
+    public Pet save(Pet pet) {
+        Optional<PetEntity> existing = jpaRepository.findById(pet.getId());
+        PetEntity entity = existing.orElseGet(PetEntity::new);
+        mapper.copyToEntity(pet, entity);
+        PetEntity saved = jpaRepository.save(entity);
+        if (existing.isEmpty() || pet.isHistoryChanged()) {
+            saveHistory(saved, pet.getHistory(), existing.isEmpty());
+        }
+        if (existing.isPresent() && pet.isHistoryChanged()) {
+            // O histórico mora em pet_histories: sem tocar a linha de pets, a versão (ETag,
+            // If-Match) não mudaria. updatedAt deixa o PetEntity sujo e a versão sobe no
+            // flush, uma vez só, mesmo quando os escalares também mudaram.
+            saved.setUpdatedAt(LocalDateTime.now());
+        }
+        if (pet.hasPendingAdditions()) {
+            entityManager.lock(saved, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+            persistPending(pet, saved);
+        }
+        if (existing.isEmpty()) {
+            return mapper.toDomain(saved, List.of(), List.of(), List.of());
+        }
+        return aggregateLoader.load(List.of(saved)).get(0);
+    }
+
+    // Pet novo sempre ganha a linha de histórico (vazia, se for o caso): a ausência
+    // da linha passa a significar pet inexistente no endpoint de histórico.
+    private void saveHistory(PetEntity pet, String content, boolean isNew) {
+        PetHistoryEntity history = isNew ? null : entityManager.find(PetHistoryEntity.class, pet.getId());
+        if (history == null) {
+            history = new PetHistoryEntity();
+            history.setPet(pet);
+            history.setContent(content == null ? "" : content);
+            entityManager.persist(history);
+        } else {
+            history.setContent(content == null ? "" : content);
+        }
+    }
+
+    /**
+     * Insert direto via JDBC, sem passar pelo contexto de persistência:
+     * o ID já vem do domínio (sem round-trip de geração) e o lote inteiro vai em um
+     * único executeBatch, que o driver reescreve em INSERT multi-valores
+     * (reWriteBatchedInserts=true nas propriedades do datasource).
+     */
+    @Override
+    public void insertAll(List<Pet> pets) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, pets, pets.size(), (statement, pet) -> {
+            statement.setObject(1, pet.getId());
+            statement.setObject(2, pet.getGuardianId());
+            statement.setString(3, pet.getName());
+            statement.setObject(4, pet.getBirthDate());
+            statement.setString(5, pet.getBreed());
+            statement.setString(6, pet.getSex().name());
+            statement.setBoolean(7, pet.getIsCastrated());
+            statement.setString(8, pet.getMicrochipNumber());
+            statement.setString(9, pet.getCanonicalMicrochipNumber());
+            statement.setObject(10, now);
+            statement.setObject(11, now);
+        });
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, pets, pets.size(), (statement, pet) -> {
+            statement.setObject(1, pet.getId());
+            statement.setString(2, pet.getHistory() == null ? "" : pet.getHistory());
+            statement.setObject(3, now);
+        });
+    }
+
+    @Override
+    public Optional<Pet> findById(UUID id) {
+        return jpaRepository.findById(id).map(entity -> aggregateLoader.load(List.of(entity)).get(0));
+    }
+
+    @Override
+    public Optional<Pet> findWithoutChildren(UUID id) {
+        return jpaRepository.findById(id)
+                .map(entity -> mapper.toDomain(entity, List.of(), List.of(), List.of()));
+    }
+
+    @Override
+    public List<Pet> findAllWithoutChildren(Collection<UUID> ids) {
+        List<PetEntity> entities = jpaRepository.findAllById(ids);
+        List<Pet> pets = new ArrayList<>(entities.size());
+        for (PetEntity entity : entities) {
+            pets.add(mapper.toDomain(entity, List.of(), List.of(), List.of()));
+        }
+        return pets;
+    }
+
+    @Override
+    public long appendPending(Pet pet) {
+        PetEntity entity = lockForAppend(pet.getId());
+        persistPending(pet, entity);
+        // O flush antecipa erros do insert; a versão já foi incrementada pelo lock
+        entityManager.flush();
+        return entity.getVersion();
+    }
+
+    /**
+     * Um único flush para todos os pets: com hibernate.jdbc.batch_size e order_inserts,
+     * os inserts de cada tabela filha saem em lotes JDBC. As linhas dos pets são travadas
+     * em ordem de pet_id, para que dois lotes com pets em comum não se travem em ciclo.
+     */
+    @Override
+    public void appendPendingAll(Collection<Pet> pets) {
+        List<Pet> ordered = pets.stream().sorted(Comparator.comparing(Pet::getId)).toList();
+        for (Pet pet : ordered) {
+            persistPending(pet, lockForAppend(pet.getId()));
+        }
+        entityManager.flush();
+    }
+
+    // Os filhos são persistidos direto, sem entrar na coleção do pai: a coleção LAZY
+    // nunca é inicializada. PESSIMISTIC_FORCE_INCREMENT executa na hora um
+    // "update pets set version = v + 1 where pet_id = ? and version = v", que trava a
+    // linha do pet antes de qualquer outra escrita da transação: appends, PATCH e delete
+    // (lockForUpdate) travam pets primeiro e depois pet_summary e os índices, sempre nessa
+    // ordem, sem deadlock entre eles. Se outra escrita tiver passado pelo agregado desde
+    // a leitura, o update não casa e o append falha por lock otimista (AppendRetry).
+    private PetEntity lockForAppend(UUID petId) {
+        return entityManager.find(PetEntity.class, petId, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+    }
+
+    private void persistPending(Pet pet, PetEntity entity) {
+        for (VaccineApplication application : pet.getPendingVaccineApplications()) {
+            entityManager.persist(mapper.toEntity(application, entity));
+        }
+        for (DewormerApplication application : pet.getPendingDewormerApplications()) {
+            entityManager.persist(mapper.toEntity(application, entity));
+        }
+        for (Reminder reminder : pet.getPendingReminders()) {
+            entityManager.persist(mapper.toEntity(reminder, entity));
+        }
+        pet.markPendingAdditionsPersisted();
+    }
+
+    @Override
+    public OptionalLong findVersion(UUID id) {
+        List<Long> versions = jdbcTemplate.queryForList(VERSION_SQL, Long.class, id);
+        return versions.isEmpty() ? OptionalLong.empty() : OptionalLong.of(versions.get(0));
+    }
+
+    @Override
+    public OptionalLong lockForUpdate(UUID id) {
+        PetEntity pet = entityManager.find(PetEntity.class, id, LockModeType.PESSIMISTIC_WRITE);
+        return pet == null ? OptionalLong.empty() : OptionalLong.of(pet.getVersion());
+    }
+
+    @Override
+    public long flushVersion(UUID id) {
+        entityManager.flush();
+        return entityManager.find(PetEntity.class, id).getVersion();
+    }
+
+    @Override
+    public String findGuardianVersionTag(UUID guardianId) {
+        return jdbcTemplate.queryForObject(GUARDIAN_VERSION_TAG_SQL, String.class, guardianId);
+    }
+
+    @Override
+    public Optional<PetRowResponse> findRowByMicrochip(String canonicalMicrochipNumber) {
+        return jdbcTemplate.query(FIND_BY_MICROCHIP_SQL, (rs, rowNum) -> toRow(rs), canonicalMicrochipNumber)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        jpaRepository.deleteById(id);
+    }
+
+    @Override
+    public OptionalLong findHistorySize(UUID petId) {
+        List<Long> sizes = jdbcTemplate.queryForList(HISTORY_SIZE_SQL, Long.class, petId);
+        return sizes.isEmpty() ? OptionalLong.empty() : OptionalLong.of(sizes.get(0));
+    }
+
+    /**
+     * O trecho sai do banco já recortado e é copiado do stream binário do driver
+     * para a resposta, sem virar String nem passar pelo contexto de persistência.
+     */
+    @Override
+    public void copyHistory(UUID petId, long offset, long length, OutputStream out) {
+        jdbcTemplate.query(HISTORY_RANGE_SQL, rs -> {
+            try (InputStream content = rs.getBinaryStream(1)) {
+                content.transferTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, Math.toIntExact(offset + 1), Math.toIntExact(length), petId);
+    }
+
+    /**
+     * O driver do PostgreSQL só usa cursor no servidor com autocommit desligado
+     * (transação aberta pelo chamador) e fetchSize > 0; caso contrário materializa
+     * o ResultSet inteiro antes de devolver a primeira linha.
+     */
+    @Override
+    public void streamRows(Consumer<PetRowResponse> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(STREAM_SQL);
+                    statement.setFetchSize(STREAM_FETCH_SIZE);
+                    return statement;
+                },
+                rs -> {
+                    consumer.accept(toRow(rs));
+                });
+    }
+
+    private static PetRowResponse toRow(ResultSet rs) throws SQLException {
+        return new PetRowResponse(
+                rs.getObject("pet_id", UUID.class),
+                rs.getObject("guardian_id", UUID.class),
+                rs.getString("name"),
+                rs.getObject("birth_date", LocalDate.class),
+                rs.getString("breed"),
+                Sex.valueOf(rs.getString("sex")),
+                rs.getBoolean("is_castrated"),
+                rs.getString("microchip_number"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class)
+        );
+    }
+}
@@ -0,0 +1,114 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import com.bichomania.clinicavet.application.pet.dto.PetSearchHit;
+import com.bichomania.clinicavet.application.pet.pagination.PetSearchCursor;
+import com.bichomania.clinicavet.application.pet.ports.PetSearchPort;
+import com.bichomania.clinicavet.domain.pet.Sex;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Busca de pets sobre os índices de texto do PostgreSQL (V7).
+ *
+ * Um pet casa se o tsvector (nome peso A, raça peso B) contém todos os termos como
+ * palavra ou prefixo, ou se o termo é parecido com uma palavra do nome/raça (pg_trgm,
+ * operador <% com o limiar pg_trgm.word_similarity_threshold). A relevância é o maior
+ * entre ts_rank e a similaridade por trigramas; a raça pesa menos que o nome.
+ */
+@Repository
+public class PetSearchAdapter implements PetSearchPort {
+
+    // Tudo que não é letra ou dígito separa termos (e não chega ao to_tsquery)
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final String SEARCH_TEMPLATE = """
+            select pet_id, guardian_id, name, breed, sex, microchip_number, rank
+              from (select p.pet_id, p.guardian_id, p.name, p.breed, p.sex, p.microchip_number,
+                           greatest(ts_rank(p.search_vector, q.query),
+                                    word_similarity(q.term, p.name),
+                                    cast(0.8 as real) * word_similarity(q.term, p.breed)) as rank
+                      from pets p,
+                           (select to_tsquery('simple', ?) as query, cast(? as text) as term) q
+                     where (p.search_vector @@ q.query or q.term <%% p.name or q.term <%% p.breed)
+                       %s) r
+             %s
+             order by rank desc, pet_id
+             limit ?
+            """;
+
+    private static final String BY_GUARDIAN = "and p.guardian_id = ?";
+    private static final String AFTER_CURSOR = "where r.rank < ? or (r.rank = ? and r.pet_id > ?)";
+
+    private static final String SEARCH_SQL = SEARCH_TEMPLATE.formatted("", "");
+    private static final String SEARCH_AFTER_SQL = SEARCH_TEMPLATE.formatted("", AFTER_CURSOR);
+    private static final String SEARCH_GUARDIAN_SQL = SEARCH_TEMPLATE.formatted(BY_GUARDIAN, "");
+    private static final String SEARCH_GUARDIAN_AFTER_SQL = SEARCH_TEMPLATE.formatted(BY_GUARDIAN, AFTER_CURSOR);
+
+    // CONCURRENTLY: reconstrói ao lado e troca, sem bloquear escritas em pets
+    private static final List<String> REINDEX_STATEMENTS = List.of(
+            "reindex index concurrently idx_pet_search_vector",
+            "reindex index concurrently idx_pet_name_trgm",
+            "reindex index concurrently idx_pet_breed_trgm",
+            "analyze pets"
+    );
+
+    private static final RowMapper<PetSearchHit> HIT_MAPPER = (rs, rowNum) -> new PetSearchHit(
+            rs.getObject("pet_id", UUID.class),
+            rs.getObject("guardian_id", UUID.class),
+            rs.getString("name"),
+            rs.getString("breed"),
+            Sex.valueOf(rs.getString("sex")),
+            rs.getString("microchip_number"),
+            rs.getFloat("rank")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PetSearchAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<PetSearchHit> search(String term, UUID guardianId, PetSearchCursor after, int limit) {
+        List<Object> args = new ArrayList<>(7);
+        args.add(toPrefixQuery(term));
+        args.add(term);
+        if (guardianId != null) {
+            args.add(guardianId);
+        }
+        if (after != null) {
+            args.add(after.rank());
+            args.add(after.rank());
+            args.add(after.id());
+        }
+        args.add(limit);
+
+        String sql = guardianId == null
+                ? (after == null ? SEARCH_SQL : SEARCH_AFTER_SQL)
+                : (after == null ? SEARCH_GUARDIAN_SQL : SEARCH_GUARDIAN_AFTER_SQL);
+        return jdbcTemplate.query(sql, HIT_MAPPER, args.toArray());
+    }
+
+    @Override
+    public void reindex() {
+        for (String statement : REINDEX_STATEMENTS) {
+            jdbcTemplate.execute(statement);
+        }
+    }
+
+    // "luna gold" -> "luna:* & gold:*": cada termo como prefixo, todos obrigatórios
+    private static String toPrefixQuery(String term) {
+        return TERM_SEPARATOR.splitAsStream(term.toLowerCase(Locale.ROOT))
+                .filter(token -> !token.isEmpty())
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
@@ -0,0 +1,147 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import com.bichomania.clinicavet.application.pet.dto.PetSummaryResponse;
+import com.bichomania.clinicavet.application.pet.pagination.PetCursor;
+import com.bichomania.clinicavet.application.pet.ports.PetSummaryPort;
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineApplied;
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.domain.pet.Sex;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementação do modelo de leitura pet_summary sobre JDBC (PostgreSQL).
+ *
+ * As atualizações são incrementais e comutativas (maior data, soma de lembretes): dois
+ * appends concorrentes no mesmo pet podem atualizar o resumo em qualquer ordem.
+ * As leituras são um index scan em pet_summary, sem join com pets nem com as tabelas filhas.
+ */
+@Repository
+public class PetSummaryAdapter implements PetSummaryPort {
+
+    // Copia de pets (e não do Pet em memória): created_at precisa ser o mesmo do cursor keyset
+    private static final String INSERT_SQL = """
+            insert into pet_summary (pet_id, guardian_id, name, birth_date, breed, sex,
+                                     last_vaccine_date, pending_reminders, created_at)
+            select pet_id, guardian_id, name, birth_date, breed, sex, null, 0, created_at
+              from pets
+             where pet_id = ?
+            """;
+
+    private static final String UPDATE_SQL = """
+            update pet_summary
+               set guardian_id = ?, name = ?, birth_date = ?, breed = ?, sex = ?
+             where pet_id = ?
+            """;
+
+    private static final String RECORD_VACCINATION_SQL = """
+            update pet_summary
+               set last_vaccine_date = greatest(coalesce(last_vaccine_date, ?), ?)
+             where pet_id = ?
+            """;
+
+    private static final String ADD_PENDING_REMINDERS_SQL = """
+            update pet_summary set pending_reminders = pending_reminders + ? where pet_id = ?
+            """;
+
+    private static final String COLUMNS = """
+            select pet_id, guardian_id, name, breed, sex, birth_date,
+                   date_part('year', age(current_date, birth_date))::integer as age_years,
+                   last_vaccine_date, pending_reminders, created_at
+              from pet_summary
+            """;
+
+    // idx_pet_summary_page
+    private static final String FIRST_PAGE_SQL = COLUMNS + """
+             order by created_at, pet_id
+             limit ?
+            """;
+
+    private static final String PAGE_AFTER_SQL = COLUMNS + """
+             where (created_at, pet_id) > (?, ?)
+             order by created_at, pet_id
+             limit ?
+            """;
+
+    // idx_pet_summary_guardian
+    private static final String BY_GUARDIAN_SQL = COLUMNS + """
+             where guardian_id = ?
+             order by created_at, pet_id
+            """;
+
+    private static final RowMapper<PetSummaryResponse> ROW_MAPPER = (rs, rowNum) -> new PetSummaryResponse(
+            rs.getObject("pet_id", UUID.class),
+            rs.getObject("guardian_id", UUID.class),
+            rs.getString("name"),
+            rs.getString("breed"),
+            Sex.valueOf(rs.getString("sex")),
+            rs.getObject("birth_date", LocalDate.class),
+            rs.getInt("age_years"),
+            rs.getObject("last_vaccine_date", LocalDate.class),
+            rs.getInt("pending_reminders"),
+            rs.getObject("created_at", LocalDateTime.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public PetSummaryAdapter(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void insertAll(Collection<UUID> petIds) {
+        if (petIds.isEmpty()) {
+            return;
+        }
+        // O pet pode ter sido gravado via JPA e ainda não ter ido ao banco
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(INSERT_SQL, petIds, petIds.size(),
+                (statement, petId) -> statement.setObject(1, petId));
+    }
+
+    @Override
+    public void update(Pet pet) {
+        jdbcTemplate.update(UPDATE_SQL, pet.getGuardianId(), pet.getName(), pet.getBirthDate(),
+                pet.getBreed(), pet.getSex().name(), pet.getId());
+    }
+
+    @Override
+    public void recordVaccinations(Collection<VaccineApplied> applications) {
+        if (applications.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(RECORD_VACCINATION_SQL, applications, applications.size(), (statement, applied) -> {
+            statement.setObject(1, applied.applicationDate());
+            statement.setObject(2, applied.applicationDate());
+            statement.setObject(3, applied.petId());
+        });
+    }
+
+    @Override
+    public void addPendingReminders(UUID petId, int count) {
+        jdbcTemplate.update(ADD_PENDING_REMINDERS_SQL, count, petId);
+    }
+
+    @Override
+    public List<PetSummaryResponse> findPage(PetCursor after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(FIRST_PAGE_SQL, ROW_MAPPER, limit);
+        }
+        return jdbcTemplate.query(PAGE_AFTER_SQL, ROW_MAPPER, after.createdAt(), after.id(), limit);
+    }
+
+    @Override
+    public List<PetSummaryResponse> findByGuardianId(UUID guardianId) {
+        return jdbcTemplate.query(BY_GUARDIAN_SQL, ROW_MAPPER, guardianId);
+    }
+}
@@ -0,0 +1,18 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório Spring Data de ReminderEntity.
+ */
+public interface ReminderJpaRepository extends JpaRepository<ReminderEntity, UUID> {
+
+    @Query("select r from ReminderEntity r where r.pet.id in :petIds order by r.dueAt, r.id")
+    List<ReminderEntity> findByPetIds(@Param("petIds") Collection<UUID> petIds);
+}
@@ -0,0 +1,18 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório Spring Data de VaccineApplicationEntity.
+ */
+public interface VaccineApplicationJpaRepository extends JpaRepository<VaccineApplicationEntity, UUID> {
+
+    @Query("select v from VaccineApplicationEntity v where v.pet.id in :petIds order by v.applicationDate, v.id")
+    List<VaccineApplicationEntity> findByPetIds(@Param("petIds") Collection<UUID> petIds);
+}
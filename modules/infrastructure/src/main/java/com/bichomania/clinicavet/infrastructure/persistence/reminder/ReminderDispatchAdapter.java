@@ -0,0 +1,87 @@
+package com.bichomania.clinicavet.infrastructure.persistence.reminder;
+
+import com.bichomania.clinicavet.application.reminder.dto.DueReminder;
+import com.bichomania.clinicavet.application.reminder.ports.ReminderDispatchPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementação da porta de disparo de lembretes sobre JDBC (PostgreSQL).
+ * As colunas de lease (claimed_by, claim_expires_at, dispatched_at) não são mapeadas em
+ * ReminderEntity: escritas do agregado Pet nunca sobrescrevem o estado do disparo.
+ */
+@Repository
+public class ReminderDispatchAdapter implements ReminderDispatchPort {
+
+    // Um único statement: a subconsulta trava as linhas elegíveis pulando as que outra
+    // transação já travou (SKIP LOCKED), e o UPDATE grava o lease antes do commit.
+    // Percorre idx_reminder_due (parcial, só pendentes) em ordem de due_at.
+    private static final String CLAIM_SQL = """
+            update reminders r
+               set claimed_by = ?, claim_expires_at = ?
+              from (select reminder_id
+                      from reminders
+                     where completed = false
+                       and dispatched_at is null
+                       and due_at < ?
+                       and (claim_expires_at is null or claim_expires_at < ?)
+                     order by due_at
+                     limit ?
+                       for update skip locked) due
+             where r.reminder_id = due.reminder_id
+            returning r.reminder_id, r.pet_id, r.description, r.due_at
+            """;
+
+    private static final String MARK_DISPATCHED_SQL = """
+            update reminders set dispatched_at = ?
+             where reminder_id = ? and claimed_by = ? and dispatched_at is null and completed = false
+            """;
+
+    private static final String RELEASE_SQL = """
+            update reminders set dispatched_at = null, claimed_by = null, claim_expires_at = null
+             where reminder_id = ? and claimed_by = ?
+            """;
+
+    private static final String RELEASE_ALL_SQL = """
+            update reminders set claimed_by = null, claim_expires_at = null
+             where claimed_by = ? and dispatched_at is null
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReminderDispatchAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<DueReminder> claimDue(String nodeId, LocalDateTime now, LocalDateTime horizon, LocalDateTime leaseUntil,
+                                      int limit) {
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new DueReminder(
+                        rs.getObject("reminder_id", UUID.class),
+                        rs.getObject("pet_id", UUID.class),
+                        rs.getString("description"),
+                        rs.getObject("due_at", LocalDateTime.class)
+                ),
+                nodeId, leaseUntil, horizon, now, limit);
+    }
+
+    @Override
+    public boolean markDispatched(UUID reminderId, String nodeId, LocalDateTime dispatchedAt) {
+        return jdbcTemplate.update(MARK_DISPATCHED_SQL, dispatchedAt, reminderId, nodeId) == 1;
+    }
+
+    @Override
+    public void releaseClaim(UUID reminderId, String nodeId) {
+        jdbcTemplate.update(RELEASE_SQL, reminderId, nodeId);
+    }
+
+    @Override
+    public void releaseAll(String nodeId) {
+        jdbcTemplate.update(RELEASE_ALL_SQL, nodeId);
+    }
+}
@@ -0,0 +1,153 @@
+package com.bichomania.clinicavet.infrastructure.persistence.vaccination;
+
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineApplied;
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineDueItem;
+import com.bichomania.clinicavet.application.vaccination.pagination.VaccineDueCursor;
+import com.bichomania.clinicavet.application.vaccination.ports.VaccineDueIndexPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementação do índice de reforços sobre JDBC (PostgreSQL).
+ * Nas aplicações novas o próximo reforço já vem calculado pelo catálogo em memória;
+ * só a reconstrução lê o intervalo da tabela vaccines, no próprio statement.
+ */
+@Repository
+public class VaccineDueIndexAdapter implements VaccineDueIndexPort {
+
+    // Antes de qualquer UUID gerado: início da varredura por faixas de pet_id
+    private static final UUID FIRST_PET_ID = new UUID(0L, 0L);
+
+    // O WHERE do DO UPDATE impede que uma aplicação retroativa recue o próximo reforço.
+    private static final String UPSERT_SQL = """
+            insert into vaccine_due_index (pet_id, vaccine_id, last_application_date, next_due_date, updated_at)
+            values (?, ?, ?, ?, ?)
+            on conflict (pet_id, vaccine_id) do update
+               set last_application_date = excluded.last_application_date,
+                   next_due_date = excluded.next_due_date,
+                   updated_at = excluded.updated_at
+             where vaccine_due_index.last_application_date <= excluded.last_application_date
+            """;
+
+    private static final String FIND_DUE_SQL = """
+            select d.pet_id, p.guardian_id, p.name as pet_name, d.vaccine_id, v.name as vaccine_name,
+                   d.last_application_date, d.next_due_date
+              from vaccine_due_index d
+              join pets p on p.pet_id = d.pet_id
+              join vaccines v on v.vaccine_id = d.vaccine_id
+             where d.next_due_date <= ?
+             order by d.next_due_date, d.pet_id, d.vaccine_id
+             limit ?
+            """;
+
+    private static final String FIND_DUE_AFTER_SQL = """
+            select d.pet_id, p.guardian_id, p.name as pet_name, d.vaccine_id, v.name as vaccine_name,
+                   d.last_application_date, d.next_due_date
+              from vaccine_due_index d
+              join pets p on p.pet_id = d.pet_id
+              join vaccines v on v.vaccine_id = d.vaccine_id
+             where d.next_due_date <= ?
+               and (d.next_due_date, d.pet_id, d.vaccine_id) > (?, ?, ?)
+             order by d.next_due_date, d.pet_id, d.vaccine_id
+             limit ?
+            """;
+
+    private static final String FIND_PET_IDS_SQL = """
+            select pet_id from pets where pet_id > ? order by pet_id limit ?
+            """;
+
+    private static final String DELETE_RANGE_SQL = """
+            delete from vaccine_due_index where pet_id > ? and pet_id <= ?
+            """;
+
+    private static final String REBUILD_RANGE_SQL = """
+            insert into vaccine_due_index (pet_id, vaccine_id, last_application_date, next_due_date, updated_at)
+            select a.pet_id, a.vaccine_id, max(a.application_date), max(a.application_date) + v.booster_interval_days, ?
+              from vaccine_applications a
+              join vaccines v on v.vaccine_id = a.vaccine_id
+             where a.pet_id > ? and a.pet_id <= ?
+               and v.booster_interval_days is not null
+             group by a.pet_id, a.vaccine_id, v.booster_interval_days
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VaccineDueIndexAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Com reWriteBatchedInserts o lote vira um único INSERT multi-valores, e o ON CONFLICT
+     * DO UPDATE não pode afetar a mesma linha duas vezes no mesmo statement: antes do lote,
+     * fica só a aplicação mais recente de cada par (pet, vacina), a mesma que o upsert manteria.
+     */
+    @Override
+    public void recordAll(Collection<VaccineApplied> applications) {
+        Map<PetVaccine, VaccineApplied> latest = new LinkedHashMap<>();
+        for (VaccineApplied applied : applications) {
+            if (applied.nextDueDate() != null) {
+                latest.merge(new PetVaccine(applied.petId(), applied.vaccineId()), applied,
+                        (current, candidate) -> candidate.applicationDate().isAfter(current.applicationDate())
+                                ? candidate : current);
+            }
+        }
+        List<VaccineApplied> boosters = List.copyOf(latest.values());
+        if (boosters.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, boosters, boosters.size(), (statement, applied) -> {
+            statement.setObject(1, applied.petId());
+            statement.setObject(2, applied.vaccineId());
+            statement.setObject(3, applied.applicationDate());
+            statement.setObject(4, applied.nextDueDate());
+            statement.setObject(5, now);
+        });
+    }
+
+    @Override
+    public List<VaccineDueItem> findDue(LocalDate until, LocalDate today, VaccineDueCursor after, int limit) {
+        RowMapper<VaccineDueItem> rowMapper = (rs, rowNum) -> {
+            LocalDate nextDueDate = rs.getObject("next_due_date", LocalDate.class);
+            return new VaccineDueItem(
+                    rs.getObject("pet_id", UUID.class),
+                    rs.getObject("guardian_id", UUID.class),
+                    rs.getString("pet_name"),
+                    rs.getObject("vaccine_id", UUID.class),
+                    rs.getString("vaccine_name"),
+                    rs.getObject("last_application_date", LocalDate.class),
+                    nextDueDate,
+                    nextDueDate.isBefore(today)
+            );
+        };
+        if (after == null) {
+            return jdbcTemplate.query(FIND_DUE_SQL, rowMapper, until, limit);
+        }
+        return jdbcTemplate.query(FIND_DUE_AFTER_SQL, rowMapper,
+                until, after.nextDueDate(), after.petId(), after.vaccineId(), limit);
+    }
+
+    @Override
+    public List<UUID> findPetIds(UUID after, int limit) {
+        return jdbcTemplate.queryForList(FIND_PET_IDS_SQL, UUID.class, after == null ? FIRST_PET_ID : after, limit);
+    }
+
+    @Override
+    public int rebuildRange(UUID fromExclusive, UUID toInclusive) {
+        UUID from = fromExclusive == null ? FIRST_PET_ID : fromExclusive;
+        jdbcTemplate.update(DELETE_RANGE_SQL, from, toInclusive);
+        return jdbcTemplate.update(REBUILD_RANGE_SQL, LocalDateTime.now(), from, toInclusive);
+    }
+
+    private record PetVaccine(UUID petId, UUID vaccineId) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.bichomania.clinicavet.infrastructure.reminder;
+
+import com.bichomania.clinicavet.application.reminder.dto.DueReminder;
+import com.bichomania.clinicavet.application.reminder.ports.ReminderSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Canal provisório: registra o lembrete no log da aplicação.
+ * Substituir por um adapter de e-mail/SMS/push implementando ReminderSink.
+ */
+@Component
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void deliver(DueReminder reminder) {
+        log.info("Lembrete {} do pet {} vencido em {}: {}",
+                reminder.reminderId(), reminder.petId(), reminder.dueAt(), reminder.description());
+    }
+}
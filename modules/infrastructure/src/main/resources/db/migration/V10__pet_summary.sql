@@ -0,0 +1,29 @@
+-- Modelo de leitura das listagens (PetSummaryAdapter): uma linha por pet, com a data da
+-- última vacina e a contagem de lembretes pendentes já calculadas. Mantido na transação
+-- de cada escrita do pet; GET /api/pets e GET /api/pets/guardian/{id} leem só daqui,
+-- sem join nem agregação. A idade sai de birth_date na leitura.
+create table pet_summary (
+    pet_id            uuid         not null primary key references pets (pet_id) on delete cascade,
+    guardian_id       uuid         not null,
+    name              varchar(100) not null,
+    birth_date        date         not null,
+    breed             varchar(50)  not null,
+    sex               varchar(10)  not null,
+    last_vaccine_date date,
+    pending_reminders integer      not null default 0 check (pending_reminders >= 0),
+    created_at        timestamp(6) not null
+);
+
+-- Listagem geral: keyset em (created_at, pet_id), como idx_pet_dates em pets
+create index idx_pet_summary_page on pet_summary (created_at, pet_id);
+
+-- Listagem por tutor, já na ordem da resposta
+create index idx_pet_summary_guardian on pet_summary (guardian_id, created_at, pet_id);
+
+insert into pet_summary (pet_id, guardian_id, name, birth_date, breed, sex,
+                         last_vaccine_date, pending_reminders, created_at)
+select p.pet_id, p.guardian_id, p.name, p.birth_date, p.breed, p.sex,
+       (select max(a.application_date) from vaccine_applications a where a.pet_id = p.pet_id),
+       (select count(*) from reminders r where r.pet_id = p.pet_id and r.completed = false),
+       p.created_at
+  from pets p;
@@ -0,0 +1,20 @@
+-- Outbox das mudanças no agregado Pet (PetEventOutboxAdapter).
+-- Cada escrita grava seus eventos na própria transação; o PetEventRelay numera os já
+-- confirmados (position, sem lacunas, em ordem de event_id) e os repassa ao publicador.
+-- event_id sai na ordem dos inserts, não dos commits: só position serve de cursor
+-- (GET /api/events?after=). Sem FK para pets: o evento de exclusão sobrevive ao pet.
+create table pet_events (
+    event_id     bigint       generated always as identity primary key,
+    position     bigint       unique,
+    event_type   varchar(30)  not null,
+    pet_id       uuid         not null,
+    guardian_id  uuid         not null,
+    subject_id   uuid,
+    occurred_at  timestamp(6) not null,
+    published_at timestamp(6)
+);
+
+-- Fila do relay: ainda sem posição / numerados e ainda não publicados
+create index idx_pet_event_unpositioned on pet_events (event_id) where position is null;
+create index idx_pet_event_unpublished on pet_events (position)
+    where position is not null and published_at is null;
@@ -0,0 +1,59 @@
+-- Esquema existente até aqui (antes gerado a partir das entidades JPA)
+
+create table pets (
+    pet_id           uuid         not null primary key,
+    guardian_id      uuid         not null,
+    name             varchar(100) not null,
+    birth_date       date         not null,
+    breed            varchar(50)  not null,
+    sex              varchar(10)  not null,
+    is_castrated     boolean      not null,
+    microchip_number varchar(30)  unique,
+    created_at       timestamp(6) not null,
+    updated_at       timestamp(6) not null,
+    version          bigint
+);
+
+-- Chave da paginação keyset
+create index idx_pet_dates on pets (created_at, pet_id);
+create index idx_guardian_id on pets (guardian_id);
+
+create table pet_histories (
+    pet_id     uuid         not null primary key references pets (pet_id) on delete cascade,
+    content    text         not null,
+    updated_at timestamp(6) not null
+);
+
+create table vaccine_applications (
+    application_id   uuid         not null primary key,
+    pet_id           uuid         not null references pets (pet_id),
+    vaccine_id       uuid         not null,
+    application_date date         not null,
+    created_at       timestamp(6) not null,
+    updated_at       timestamp(6) not null
+);
+
+create index idx_vaccine_application_pet on vaccine_applications (pet_id);
+
+create table dewormer_applications (
+    application_id   uuid         not null primary key,
+    pet_id           uuid         not null references pets (pet_id),
+    dewormer_id      uuid         not null,
+    application_date date         not null,
+    created_at       timestamp(6) not null,
+    updated_at       timestamp(6) not null
+);
+
+create index idx_dewormer_application_pet on dewormer_applications (pet_id);
+
+create table reminders (
+    reminder_id uuid         not null primary key,
+    pet_id      uuid         not null references pets (pet_id),
+    description varchar(255) not null,
+    due_at      timestamp(6) not null,
+    completed   boolean      not null,
+    created_at  timestamp(6) not null,
+    updated_at  timestamp(6) not null
+);
+
+create index idx_reminder_pet on reminders (pet_id);
@@ -0,0 +1,12 @@
+-- Disparo de lembretes (ReminderDispatchAdapter)
+-- claimed_by/claim_expires_at: lease do nó que carregou o lembrete na roda de tempo.
+-- dispatched_at: preenchido antes da entrega; o lembrete não volta a ser reivindicado.
+alter table reminders
+    add column dispatched_at    timestamp(6),
+    add column claimed_by       varchar(64),
+    add column claim_expires_at timestamp(6);
+
+-- Só os pendentes entram no índice: a busca da próxima janela não cresce com o
+-- histórico de lembretes já disparados ou concluídos.
+create index idx_reminder_due on reminders (due_at)
+    where completed = false and dispatched_at is null;
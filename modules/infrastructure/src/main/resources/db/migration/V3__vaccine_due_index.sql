@@ -0,0 +1,25 @@
+-- Catálogo de vacinas (booster_interval_days nulo = dose única)
+create table vaccines (
+    vaccine_id            uuid         not null primary key,
+    name                  varchar(100) not null,
+    booster_interval_days integer      check (booster_interval_days > 0),
+    created_at            timestamp(6) not null,
+    updated_at            timestamp(6) not null
+);
+
+-- Próximo reforço por (pet, vacina), mantido a cada aplicação registrada
+-- (VaccineDueIndexAdapter) e reconstruível a partir de vaccine_applications.
+create table vaccine_due_index (
+    pet_id                uuid         not null references pets (pet_id) on delete cascade,
+    vaccine_id            uuid         not null references vaccines (vaccine_id) on delete cascade,
+    last_application_date date         not null,
+    next_due_date         date         not null,
+    updated_at            timestamp(6) not null,
+    primary key (pet_id, vaccine_id)
+);
+
+-- Worklist: varredura em ordem de vencimento, com a chave completa do cursor keyset
+create index idx_vaccine_due_next on vaccine_due_index (next_due_date, pet_id, vaccine_id);
+
+-- Reconstrução por faixa de pets e agregação por (pet, vacina)
+create index idx_vaccine_application_pet_vaccine on vaccine_applications (pet_id, vaccine_id, application_date);
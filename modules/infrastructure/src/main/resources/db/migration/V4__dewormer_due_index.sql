@@ -0,0 +1,25 @@
+-- Catálogo de vermífugos com intervalo entre doses por faixa etária
+-- (Dewormer.intervalDaysFor: < 1 ano, adulto, sênior a partir de 7 anos)
+create table dewormers (
+    dewormer_id            uuid         not null primary key,
+    name                   varchar(100) not null,
+    juvenile_interval_days integer      not null check (juvenile_interval_days > 0),
+    adult_interval_days    integer      not null check (adult_interval_days > 0),
+    senior_interval_days   integer      check (senior_interval_days > 0),
+    created_at             timestamp(6) not null,
+    updated_at             timestamp(6) not null
+);
+
+-- Próxima dose por (pet, vermífugo), mantida a cada aplicação registrada (DewormerDueIndexAdapter)
+create table dewormer_due_index (
+    pet_id                uuid         not null references pets (pet_id) on delete cascade,
+    dewormer_id           uuid         not null references dewormers (dewormer_id) on delete cascade,
+    last_application_date date         not null,
+    next_due_date         date         not null,
+    updated_at            timestamp(6) not null,
+    primary key (pet_id, dewormer_id)
+);
+
+-- Export da clínica: varredura em ordem de vencimento. O export por tutor parte de
+-- idx_guardian_id em pets e usa o prefixo pet_id da chave primária.
+create index idx_dewormer_due_next on dewormer_due_index (next_due_date, pet_id, dewormer_id);
@@ -0,0 +1,18 @@
+-- Avisa os nós (ReferenceCatalog) que um catálogo de referência mudou.
+-- Um NOTIFY por statement, entregue no commit; o payload é só o nome da tabela.
+create function notify_catalog_changed() returns trigger
+    language plpgsql as
+$$
+begin
+    perform pg_notify('catalog_changed', tg_table_name);
+    return null;
+end;
+$$;
+
+create trigger trg_vaccines_catalog_changed
+    after insert or update or delete or truncate on vaccines
+    for each statement execute function notify_catalog_changed();
+
+create trigger trg_dewormers_catalog_changed
+    after insert or update or delete or truncate on dewormers
+    for each statement execute function notify_catalog_changed();
@@ -0,0 +1,51 @@
+-- Forma canônica do microchip (MicrochipNumber), gravada pela aplicação a cada escrita.
+-- A unicidade passa a valer sobre ela: "985-141000123456" e "985141000123456" são o mesmo chip.
+alter table pets add column microchip_canonical varchar(30);
+
+-- Preenchimento das linhas existentes com as mesmas regras de MicrochipNumber.canonicalize
+-- (hexadecimal ISO 11784 "CCC.NNNNNNNNNN" vira 15 dígitos; o resto perde separadores e caixa)
+with chips as (
+    select pet_id,
+           btrim(microchip_number, E' \t\r\n') as raw,
+           ('x' || lpad(substr(btrim(microchip_number, E' \t\r\n'), 1, 3), 16, '0'))::bit(64)::bigint as country,
+           ('x' || lpad(substr(btrim(microchip_number, E' \t\r\n'), 5, 10), 16, '0'))::bit(64)::bigint as national
+      from pets
+     where btrim(microchip_number, E' \t\r\n') ~ '^[0-9A-Fa-f]{3}[.:][0-9A-Fa-f]{10}$'
+)
+update pets p
+   set microchip_canonical = lpad(c.country::text, 3, '0') || lpad(c.national::text, 12, '0')
+  from chips c
+ where p.pet_id = c.pet_id
+   and c.country <= 999
+   and c.national <= 274877906943;
+
+update pets
+   set microchip_canonical = nullif(upper(regexp_replace(microchip_number, '[^0-9A-Za-z]', '', 'g')), '')
+ where microchip_number is not null
+   and microchip_canonical is null;
+
+-- Chips que só diferiam na grafia passam a colidir. Em vez de deixar o create unique index
+-- falhar sem dizer quais, a migração para listando os chips e pets envolvidos; qual cadastro
+-- fica com o chip é decisão da clínica. Corrigidos os dados, a migração roda de novo
+-- (no PostgreSQL a migração é transacional: nada acima fica aplicado).
+do $$
+declare
+    collisions text;
+begin
+    select string_agg(microchip_canonical || ': ' || pets, '; ' order by microchip_canonical)
+      into collisions
+      from (select microchip_canonical, string_agg(pet_id::text || ' (' || microchip_number || ')', ', '
+                                                   order by created_at, pet_id) as pets
+              from pets
+             where microchip_canonical is not null
+             group by microchip_canonical
+            having count(*) > 1) c;
+    if collisions is not null then
+        raise exception 'Microchips duplicados após a forma canônica: %', collisions
+            using hint = 'Corrija o microchip_number dos pets listados e rode a migração de novo.';
+    end if;
+end
+$$;
+
+-- Busca por chip (GET /api/pets/by-microchip/{number}) e unicidade
+create unique index uq_pet_microchip_canonical on pets (microchip_canonical);
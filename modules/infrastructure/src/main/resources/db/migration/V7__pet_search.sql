@@ -0,0 +1,16 @@
+-- Busca de pets por nome e raça (GET /api/pets/search)
+create extension if not exists pg_trgm;
+
+-- Termos inteiros e prefixos: tsvector com peso A no nome e B na raça.
+-- Configuração 'simple' (sem stemming nem stopwords): nomes próprios e raças não são palavras do dicionário.
+alter table pets add column search_vector tsvector
+    generated always as (
+        setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(breed, '')), 'B')
+    ) stored;
+
+create index idx_pet_search_vector on pets using gin (search_vector);
+
+-- Trechos e erros de digitação: trigramas (operador <% / word_similarity)
+create index idx_pet_name_trgm on pets using gin (name gin_trgm_ops);
+create index idx_pet_breed_trgm on pets using gin (breed gin_trgm_ops);
@@ -0,0 +1,4 @@
+-- ETag composto da listagem por tutor: (pet_id, version) dos pets do tutor saem só do índice
+-- (index-only scan), sem ler a linha. Substitui idx_guardian_id, que ele cobre.
+create index idx_pet_guardian_version on pets (guardian_id, pet_id) include (version);
+drop index idx_guardian_id;
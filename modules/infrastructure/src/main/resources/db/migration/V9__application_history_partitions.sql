@@ -0,0 +1,74 @@
+-- Histórico de aplicações (vacinas e vermífugos) particionado por ano de application_date.
+-- Cada ano é uma partição própria (<tabela>_y<ano>): índices e vacuum de um ano fechado não
+-- crescem mais, e o ApplicationHistoryPartitionJob arquiva esses anos em partições frias
+-- (<tabela>_y<ano>_archive) sem tirá-los da tabela-mãe, então as leituras não mudam.
+-- Datas anteriores ao primeiro ano com dados caem em <tabela>_before.
+
+-- Cria as partições anuais que faltam (idempotente); chamada também pelo job, que mantém
+-- partições criadas com antecedência. Anos já arquivados não são recriados.
+create or replace function create_application_partitions(p_parent text, p_first_year integer, p_last_year integer)
+returns void
+language plpgsql
+as $$
+declare
+    y integer;
+begin
+    for y in p_first_year..p_last_year loop
+        if to_regclass(format('%I', p_parent || '_y' || y || '_archive')) is null then
+            execute format('create table if not exists %I partition of %I for values from (%L) to (%L)',
+                           p_parent || '_y' || y, p_parent, make_date(y, 1, 1), make_date(y + 1, 1, 1));
+        end if;
+    end loop;
+end;
+$$;
+
+-- Troca a tabela pela versão particionada e copia as linhas para as partições.
+-- A chave primária inclui application_date, exigência do particionamento; application_id
+-- continua único na prática (UUID v7 gerado no domínio) e é o prefixo do índice.
+create or replace function partition_application_history(p_table text, p_catalog_column text)
+returns void
+language plpgsql
+as $$
+declare
+    first_year integer;
+    current_year integer := extract(year from current_date)::integer;
+begin
+    execute format('alter table %I rename to %I', p_table, p_table || '_unpartitioned');
+    execute format('alter table %I rename constraint %I to %I',
+                   p_table || '_unpartitioned', p_table || '_pkey', p_table || '_unpartitioned_pkey');
+
+    execute format('create table %I ('
+                   '    application_id   uuid         not null,'
+                   '    pet_id           uuid         not null references pets (pet_id),'
+                   '    %I               uuid         not null,'
+                   '    application_date date         not null,'
+                   '    created_at       timestamp(6) not null,'
+                   '    updated_at       timestamp(6) not null,'
+                   '    primary key (application_id, application_date)'
+                   ') partition by range (application_date)', p_table, p_catalog_column);
+
+    execute format('select extract(year from min(application_date))::integer from %I', p_table || '_unpartitioned')
+        into first_year;
+    first_year := least(coalesce(first_year, current_year), current_year);
+
+    execute format('create table %I partition of %I for values from (minvalue) to (%L)',
+                   p_table || '_before', p_table, make_date(first_year, 1, 1));
+    perform create_application_partitions(p_table, first_year, current_year + 1);
+
+    execute format('insert into %I select application_id, pet_id, %I, application_date, created_at, updated_at from %I',
+                   p_table, p_catalog_column, p_table || '_unpartitioned');
+    execute format('drop table %I', p_table || '_unpartitioned');
+end;
+$$;
+
+select partition_application_history('vaccine_applications', 'vaccine_id');
+select partition_application_history('dewormer_applications', 'dewormer_id');
+drop function partition_application_history(text, text);
+
+-- Índices por pet como índices particionados: cada partição (inclusive as criadas depois) tem o seu
+create index idx_vaccine_application_pet on vaccine_applications (pet_id);
+create index idx_dewormer_application_pet on dewormer_applications (pet_id);
+
+-- Índice da reconstrução do índice de reforços (V3, VaccineDueIndexAdapter.REBUILD_RANGE_SQL),
+-- perdido junto com a tabela antiga
+create index idx_vaccine_application_pet_vaccine on vaccine_applications (pet_id, vaccine_id, application_date);
@@ -0,0 +1,10 @@
+package com.bichomania.clinicavet.infrastructure;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Configuração mínima para os testes de slice (@DataJpaTest) do módulo de infraestrutura.
+ */
+@SpringBootApplication
+public class InfrastructureTestApplication {
+}
@@ -0,0 +1,82 @@
+package com.bichomania.clinicavet.infrastructure.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(2);
+
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReplicaRoutingDataSource(h2("primary"), List.of(h2("replica")));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToHealthyReplica() {
+        routing.getReplicas().get(0).recordLag(0.5, MAX_LAG);
+
+        assertEquals("replica", readOnly.execute(status -> database()));
+        assertEquals("primary", readWrite.execute(status -> database()));
+        assertEquals("primary", database());
+    }
+
+    @Test
+    void replicaStaysOutUntilMeasuredWithinMaxLag() {
+        assertEquals("primary", readOnly.execute(status -> database()));
+
+        routing.getReplicas().get(0).recordLag(3, MAX_LAG);
+        assertEquals("primary", readOnly.execute(status -> database()));
+
+        routing.getReplicas().get(0).recordLag(1, MAX_LAG);
+        routing.getReplicas().get(0).markUnavailable();
+        assertEquals("primary", readOnly.execute(status -> database()));
+    }
+
+    @Test
+    void readYourWritesForcesPrimary() {
+        routing.getReplicas().get(0).recordLag(0, MAX_LAG);
+        ReadYourWrites.requirePrimary();
+
+        assertEquals("primary", readOnly.execute(status -> database()));
+    }
+
+    private String database() {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            String url = connection.getMetaData().getURL();
+            return url.substring(url.lastIndexOf(':') + 1);
+        });
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name, "sa", "");
+    }
+}
@@ -0,0 +1,108 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.domain.pet.Sex;
+import com.bichomania.clinicavet.infrastructure.config.JpaConfig;
+import com.bichomania.clinicavet.infrastructure.mapper.pet.PetMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, PetMapper.class, PetAggregateLoader.class})
+class PetAggregateLoaderTest {
+
+    private static final int PAGE_SIZE = 500;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PetJpaRepository petRepository;
+
+    @Autowired
+    private PetAggregateLoader loader;
+
+    @Test
+    void loadsPageWithAllChildCollectionsInFixedNumberOfStatements() {
+        UUID guardianId = UUID.randomUUID();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            PetEntity pet = newPet(guardianId, "Pet " + i);
+            pet.getVaccineApplications().add(newVaccineApplication(pet));
+            pet.getVaccineApplications().add(newVaccineApplication(pet));
+            pet.getDewormerApplications().add(newDewormerApplication(pet));
+            pet.getReminders().add(newReminder(pet));
+            entityManager.persist(pet);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Pet> pets = loader.load(petRepository.findFirstPage(Limit.of(PAGE_SIZE)));
+
+        // 1 consulta da página + 1 por coleção filha, independente do número de pets
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(PAGE_SIZE, pets.size());
+        for (Pet pet : pets) {
+            assertEquals(2, pet.getVaccineApplications().size());
+            assertEquals(1, pet.getDewormerApplications().size());
+            assertEquals(1, pet.getReminders().size());
+        }
+    }
+
+    private static PetEntity newPet(UUID guardianId, String name) {
+        PetEntity pet = new PetEntity();
+        pet.setGuardianId(guardianId);
+        pet.setName(name);
+        pet.setBirthDate(LocalDate.of(2020, 1, 1));
+        pet.setBreed("SRD");
+        pet.setSex(Sex.FEMALE);
+        pet.setIsCastrated(true);
+        return pet;
+    }
+
+    private static VaccineApplicationEntity newVaccineApplication(PetEntity pet) {
+        VaccineApplicationEntity application = new VaccineApplicationEntity();
+        application.setId(UUID.randomUUID());
+        application.setPet(pet);
+        application.setVaccineId(UUID.randomUUID());
+        application.setApplicationDate(LocalDate.of(2024, 3, 10));
+        return application;
+    }
+
+    private static DewormerApplicationEntity newDewormerApplication(PetEntity pet) {
+        DewormerApplicationEntity application = new DewormerApplicationEntity();
+        application.setId(UUID.randomUUID());
+        application.setPet(pet);
+        application.setDewormerId(UUID.randomUUID());
+        application.setApplicationDate(LocalDate.of(2024, 3, 10));
+        return application;
+    }
+
+    private static ReminderEntity newReminder(PetEntity pet) {
+        ReminderEntity reminder = new ReminderEntity();
+        reminder.setId(UUID.randomUUID());
+        reminder.setPet(pet);
+        reminder.setDescription("Retorno");
+        reminder.setDueAt(LocalDateTime.of(2030, 1, 1, 9, 0));
+        return reminder;
+    }
+}
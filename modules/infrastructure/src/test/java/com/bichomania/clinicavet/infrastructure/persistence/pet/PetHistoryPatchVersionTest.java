@@ -0,0 +1,91 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import com.bichomania.clinicavet.application.event.ports.PetEventOutboxPort;
+import com.bichomania.clinicavet.application.pet.cache.GuardianPetsCache;
+import com.bichomania.clinicavet.application.pet.cache.MicrochipMissCache;
+import com.bichomania.clinicavet.application.pet.dto.PetUpdateRequest;
+import com.bichomania.clinicavet.application.pet.dto.VersionedPetResponse;
+import com.bichomania.clinicavet.application.pet.ports.PetCacheInvalidationPort;
+import com.bichomania.clinicavet.application.pet.ports.PetSummaryPort;
+import com.bichomania.clinicavet.application.pet.services.PetService;
+import com.bichomania.clinicavet.common.exception.pet.PetVersionMismatchException;
+import com.bichomania.clinicavet.domain.pet.Sex;
+import com.bichomania.clinicavet.infrastructure.config.JpaConfig;
+import com.bichomania.clinicavet.infrastructure.mapper.pet.PetMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import({JpaConfig.class, PetMapper.class, PetAggregateLoader.class, PetRepositoryAdapter.class})
+class PetHistoryPatchVersionTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PetRepositoryAdapter repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PetService service;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        // Só o que updatePet usa é real; resumo e outbox não existem no esquema H2 do teste
+        service = new PetService(repository, noOp(PetSummaryPort.class), noOp(PetEventOutboxPort.class),
+                new GuardianPetsCache(100, Duration.ofMinutes(5), beans.getBeanProvider(MeterRegistry.class),
+                        beans.getBeanProvider(PetCacheInvalidationPort.class)),
+                new MicrochipMissCache(100, Duration.ofMinutes(5), beans.getBeanProvider(MeterRegistry.class),
+                        beans.getBeanProvider(PetCacheInvalidationPort.class)),
+                null, null, null, null, transactionManager);
+    }
+
+    @Test
+    void historyOnlyPatchBumpsVersionSoSecondWriterWithSameIfMatchGets412() {
+        PetEntity pet = new PetEntity();
+        pet.setGuardianId(UUID.randomUUID());
+        pet.setName("Tobias");
+        pet.setBirthDate(LocalDate.of(2020, 1, 1));
+        pet.setBreed("SRD");
+        pet.setSex(Sex.MALE);
+        pet.setIsCastrated(true);
+        entityManager.persist(pet);
+        PetHistoryEntity history = new PetHistoryEntity();
+        history.setPet(pet);
+        history.setContent("");
+        entityManager.persist(history);
+        entityManager.flush();
+        UUID id = pet.getId();
+        long ifMatch = pet.getVersion();
+
+        VersionedPetResponse first = service.updatePet(id, new PetUpdateRequest(null, null, "Alergia a dipirona"),
+                List.of(ifMatch));
+
+        assertNotEquals(ifMatch, first.version());
+        assertThrows(PetVersionMismatchException.class, () ->
+                service.updatePet(id, new PetUpdateRequest(null, null, "Sem alergias"), List.of(ifMatch)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T noOp(Class<T> port) {
+        return (T) Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[]{port}, (proxy, method, args) -> null);
+    }
+}
@@ -0,0 +1,148 @@
+package com.bichomania.clinicavet.infrastructure.persistence.pet;
+
+import com.bichomania.clinicavet.application.event.ports.PetEventOutboxPort;
+import com.bichomania.clinicavet.application.pet.cache.GuardianPetsCache;
+import com.bichomania.clinicavet.application.pet.cache.MicrochipMissCache;
+import com.bichomania.clinicavet.application.pet.concurrency.AppendRetry;
+import com.bichomania.clinicavet.application.pet.dto.ChildCreatedResponse;
+import com.bichomania.clinicavet.application.pet.dto.PetUpdateRequest;
+import com.bichomania.clinicavet.application.pet.dto.ReminderRequest;
+import com.bichomania.clinicavet.application.pet.dto.VersionedPetResponse;
+import com.bichomania.clinicavet.application.pet.ports.PetCacheInvalidationPort;
+import com.bichomania.clinicavet.application.pet.ports.PetSummaryPort;
+import com.bichomania.clinicavet.application.pet.services.PetService;
+import com.bichomania.clinicavet.domain.pet.Pet;
+import com.bichomania.clinicavet.domain.pet.Sex;
+import com.bichomania.clinicavet.infrastructure.config.JpaConfig;
+import com.bichomania.clinicavet.infrastructure.mapper.pet.PetMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sem a transação do teste: PATCH e append precisam commitar em threads próprias
+@DataJpaTest
+@Import({JpaConfig.class, PetMapper.class, PetAggregateLoader.class, PetRepositoryAdapter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PetWriteLockOrderTest {
+
+    private static final long PATCH_HOLD_MILLIS = 300;
+
+    @Autowired
+    private PetRepositoryAdapter repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final CountDownLatch patchHoldsPetRow = new CountDownLatch(1);
+    private final AtomicReference<String> breedSeenByAppend = new AtomicReference<>();
+
+    private TransactionTemplate transactionTemplate;
+    private PetService service;
+    private UUID petId;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        service = new PetService(repository, summaries(), noOp(PetEventOutboxPort.class),
+                new GuardianPetsCache(100, Duration.ofMinutes(5), beans.getBeanProvider(MeterRegistry.class),
+                        beans.getBeanProvider(PetCacheInvalidationPort.class)),
+                new MicrochipMissCache(100, Duration.ofMinutes(5), beans.getBeanProvider(MeterRegistry.class),
+                        beans.getBeanProvider(PetCacheInvalidationPort.class)),
+                null, null, null,
+                new AppendRetry(4, Duration.ofMillis(10), Duration.ofMillis(50), beans.getBeanProvider(MeterRegistry.class)),
+                transactionManager);
+        petId = transactionTemplate.execute(status -> repository.save(Pet.create(UUID.randomUUID(), "Tobias",
+                LocalDate.of(2020, 1, 1), "SRD", Sex.MALE, true, null, null)).getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.remove(entityManager.find(PetHistoryEntity.class, petId));
+            entityManager.remove(entityManager.find(PetEntity.class, petId));
+        });
+    }
+
+    @Test
+    void appendWaitsForPetRowHeldByPatchBeforeWritingSummary() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<VersionedPetResponse> patch = executor.submit(() ->
+                    service.updatePet(petId, new PetUpdateRequest("Poodle", null, null), null));
+            assertTrue(patchHoldsPetRow.await(5, TimeUnit.SECONDS));
+            Future<ChildCreatedResponse> append = executor.submit(() ->
+                    service.appendReminder(petId, new ReminderRequest("Vermífugo", LocalDateTime.now().plusDays(1))));
+
+            VersionedPetResponse patched = patch.get(10, TimeUnit.SECONDS);
+            ChildCreatedResponse appended = append.get(10, TimeUnit.SECONDS);
+
+            // O append só chega ao resumo depois de travar pets, ou seja, depois do commit do PATCH
+            assertEquals("Poodle", breedSeenByAppend.get());
+            assertEquals(patched.version() + 1, appended.version());
+            assertEquals(appended.version(), repository.findVersion(petId).getAsLong());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Resumo que marca a ordem das escritas: o PATCH segura a linha do pet enquanto o
+    // append tenta entrar; o append anota o que já está commitado em pets
+    private PetSummaryPort summaries() {
+        return (PetSummaryPort) Proxy.newProxyInstance(PetSummaryPort.class.getClassLoader(),
+                new Class<?>[]{PetSummaryPort.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("update")) {
+                        patchHoldsPetRow.countDown();
+                        Thread.sleep(PATCH_HOLD_MILLIS);
+                    } else if (method.getName().equals("addPendingReminders")) {
+                        breedSeenByAppend.set(committedBreed());
+                    }
+                    return null;
+                });
+    }
+
+    // Fora da transação do append: lê em outra conexão, só o que já foi commitado
+    private String committedBreed() {
+        TransactionTemplate separate = new TransactionTemplate(transactionManager);
+        separate.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        return separate.execute(status ->
+                jdbcTemplate.queryForObject("select breed from pets where pet_id = ?", String.class, petId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T noOp(Class<T> port) {
+        return (T) Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[]{port}, (proxy, method, args) -> null);
+    }
+}
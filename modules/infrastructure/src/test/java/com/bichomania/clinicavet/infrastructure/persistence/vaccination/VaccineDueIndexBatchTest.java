@@ -0,0 +1,65 @@
+package com.bichomania.clinicavet.infrastructure.persistence.vaccination;
+
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineApplied;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VaccineDueIndexBatchTest {
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+    private final VaccineDueIndexAdapter adapter = new VaccineDueIndexAdapter(jdbcTemplate);
+
+    @Test
+    void keepsOnlyLatestApplicationPerPetAndVaccineInOneBatch() {
+        UUID rex = UUID.randomUUID();
+        UUID mia = UUID.randomUUID();
+        UUID rabies = UUID.randomUUID();
+        UUID v10 = UUID.randomUUID();
+        VaccineApplied rexRabiesLatest = applied(rex, rabies, LocalDate.of(2026, 3, 10));
+        VaccineApplied rexV10 = applied(rex, v10, LocalDate.of(2026, 3, 1));
+        VaccineApplied miaRabies = applied(mia, rabies, LocalDate.of(2026, 2, 1));
+
+        adapter.recordAll(List.of(
+                applied(rex, rabies, LocalDate.of(2026, 1, 5)),
+                rexRabiesLatest,
+                rexV10,
+                applied(rex, rabies, LocalDate.of(2026, 2, 20)),
+                miaRabies,
+                new VaccineApplied(mia, v10, LocalDate.of(2026, 3, 1), null)));
+
+        assertEquals(List.of(rexRabiesLatest, rexV10, miaRabies), jdbcTemplate.batch);
+    }
+
+    @Test
+    void skipsBatchWhenNothingHasBooster() {
+        adapter.recordAll(List.of(new VaccineApplied(UUID.randomUUID(), UUID.randomUUID(), LocalDate.of(2026, 3, 1), null)));
+
+        assertEquals(List.of(), jdbcTemplate.batch);
+    }
+
+    private static VaccineApplied applied(UUID petId, UUID vaccineId, LocalDate applicationDate) {
+        return new VaccineApplied(petId, vaccineId, applicationDate, applicationDate.plusYears(1));
+    }
+
+    // Guarda o lote em vez de executá-lo: o que importa aqui é o que chega ao driver
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final List<Object> batch = new ArrayList<>();
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> pss) {
+            batch.addAll(batchArgs);
+            return new int[0][];
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.bichomania.clinicavet.infrastructure.persistence.vaccination;
+
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineApplied;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Upsert e reconstrução por faixa contra o PostgreSQL de verdade: ON CONFLICT ... WHERE e
+ * date + integer não existem no H2 dos outros testes.
+ * Só roda com BICHOMANIA_TEST_POSTGRES_URL (e _USER/_PASSWORD) definidas; as migrações
+ * são aplicadas num schema descartável, apagado no fim.
+ */
+@EnabledIfEnvironmentVariable(named = "BICHOMANIA_TEST_POSTGRES_URL", matches = ".+")
+class VaccineDueIndexPostgresTest {
+
+    private static final String SCHEMA = "due_index_test_" + UUID.randomUUID().toString().replace("-", "");
+    private static final LocalDate MARCH_1 = LocalDate.of(2026, 3, 1);
+
+    private static JdbcTemplate jdbcTemplate;
+    private static VaccineDueIndexAdapter adapter;
+
+    private UUID rabies;
+    private UUID singleDose;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(dataSource(null))
+                .schemas(SCHEMA)
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource(SCHEMA + ",public"));
+        adapter = new VaccineDueIndexAdapter(jdbcTemplate);
+    }
+
+    @AfterAll
+    static void dropSchema() {
+        if (jdbcTemplate != null) {
+            jdbcTemplate.execute("drop schema " + SCHEMA + " cascade");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from vaccine_due_index");
+        jdbcTemplate.update("delete from vaccine_applications");
+        jdbcTemplate.update("delete from pets");
+        jdbcTemplate.update("delete from vaccines");
+        rabies = insertVaccine("Antirrábica", 365);
+        singleDose = insertVaccine("Dose única", null);
+    }
+
+    @Test
+    void retroactiveApplicationDoesNotMoveNextDueBack() {
+        UUID pet = insertPet(UUID.randomUUID());
+
+        adapter.recordAll(List.of(applied(pet, MARCH_1)));
+        adapter.recordAll(List.of(applied(pet, MARCH_1.minusYears(1))));
+
+        assertEquals(List.of(entry(pet, MARCH_1)), entries());
+
+        adapter.recordAll(List.of(applied(pet, MARCH_1.plusMonths(1))));
+
+        assertEquals(List.of(entry(pet, MARCH_1.plusMonths(1))), entries());
+    }
+
+    @Test
+    void repeatedPetAndVaccineInOneBatchKeepsLatestApplication() {
+        UUID pet = insertPet(UUID.randomUUID());
+
+        adapter.recordAll(List.of(
+                applied(pet, MARCH_1), applied(pet, MARCH_1.plusDays(9)), applied(pet, MARCH_1.minusDays(3))));
+
+        assertEquals(List.of(entry(pet, MARCH_1.plusDays(9))), entries());
+    }
+
+    @Test
+    void rebuildRangeRecomputesOnlyPetsInsideTheRange() {
+        UUID before = insertPet(new UUID(1L, 0L));
+        UUID inside = insertPet(new UUID(2L, 0L));
+        UUID last = insertPet(new UUID(3L, 0L));
+        UUID after = insertPet(new UUID(4L, 0L));
+        for (UUID pet : List.of(before, inside, last, after)) {
+            insertApplication(pet, rabies, MARCH_1);
+        }
+        insertApplication(inside, rabies, MARCH_1.plusMonths(2));
+        insertApplication(inside, singleDose, MARCH_1);
+        // Entrada desatualizada: a reconstrução parte de vaccine_applications, não do índice
+        adapter.recordAll(List.of(applied(inside, MARCH_1.plusYears(1))));
+
+        int written = adapter.rebuildRange(before, last);
+
+        assertEquals(2, written);
+        assertEquals(List.of(entry(inside, MARCH_1.plusMonths(2)), entry(last, MARCH_1)), entries());
+    }
+
+    private VaccineApplied applied(UUID pet, LocalDate applicationDate) {
+        return new VaccineApplied(pet, rabies, applicationDate, applicationDate.plusDays(365));
+    }
+
+    private Map<String, Object> entry(UUID pet, LocalDate applicationDate) {
+        return Map.of("pet_id", pet, "vaccine_id", rabies,
+                "last_application_date", applicationDate, "next_due_date", applicationDate.plusDays(365));
+    }
+
+    private List<Map<String, Object>> entries() {
+        return jdbcTemplate.query("""
+                        select pet_id, vaccine_id, last_application_date, next_due_date
+                          from vaccine_due_index order by pet_id, vaccine_id
+                        """,
+                (rs, rowNum) -> Map.of(
+                        "pet_id", rs.getObject("pet_id", UUID.class),
+                        "vaccine_id", rs.getObject("vaccine_id", UUID.class),
+                        "last_application_date", rs.getObject("last_application_date", LocalDate.class),
+                        "next_due_date", rs.getObject("next_due_date", LocalDate.class)));
+    }
+
+    private UUID insertVaccine(String name, Integer boosterIntervalDays) {
+        UUID id = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("""
+                        insert into vaccines (vaccine_id, name, booster_interval_days, created_at, updated_at)
+                        values (?, ?, ?, ?, ?)
+                        """, id, name, boosterIntervalDays, now, now);
+        return id;
+    }
+
+    private UUID insertPet(UUID id) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("""
+                        insert into pets (pet_id, guardian_id, name, birth_date, breed, sex, is_castrated,
+                                          created_at, updated_at, version)
+                        values (?, ?, 'Tobias', ?, 'SRD', 'MALE', true, ?, ?, 0)
+                        """,
+                id, UUID.randomUUID(), LocalDate.of(2020, 1, 1), now, now);
+        return id;
+    }
+
+    private void insertApplication(UUID pet, UUID vaccine, LocalDate applicationDate) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("""
+                        insert into vaccine_applications (application_id, pet_id, vaccine_id, application_date,
+                                                          created_at, updated_at)
+                        values (?, ?, ?, ?, ?, ?)
+                        """,
+                UUID.randomUUID(), pet, vaccine, applicationDate, now, now);
+    }
+
+    // reWriteBatchedInserts como em produção: o lote do recordAll vira um único INSERT
+    private static DriverManagerDataSource dataSource(String currentSchema) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getenv("BICHOMANIA_TEST_POSTGRES_URL"),
+                System.getenv("BICHOMANIA_TEST_POSTGRES_USER"),
+                System.getenv("BICHOMANIA_TEST_POSTGRES_PASSWORD"));
+        Properties properties = new Properties();
+        properties.setProperty("reWriteBatchedInserts", "true");
+        if (currentSchema != null) {
+            properties.setProperty("currentSchema", currentSchema);
+        }
+        dataSource.setConnectionProperties(properties);
+        return dataSource;
+    }
+}
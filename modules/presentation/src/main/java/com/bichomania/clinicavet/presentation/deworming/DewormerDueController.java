@@ -0,0 +1,60 @@
+package com.bichomania.clinicavet.presentation.deworming;
+
+import com.bichomania.clinicavet.application.deworming.services.DewormerScheduleService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+/**
+ * Controller REST da agenda de vermifugação.
+ * Exporta as próximas doses em NDJSON direto do índice, sem carregar os pets.
+ */
+@RestController
+@RequestMapping("/api/dewormings/due")
+public class DewormerDueController {
+
+    private static final byte NEWLINE = '\n';
+
+    private final DewormerScheduleService service;
+    private final ObjectWriter rowWriter;
+
+    public DewormerDueController(DewormerScheduleService service, ObjectMapper objectMapper) {
+        this.service = service;
+        // Sem AUTO_CLOSE_TARGET: cada linha é escrita no mesmo stream da resposta
+        this.rowWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * GET /api/dewormings/due?days= - Doses vencidas ou a vencer de todos os pets da clínica
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamDueForClinic(@RequestParam(required = false) Integer days) {
+        return out -> service.streamDueForClinic(days, row -> writeLine(out, row));
+    }
+
+    /**
+     * GET /api/dewormings/due/guardian/{guardianId}?days= - Doses vencidas ou a vencer dos pets de um tutor
+     */
+    @GetMapping(path = "/guardian/{guardianId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamDueForGuardian(@PathVariable UUID guardianId,
+                                                      @RequestParam(required = false) Integer days) {
+        return out -> service.streamDueForGuardian(guardianId, days, row -> writeLine(out, row));
+    }
+
+    private void writeLine(OutputStream out, Object row) {
+        try {
+            rowWriter.writeValue(out, row);
+            out.write(NEWLINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.bichomania.clinicavet.presentation.error;
+
+import com.bichomania.clinicavet.common.exception.BaseException;
+import com.bichomania.clinicavet.common.exception.dewormer.DewormerNotFoundException;
+import com.bichomania.clinicavet.common.exception.dewormer.InvalidDewormerException;
+import com.bichomania.clinicavet.common.exception.dewormerapplication.InvalidDewormerApplicationException;
+import com.bichomania.clinicavet.common.exception.pagination.InvalidCursorException;
+import com.bichomania.clinicavet.common.exception.pet.InvalidPetException;
+import com.bichomania.clinicavet.common.exception.pet.PetConcurrentUpdateException;
+import com.bichomania.clinicavet.common.exception.pet.PetNotFoundException;
+import com.bichomania.clinicavet.common.exception.pet.PetVersionMismatchException;
+import com.bichomania.clinicavet.common.exception.reminder.InvalidReminderException;
+import com.bichomania.clinicavet.common.exception.vaccine.InvalidVaccineException;
+import com.bichomania.clinicavet.common.exception.vaccine.VaccineNotFoundException;
+import com.bichomania.clinicavet.common.exception.vaccineapplication.InvalidVaccineApplicationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Converte as exceções de domínio e de aplicação em respostas HTTP
+ * (application/problem+json), em vez do 500 com a exceção crua.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    // Cursor de paginação adulterado ou de outra listagem
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursor(InvalidCursorException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    // Regras do domínio violadas pelos dados enviados
+    @ExceptionHandler({InvalidPetException.class, InvalidVaccineException.class, InvalidDewormerException.class,
+            InvalidVaccineApplicationException.class, InvalidDewormerApplicationException.class,
+            InvalidReminderException.class})
+    public ProblemDetail handleInvalidInput(BaseException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler({PetNotFoundException.class, VaccineNotFoundException.class, DewormerNotFoundException.class})
+    public ProblemDetail handleNotFound(BaseException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    // If-Match não confere com a versão atual: o cliente relê o pet e decide
+    @ExceptionHandler(PetVersionMismatchException.class)
+    public ProblemDetail handleVersionMismatch(PetVersionMismatchException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED, e.getMessage());
+    }
+
+    // Append que esgotou as novas tentativas no servidor: pode ser reenviado
+    @ExceptionHandler(PetConcurrentUpdateException.class)
+    public ResponseEntity<ProblemDetail> handleConcurrentUpdate(PetConcurrentUpdateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage()));
+    }
+}
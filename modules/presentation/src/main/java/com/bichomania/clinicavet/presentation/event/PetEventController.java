@@ -0,0 +1,33 @@
+package com.bichomania.clinicavet.presentation.event;
+
+import com.bichomania.clinicavet.application.event.dto.PetEventPage;
+import com.bichomania.clinicavet.application.event.services.PetEventService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller REST do stream de eventos do agregado Pet, para consumidores que puxam.
+ */
+@RestController
+@RequestMapping("/api/events")
+public class PetEventController {
+
+    private final PetEventService service;
+
+    public PetEventController(PetEventService service) {
+        this.service = service;
+    }
+
+    /**
+     * GET /api/events?after=&limit= - Eventos com posição maior que {@code after}, em ordem.
+     * O consumidor começa sem after (ou com 0) e repete com o next da página anterior,
+     * guardando-o só depois de processar a página.
+     */
+    @GetMapping
+    public PetEventPage findAfter(@RequestParam(required = false) Long after,
+                                  @RequestParam(required = false) Integer limit) {
+        return service.findAfter(after, limit);
+    }
+}
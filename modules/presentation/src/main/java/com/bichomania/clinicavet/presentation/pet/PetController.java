@@ -1,10 +1,46 @@
 package com.bichomania.clinicavet.presentation.pet;
 
+import com.bichomania.clinicavet.application.pet.dto.ChildCreatedResponse;
+import com.bichomania.clinicavet.application.pet.dto.DewormerApplicationRequest;
+import com.bichomania.clinicavet.application.pet.dto.GuardianPetList;
+import com.bichomania.clinicavet.application.pet.dto.HistorySlice;
+import com.bichomania.clinicavet.application.pet.dto.PetImportReport;
+import com.bichomania.clinicavet.application.pet.dto.PetPage;
+import com.bichomania.clinicavet.application.pet.dto.PetRequest;
+import com.bichomania.clinicavet.application.pet.dto.PetResponse;
+import com.bichomania.clinicavet.application.pet.dto.PetRowResponse;
+import com.bichomania.clinicavet.application.pet.dto.PetSummaryResponse;
+import com.bichomania.clinicavet.application.pet.dto.PetUpdateRequest;
+import com.bichomania.clinicavet.application.pet.dto.ReminderRequest;
+import com.bichomania.clinicavet.application.pet.dto.VaccinationBatchRequest;
+import com.bichomania.clinicavet.application.pet.dto.VaccinationBatchResult;
+import com.bichomania.clinicavet.application.pet.dto.VaccineApplicationRequest;
+import com.bichomania.clinicavet.application.pet.dto.VersionedPetResponse;
+import com.bichomania.clinicavet.application.pet.services.PetImportService;
 import com.bichomania.clinicavet.application.pet.services.PetService;
+import com.bichomania.clinicavet.application.pet.services.VaccinationBatchService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,10 +52,26 @@ import java.util.UUID;
 @RequestMapping("/api/pets")
 public class PetController {
 
+    private static final byte NEWLINE = '\n';
+    private static final String PREFER = "Prefer";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String HISTORY_CONTENT_TYPE = "text/plain;charset=UTF-8";
+    private static final String BYTES = "bytes";
+
     private final PetService service;
+    private final PetImportService importService;
+    private final VaccinationBatchService vaccinationBatchService;
+    private final ObjectWriter rowWriter;
+    private final ObjectReader petRequestReader;
 
-    public PetController(PetService service) {
+    public PetController(PetService service, PetImportService importService,
+                         VaccinationBatchService vaccinationBatchService, ObjectMapper objectMapper) {
         this.service = service;
+        this.importService = importService;
+        this.vaccinationBatchService = vaccinationBatchService;
+        this.petRequestReader = objectMapper.readerFor(PetRequest.class);
+        // Sem AUTO_CLOSE_TARGET: cada linha é escrita no mesmo stream da resposta
+        this.rowWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     /**
@@ -31,12 +83,33 @@ public class PetController {
         return service.createPet(request);
     }
 
+    /**
+     * POST /api/pets/import - Importação em massa (NDJSON ou CSV, lido em streaming)
+     * Devolve relatório com erros por linha; linhas inválidas não abortam o arquivo.
+     * Um cabeçalho CSV fora do formato documentado responde 400 sem importar nada.
+     */
+    @PostMapping(path = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public PetImportReport importPets(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                      InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            PetImportReader rows = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                    ? PetImportReader.ndjson(reader, petRequestReader)
+                    : PetImportReader.csv(reader);
+            return importService.importPets(rows);
+        }
+    }
+
     /**
      * PATCH /api/pets/{id} - Atualiza dados do pet
+     * If-Match opcional, com o ETag de um GET anterior: se o pet mudou desde então,
+     * responde 412 e nada é gravado. A resposta traz o ETag da nova versão.
      */
     @PatchMapping("/{id}")
-    public PetResponse update(@PathVariable UUID id, @Valid @RequestBody PetUpdateRequest request) {
-        return service.updatePet(id, request);
+    public ResponseEntity<PetResponse> update(@PathVariable UUID id,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              @Valid @RequestBody PetUpdateRequest request) {
+        VersionedPetResponse updated = service.updatePet(id, request, PetEtags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(PetEtags.of(updated.version())).body(updated.pet());
     }
 
     /**
@@ -49,53 +122,181 @@ public class PetController {
     }
 
     /**
-     * GET /api/pets - Lista todos os pets
+     * GET /api/pets?cursor=&limit= - Lista resumos de pets paginados por cursor (keyset)
      */
     @GetMapping
-    public List<PetResponse> findAll() {
-        return service.findAll();
+    public PetPage findPage(@RequestParam(required = false) String cursor,
+                            @RequestParam(required = false) Integer limit) {
+        return service.findPage(cursor, limit);
+    }
+
+    /**
+     * GET /api/pets (Accept: application/x-ndjson) - Exporta todos os pets, uma linha JSON por pet.
+     * Cada linha é escrita assim que sai do cursor JDBC; a memória não cresce com a tabela.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamAll() {
+        return out -> service.streamAll(row -> writeLine(out, row));
     }
 
     /**
      * GET /api/pets/{id} - Busca pet por ID
+     * ETag forte pela versão do pet; com If-None-Match igual, responde 304 só com a
+     * consulta da versão. O ETag da resposta completa sai da versão lida junto com o
+     * corpo (que pode vir de uma réplica): o corpo nunca é mais antigo que o ETag.
      */
     @GetMapping("/{id}")
-    public PetResponse findById(@PathVariable UUID id) {
-        return service.findById(id);
+    public ResponseEntity<PetResponse> findById(@PathVariable UUID id, WebRequest request) {
+        if (request.checkNotModified(PetEtags.of(service.findVersion(id)))) {
+            return null;
+        }
+        VersionedPetResponse pet = service.findVersionedById(id);
+        return ResponseEntity.ok().eTag(PetEtags.of(pet.version())).body(pet.pet());
+    }
+
+    /**
+     * GET /api/pets/{id}/history - Histórico clínico em texto, lido sob demanda
+     * Aceita um intervalo "Range: bytes=início-fim" (206); múltiplos intervalos são
+     * ignorados e o texto inteiro é devolvido. Tamanho e conteúdo são lidos no mesmo
+     * snapshot (PetService.writeHistory): os cabeçalhos são escritos a partir do tamanho
+     * lido e o conteúdo é copiado do banco direto para a resposta.
+     */
+    @GetMapping(path = "/{id}/history", produces = HISTORY_CONTENT_TYPE)
+    public void findHistory(@PathVariable UUID id,
+                            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                            HttpServletResponse response) {
+        List<HttpRange> ranges = parseRanges(range);
+        service.writeHistory(id, size -> {
+            if (ranges.size() != 1) {
+                response.setContentType(HISTORY_CONTENT_TYPE);
+                response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES);
+                response.setContentLengthLong(size);
+                return new HistorySlice(0, size, response.getOutputStream());
+            }
+
+            HttpRange requested = ranges.get(0);
+            long start;
+            long end;
+            try {
+                start = requested.getRangeStart(size);
+                end = requested.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES + " */" + size);
+                return null;
+            }
+            long length = end - start + 1;
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setContentType(HISTORY_CONTENT_TYPE);
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES + " " + start + "-" + end + "/" + size);
+            response.setContentLengthLong(length);
+            return new HistorySlice(start, length, response.getOutputStream());
+        });
     }
 
     /**
-     * GET /api/pets/guardian/{guardianId} - Lista pets por tutor
+     * GET /api/pets/guardian/{guardianId} - Lista resumos dos pets do tutor
+     * ETag composto pelas versões de todos os pets do tutor; 304 sem carregar os pets.
      */
     @GetMapping("/guardian/{guardianId}")
-    public List<PetResponse> findByGuardianId(@PathVariable UUID guardianId) {
-        return service.findByGuardianId(guardianId);
+    public ResponseEntity<List<PetSummaryResponse>> findByGuardianId(@PathVariable UUID guardianId, WebRequest request) {
+        if (request.checkNotModified(PetEtags.ofGuardian(service.guardianVersionTag(guardianId)))) {
+            return null;
+        }
+        // ETag da própria lista (lido junto com ela), que pode estar um pouco atrás do atual
+        GuardianPetList list = service.findByGuardianId(guardianId);
+        return ResponseEntity.ok().eTag(PetEtags.ofGuardian(list.versionTag())).body(list.pets());
+    }
+
+    /**
+     * GET /api/pets/by-microchip/{number} - Busca pet pelo microchip (com ou sem separadores;
+     * hexadecimal ISO 11784 aceito). 404 quando não há pet com o chip.
+     */
+    @GetMapping("/by-microchip/{number}")
+    public ResponseEntity<PetRowResponse> findByMicrochip(@PathVariable String number) {
+        return ResponseEntity.of(service.findByMicrochip(number));
     }
 
     /**
      * POST /api/pets/{id}/vaccines - Adiciona aplicação de vacina
+     * Com "Prefer: return=minimal" (ou ?view=minimal) devolve só o filho criado e o ETag do pet.
      */
     @PostMapping("/{id}/vaccines")
-    @ResponseStatus(HttpStatus.CREATED)
-    public PetResponse addVaccineApplication(@PathVariable UUID id, @Valid @RequestBody VaccineApplicationRequest request) {
-        return service.addVaccineApplication(id, request);
+    public ResponseEntity<?> addVaccineApplication(@PathVariable UUID id,
+                                                   @Valid @RequestBody VaccineApplicationRequest request,
+                                                   @RequestHeader(value = PREFER, required = false) String prefer,
+                                                   @RequestParam(required = false) String view) {
+        if (ResponseMode.of(prefer, view) == ResponseMode.MINIMAL) {
+            return minimalCreated(service.appendVaccineApplication(id, request));
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(service.addVaccineApplication(id, request));
+    }
+
+    /**
+     * POST /api/pets/vaccines/batch - Registra doses em lote (campanhas)
+     * Devolve apenas o resultado por item, sem o payload dos pets.
+     */
+    @PostMapping("/vaccines/batch")
+    public VaccinationBatchResult recordVaccinationBatch(@Valid @RequestBody VaccinationBatchRequest request) {
+        return vaccinationBatchService.record(request.items());
     }
 
     /**
      * POST /api/pets/{id}/dewormers - Adiciona aplicação de vermífugo
+     * Aceita o modo de resposta mínima, como /vaccines.
      */
     @PostMapping("/{id}/dewormers")
-    @ResponseStatus(HttpStatus.CREATED)
-    public PetResponse addDewormerApplication(@PathVariable UUID id, @Valid @RequestBody DewormerApplicationRequest request) {
-        return service.addDewormerApplication(id, request);
+    public ResponseEntity<?> addDewormerApplication(@PathVariable UUID id,
+                                                    @Valid @RequestBody DewormerApplicationRequest request,
+                                                    @RequestHeader(value = PREFER, required = false) String prefer,
+                                                    @RequestParam(required = false) String view) {
+        if (ResponseMode.of(prefer, view) == ResponseMode.MINIMAL) {
+            return minimalCreated(service.appendDewormerApplication(id, request));
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(service.addDewormerApplication(id, request));
     }
 
     /**
      * POST /api/pets/{id}/reminders - Adiciona lembrete
+     * Aceita o modo de resposta mínima, como /vaccines.
      */
     @PostMapping("/{id}/reminders")
-    @ResponseStatus(HttpStatus.CREATED)
-    public PetResponse addReminder(@PathVariable UUID id, @Valid @RequestBody ReminderRequest request) {
-        return service.addReminder(id, request);
+    public ResponseEntity<?> addReminder(@PathVariable UUID id,
+                                         @Valid @RequestBody ReminderRequest request,
+                                         @RequestHeader(value = PREFER, required = false) String prefer,
+                                         @RequestParam(required = false) String view) {
+        if (ResponseMode.of(prefer, view) == ResponseMode.MINIMAL) {
+            return minimalCreated(service.appendReminder(id, request));
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(service.addReminder(id, request));
+    }
+
+    private static ResponseEntity<ChildCreatedResponse> minimalCreated(ChildCreatedResponse created) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(PetEtags.of(created.version()))
+                .header(PREFERENCE_APPLIED, ResponseMode.PREFER_MINIMAL)
+                .body(created);
+    }
+
+    // Range inválido é tratado como ausente (RFC 9110: o servidor pode ignorá-lo)
+    private static List<HttpRange> parseRanges(String range) {
+        if (range == null) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    private void writeLine(OutputStream out, Object row) {
+        try {
+            rowWriter.writeValue(out, row);
+            out.write(NEWLINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
-}
\ No newline at end of file
+}
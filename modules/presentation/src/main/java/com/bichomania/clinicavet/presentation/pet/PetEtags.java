@@ -0,0 +1,49 @@
+package com.bichomania.clinicavet.presentation.pet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ETags do recurso Pet, derivados de PetEntity.version.
+ * Toda escrita no agregado (inclusive appends de filhos) incrementa a versão,
+ * então a versão identifica de forma forte o estado do pet.
+ */
+final class PetEtags {
+
+    private PetEtags() {} // evita instanciamento
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * ETag composto da listagem por tutor, a partir do versionTag (resumo das versões).
+     */
+    static String ofGuardian(String versionTag) {
+        return "\"g-" + versionTag + "\"";
+    }
+
+    /**
+     * Versões aceitas por um cabeçalho If-Match; null quando não há precondição
+     * (cabeçalho ausente ou "*"). If-Match exige comparação forte: ETags fracos (W/)
+     * ou de outro formato nunca casam, e uma lista só com eles vira lista vazia (412).
+     */
+    static List<Long> parseIfMatch(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        List<Long> versions = new ArrayList<>();
+        for (String tag : header.split(",")) {
+            String value = tag.trim();
+            if (value.length() < 3 || !value.startsWith("\"") || !value.endsWith("\"")) {
+                continue;
+            }
+            try {
+                versions.add(Long.parseLong(value.substring(1, value.length() - 1)));
+            } catch (NumberFormatException e) {
+                // ETag de outro recurso (ex.: o composto do tutor): não casa
+            }
+        }
+        return versions;
+    }
+}
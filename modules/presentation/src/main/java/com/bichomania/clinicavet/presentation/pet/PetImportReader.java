@@ -0,0 +1,236 @@
+package com.bichomania.clinicavet.presentation.pet;
+
+import com.bichomania.clinicavet.application.pet.dto.PetImportRow;
+import com.bichomania.clinicavet.application.pet.dto.PetRequest;
+import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.common.exception.pet.InvalidPetException;
+import com.bichomania.clinicavet.domain.pet.Sex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Lê o corpo da importação em massa linha a linha, sem carregar o arquivo inteiro.
+ * Formatos aceitos:
+ * - NDJSON: um PetRequest JSON por linha;
+ * - CSV: cabeçalho guardianId,name,birthDate,breed,sex,isCastrated,microchipNumber,history
+ *   (campos entre aspas podem conter vírgulas e quebras de linha, como na RFC 4180;
+ *   "" representa uma aspa). O número de linha de um registro é o da sua primeira linha.
+ * Linhas em branco são ignoradas. Erros de leitura viram PetImportRow com parseError.
+ * Um cabeçalho CSV diferente do documentado rejeita o arquivo inteiro (InvalidPetException):
+ * com colunas trocadas, cada linha seria importada com os valores nos campos errados.
+ */
+class PetImportReader implements Iterator<PetImportRow> {
+
+    private static final List<String> CSV_HEADER = List.of(
+            "guardianId", "name", "birthDate", "breed", "sex", "isCastrated", "microchipNumber", "history");
+    private static final int CSV_COLUMNS = CSV_HEADER.size();
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    // Limite de um registro CSV com quebras de linha: uma aspa sem fechamento não pode
+    // trazer o resto do arquivo para a memória
+    private static final int MAX_CSV_RECORD_CHARS = 1_000_000;
+
+    private final BufferedReader reader;
+    private final ObjectReader jsonReader;
+    private final boolean csv;
+
+    private int lineNumber;
+    private PetImportRow next;
+
+    private PetImportReader(BufferedReader reader, ObjectReader jsonReader, boolean csv) {
+        this.reader = reader;
+        this.jsonReader = jsonReader;
+        this.csv = csv;
+    }
+
+    static PetImportReader ndjson(BufferedReader reader, ObjectReader petRequestReader) {
+        return new PetImportReader(reader, petRequestReader, false);
+    }
+
+    static PetImportReader csv(BufferedReader reader) {
+        PetImportReader importReader = new PetImportReader(reader, null, true);
+        String header = importReader.readLine();
+        if (header != null) {
+            checkCsvHeader(header);
+        }
+        return importReader;
+    }
+
+    // Nomes comparados sem espaços nem caixa; o BOM que alguns editores gravam é ignorado
+    private static void checkCsvHeader(String header) {
+        String withoutBom = !header.isEmpty() && header.charAt(0) == BYTE_ORDER_MARK ? header.substring(1) : header;
+        List<String> columns = Stream.of(withoutBom.split(",", -1)).map(String::trim).toList();
+        boolean matches = columns.size() == CSV_COLUMNS;
+        for (int i = 0; matches && i < CSV_COLUMNS; i++) {
+            matches = CSV_HEADER.get(i).equalsIgnoreCase(columns.get(i));
+        }
+        if (!matches) {
+            throw new InvalidPetException(ExceptionMessages.PET_IMPORT_CSV_HEADER_INVALID);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            String line = readLine();
+            if (line == null) {
+                return false;
+            }
+            if (!line.isBlank()) {
+                next = csv ? readCsvRecord(line) : parseJson(line);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public PetImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        PetImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private PetImportRow parseJson(String line) {
+        try {
+            PetRequest request = jsonReader.readValue(line);
+            if (request == null) {
+                // A linha "null" é JSON válido, mas não é um pet
+                return PetImportRow.failed(lineNumber, "JSON inválido: esperado um objeto.");
+            }
+            return PetImportRow.parsed(lineNumber, request);
+        } catch (JsonProcessingException e) {
+            return PetImportRow.failed(lineNumber, "JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    // Junta as linhas seguintes enquanto houver campo entre aspas aberto (número ímpar de aspas;
+    // o "" escapado conta duas e não muda a paridade)
+    private PetImportRow readCsvRecord(String firstLine) {
+        int startLine = lineNumber;
+        boolean open = hasOddQuotes(firstLine);
+        if (!open) {
+            return parseCsv(startLine, firstLine);
+        }
+        StringBuilder record = new StringBuilder(firstLine);
+        boolean tooLong = false;
+        while (open) {
+            String line = readLine();
+            if (line == null) {
+                return PetImportRow.failed(startLine, "Campo entre aspas sem fechamento.");
+            }
+            open ^= hasOddQuotes(line);
+            // Acima do limite só consome até a aspa fechar, para a próxima linha começar um registro
+            tooLong = tooLong || record.length() + line.length() > MAX_CSV_RECORD_CHARS;
+            if (!tooLong) {
+                record.append('\n').append(line);
+            }
+        }
+        if (tooLong) {
+            return PetImportRow.failed(startLine,
+                    "Registro com mais de " + MAX_CSV_RECORD_CHARS + " caracteres.");
+        }
+        return parseCsv(startLine, record.toString());
+    }
+
+    private static boolean hasOddQuotes(String line) {
+        boolean odd = false;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                odd = !odd;
+            }
+        }
+        return odd;
+    }
+
+    private PetImportRow parseCsv(int line, String record) {
+        List<String> fields = splitCsv(record);
+        if (fields.size() != CSV_COLUMNS) {
+            return PetImportRow.failed(line,
+                    "Esperadas " + CSV_COLUMNS + " colunas, encontradas " + fields.size() + ".");
+        }
+        try {
+            return PetImportRow.parsed(line, new PetRequest(
+                    UUID.fromString(fields.get(0)),
+                    fields.get(1),
+                    LocalDate.parse(fields.get(2)),
+                    fields.get(3),
+                    Sex.valueOf(fields.get(4).toUpperCase(Locale.ROOT)),
+                    parseBoolean(fields.get(5)),
+                    emptyToNull(fields.get(6)),
+                    emptyToNull(fields.get(7))
+            ));
+        } catch (RuntimeException e) {
+            return PetImportRow.failed(line, "Valor inválido: " + e.getMessage());
+        }
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(CSV_COLUMNS);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    // Boolean.parseBoolean leria "ture", "sim" ou "1" como false e importaria o valor errado
+    private static boolean parseBoolean(String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException("isCastrated deve ser true ou false, recebido '" + value + "'");
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
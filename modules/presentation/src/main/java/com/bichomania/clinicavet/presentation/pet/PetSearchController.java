@@ -0,0 +1,33 @@
+package com.bichomania.clinicavet.presentation.pet;
+
+import com.bichomania.clinicavet.application.pet.dto.PetSearchPage;
+import com.bichomania.clinicavet.application.pet.services.PetSearchService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Controller REST da busca de pets (balcão).
+ */
+@RestController
+@RequestMapping("/api/pets/search")
+public class PetSearchController {
+
+    private final PetSearchService service;
+
+    public PetSearchController(PetSearchService service) {
+        this.service = service;
+    }
+
+    /**
+     * GET /api/pets/search?q=&guardianId=&cursor=&limit= - Busca por nome ou raça
+     * (inteiros, parciais ou aproximados), em ordem de relevância (paginação keyset)
+     */
+    @GetMapping
+    public PetSearchPage search(@RequestParam String q,
+                                @RequestParam(required = false) UUID guardianId,
+                                @RequestParam(required = false) String cursor,
+                                @RequestParam(required = false) Integer limit) {
+        return service.search(q, guardianId, cursor, limit);
+    }
+}
@@ -0,0 +1,26 @@
+package com.bichomania.clinicavet.presentation.pet;
+
+/**
+ * Modo de resposta dos endpoints de append.
+ * MINIMAL é escolhido com o header "Prefer: return=minimal" (RFC 7240) ou com "?view=minimal".
+ */
+enum ResponseMode {
+    FULL,
+    MINIMAL;
+
+    static final String PREFER_MINIMAL = "return=minimal";
+
+    static ResponseMode of(String prefer, String view) {
+        if ("minimal".equalsIgnoreCase(view)) {
+            return MINIMAL;
+        }
+        if (prefer != null) {
+            for (String preference : prefer.split(",")) {
+                if (PREFER_MINIMAL.equalsIgnoreCase(preference.trim())) {
+                    return MINIMAL;
+                }
+            }
+        }
+        return FULL;
+    }
+}
@@ -0,0 +1,55 @@
+package com.bichomania.clinicavet.presentation.vaccination;
+
+import com.bichomania.clinicavet.application.vaccination.dto.VaccineDuePage;
+import com.bichomania.clinicavet.application.vaccination.services.VaccinationDueService;
+import com.bichomania.clinicavet.application.vaccination.services.VaccineDueIndexRebuildJob;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller REST da worklist de vacinação.
+ * Servida pelo índice de próximos reforços, sem carregar o histórico dos pets.
+ */
+@RestController
+@RequestMapping("/api/vaccinations/due")
+public class VaccinationDueController {
+
+    private final VaccinationDueService service;
+    private final VaccineDueIndexRebuildJob rebuildJob;
+
+    public VaccinationDueController(VaccinationDueService service, VaccineDueIndexRebuildJob rebuildJob) {
+        this.service = service;
+        this.rebuildJob = rebuildJob;
+    }
+
+    /**
+     * GET /api/vaccinations/due?days=&cursor=&limit= - Reforços vencidos ou a vencer
+     * nos próximos {@code days} dias, em ordem de vencimento (paginação keyset)
+     */
+    @GetMapping
+    public VaccineDuePage findDue(@RequestParam(required = false) Integer days,
+                                  @RequestParam(required = false) String cursor,
+                                  @RequestParam(required = false) Integer limit) {
+        return service.findDue(days, cursor, limit);
+    }
+
+    /**
+     * POST /api/vaccinations/due/rebuild - Reconstrói o índice em segundo plano (backfill)
+     * 202 quando iniciada; 409 se já houver uma reconstrução em andamento.
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        if (!rebuildJob.tryStart()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        try {
+            rebuildJob.rebuild();
+        } catch (RuntimeException e) {
+            // Tarefa recusada pelo executor: sem isso, a vez ficaria presa e todo rebuild daria 409
+            rebuildJob.release();
+            throw e;
+        }
+        return ResponseEntity.accepted().build();
+    }
+}
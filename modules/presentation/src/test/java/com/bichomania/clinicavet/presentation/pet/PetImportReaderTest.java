@@ -0,0 +1,117 @@
+package com.bichomania.clinicavet.presentation.pet;
+
+import com.bichomania.clinicavet.application.pet.dto.PetImportRow;
+import com.bichomania.clinicavet.application.pet.dto.PetRequest;
+import com.bichomania.clinicavet.common.exception.ExceptionMessages;
+import com.bichomania.clinicavet.common.exception.pet.InvalidPetException;
+import com.bichomania.clinicavet.domain.pet.Sex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PetImportReaderTest {
+
+    private static final String HEADER = "guardianId,name,birthDate,breed,sex,isCastrated,microchipNumber,history";
+    private static final String GUARDIAN = "3f2b8c1e-5a4d-4e7f-9b6a-1c2d3e4f5a6b";
+
+    private final ObjectReader petRequestReader = new ObjectMapper().findAndRegisterModules()
+            .readerFor(PetRequest.class);
+
+    @Test
+    void quotedCsvFieldSpanningLinesKeepsCommasAndLineBreaksAndFirstLineNumber() {
+        List<PetImportRow> rows = readCsv(HEADER,
+                GUARDIAN + ",Tobias,2020-01-01,SRD,male,true,,\"Alergia a frango,",
+                "evitar ração \"\"premium\"\"\"",
+                GUARDIAN + ",Mel,2021-05-10,Poodle,FEMALE,false,,");
+
+        assertEquals(2, rows.size());
+        PetImportRow first = rows.get(0);
+        assertEquals(2, first.line());
+        assertNull(first.parseError());
+        assertEquals(Sex.MALE, first.request().sex());
+        assertEquals("Alergia a frango,\nevitar ração \"premium\"", first.request().history());
+        assertEquals(4, rows.get(1).line());
+        assertEquals("Mel", rows.get(1).request().name());
+    }
+
+    @Test
+    void unclosedQuoteFailsRecordAtItsFirstLine() {
+        List<PetImportRow> rows = readCsv(HEADER,
+                GUARDIAN + ",Tobias,2020-01-01,SRD,MALE,true,,\"sem fechamento",
+                "continua");
+
+        assertEquals(1, rows.size());
+        assertEquals(2, rows.get(0).line());
+        assertEquals("Campo entre aspas sem fechamento.", rows.get(0).parseError());
+    }
+
+    @Test
+    void csvBooleanOtherThanTrueOrFalseFailsTheRow() {
+        List<PetImportRow> rows = readCsv(HEADER,
+                GUARDIAN + ",Tobias,2020-01-01,SRD,MALE,ture,,",
+                GUARDIAN + ",Mel,2021-05-10,Poodle,FEMALE,FALSE,,");
+
+        assertEquals(2, rows.size());
+        assertNull(rows.get(0).request());
+        assertTrue(rows.get(0).parseError().contains("isCastrated"));
+        assertFalse(rows.get(1).request().isCastrated());
+    }
+
+    @Test
+    void csvHeaderWithReorderedColumnsIsRejected() {
+        InvalidPetException e = assertThrows(InvalidPetException.class, () -> PetImportReader.csv(reader(
+                "guardianId,breed,birthDate,name,sex,isCastrated,microchipNumber,history",
+                GUARDIAN + ",SRD,2020-01-01,Tobias,MALE,true,,")));
+
+        assertEquals(ExceptionMessages.PET_IMPORT_CSV_HEADER_INVALID, e.getMessage());
+    }
+
+    @Test
+    void csvHeaderWithBomAndSpacesIsAccepted() {
+        List<PetImportRow> rows = readCsv("\uFEFF" + HEADER.replace(",", ", "),
+                GUARDIAN + ",Tobias,2020-01-01,SRD,MALE,true,,");
+
+        assertEquals(1, rows.size());
+        assertEquals("Tobias", rows.get(0).request().name());
+    }
+
+    @Test
+    void ndjsonNullLineFailsTheRow() {
+        List<PetImportRow> rows = collect(PetImportReader.ndjson(reader(
+                "null",
+                "",
+                "{\"guardianId\":\"" + GUARDIAN + "\",\"name\":\"Tobias\",\"birthDate\":\"2020-01-01\","
+                        + "\"breed\":\"SRD\",\"sex\":\"MALE\",\"isCastrated\":true}"), petRequestReader));
+
+        assertEquals(2, rows.size());
+        assertEquals(1, rows.get(0).line());
+        assertEquals("JSON inválido: esperado um objeto.", rows.get(0).parseError());
+        assertEquals(3, rows.get(1).line());
+        assertEquals("Tobias", rows.get(1).request().name());
+    }
+
+    private static List<PetImportRow> readCsv(String... lines) {
+        return collect(PetImportReader.csv(reader(lines)));
+    }
+
+    private static BufferedReader reader(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+
+    private static List<PetImportRow> collect(PetImportReader importReader) {
+        List<PetImportRow> rows = new ArrayList<>();
+        importReader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
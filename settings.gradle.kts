@@ -2,6 +2,7 @@ rootProject.name = "bichomania-api"
 
 include(
     "modules:app",
+    "modules:benchmarks",
     "modules:application",
     "modules:domain",
     "modules:common",